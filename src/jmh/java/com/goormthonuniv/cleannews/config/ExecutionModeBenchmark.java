@@ -0,0 +1,76 @@
+package com.goormthonuniv.cleannews.config;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * 플랫폼 스레드 풀 vs 가상 스레드 부하 비교.
+ * 검증 1건 = 어댑터 3개 병렬 호출(각 40~80ms 블로킹) + LLM 호출(200ms 블로킹)을 흉내 내고,
+ * concurrent 건을 동시에 밀어 넣었을 때 전부 끝나는 시간(SingleShotTime)을 잰다.
+ * platform 은 Tomcat 기본(200) + 어댑터 풀(16) 구성과 같은 크기로 제한.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class ExecutionModeBenchmark {
+
+    @Param({"200", "1000", "5000"})
+    public int concurrent;
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    private ExecutorService requests;
+    private ExecutorService adapters;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        if ("virtual".equals(mode)) {
+            requests = Executors.newVirtualThreadPerTaskExecutor();
+            adapters = Executors.newVirtualThreadPerTaskExecutor();
+        } else {
+            requests = Executors.newFixedThreadPool(200, AsyncConfig.named("bench-req-"));
+            adapters = Executors.newFixedThreadPool(16, AsyncConfig.named("bench-search-"));
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        requests.shutdownNow();
+        adapters.shutdownNow();
+    }
+
+    @Benchmark
+    public int verifications() throws Exception {
+        List<Future<Integer>> all = new ArrayList<>(concurrent);
+        for (int i = 0; i < concurrent; i++) {
+            all.add(requests.submit(this::verifyOnce));
+        }
+        int done = 0;
+        for (Future<Integer> f : all) done += f.get();
+        return done;
+    }
+
+    private int verifyOnce() throws Exception {
+        List<Future<?>> fanout = new ArrayList<>(3);
+        for (int a = 0; a < 3; a++) {
+            fanout.add(adapters.submit(() -> sleep(40 + ThreadLocalRandom.current().nextInt(40))));
+        }
+        for (Future<?> f : fanout) f.get();
+        sleep(200); // LLM judge
+        return 1;
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.goormthonuniv.cleannews.search;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bing 뉴스 응답 디코딩: 기존 Map 역직렬화+캐스팅 vs 토큰 스트리밍.
+ * 할당량 비교는 gc 프로파일러의 gc.alloc.rate.norm (B/op) 참고.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchResultDecoderBenchmark {
+
+    private static final TypeReference<Map<String, Object>> MAP = new TypeReference<>() {};
+    private static final SearchResultDecoder.Fields FIELDS =
+            new SearchResultDecoder.Fields("name", "url", "description", "datePublished");
+
+    @Param({"10", "50"})
+    public int items;
+
+    @Param({"8"})
+    public int limit;
+
+    private final ObjectMapper om = new ObjectMapper();
+    private byte[] body;
+
+    @Setup
+    public void setup() {
+        StringBuilder sb = new StringBuilder("{\"_type\":\"News\",\"readLink\":\"https://api.bing.microsoft.com/api/v7/news/search?q=x\",")
+                .append("\"queryContext\":{\"originalQuery\":\"잠실 콘서트 예매\",\"adultIntent\":false},")
+                .append("\"totalEstimatedMatches\":1234,\"value\":[");
+        for (int i = 0; i < items; i++) {
+            if (i > 0) sb.append(',');
+            sb.append("{\"name\":\"잠실실내체육관 콘서트 티켓 오픈 안내 ").append(i).append("\",")
+                    .append("\"url\":\"https://news.example.co.kr/article/").append(100000 + i).append("\",")
+                    .append("\"image\":{\"thumbnail\":{\"contentUrl\":\"https://img.example/").append(i)
+                    .append(".jpg\",\"width\":700,\"height\":466}},")
+                    .append("\"description\":\"10월 18일 잠실실내체육관에서 열리는 공연의 예매가 인터파크에서 시작된다. 좌석 가격은 ...\",")
+                    .append("\"about\":[{\"readLink\":\"https://api.bing.microsoft.com/api/v7/entities/abc\",\"name\":\"Concert\"}],")
+                    .append("\"provider\":[{\"_type\":\"Organization\",\"name\":\"Example News\"}],")
+                    .append("\"datePublished\":\"2025-09-0").append(1 + i % 9).append("T12:34:56.0000000Z\",")
+                    .append("\"category\":\"Entertainment\"}");
+        }
+        sb.append("],\"sort\":[{\"name\":\"Best match\",\"id\":\"relevance\",\"isSelected\":true}]}");
+        body = sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** 기존 방식: Map<String,Object> 전체 역직렬화 후 캐스팅/복사 */
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<SearchResult> mapBased() throws IOException {
+        Map<String, Object> res = om.readValue(body, MAP);
+        List<Map<String, Object>> value =
+                (List<Map<String, Object>>) res.getOrDefault("value", Collections.<Map<String, Object>>emptyList());
+        List<SearchResult> out = new ArrayList<>();
+        for (Map<String, Object> v : value) {
+            OffsetDateTime odt = null;
+            if (v.get("datePublished") instanceof String s && !s.isBlank()) {
+                try { odt = OffsetDateTime.parse(s); } catch (Exception ignore) {}
+            }
+            out.add(new SearchResult("bing", (String) v.getOrDefault("name", ""), (String) v.getOrDefault("url", ""),
+                    (String) v.getOrDefault("description", ""), odt));
+        }
+        return out;
+    }
+
+    /** 신규 방식: 토큰 스트리밍 → SearchResult 직행, limit 이후 항목은 생성하지 않음 */
+    @Benchmark
+    public List<SearchResult> streaming() throws IOException {
+        return SearchResultDecoder.decode(new ByteArrayInputStream(body), "bing", "value", FIELDS, limit, UnaryOperator.identity());
+    }
+}
@@ -0,0 +1,62 @@
+package com.goormthonuniv.cleannews.service;
+
+import com.goormthonuniv.cleannews.util.SocialPostCorpus;
+import com.goormthonuniv.cleannews.util.TextUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 키워드 추출 경로 (검증 1건당 1회씩 호출되는 CPU 구간).
+ * - boostedKeywords: 엔티티 + 정규화 + topKeywords 전체
+ * - extractEntities / topKeywords: 단계별 분리 측정 (topKeywords 는 이미 정규화된 본문 입력)
+ * 처리량은 ops/ms, 할당률은 gc 프로파일러의 gc.alloc.rate.norm (B/op) 참고.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class KeywordServiceBenchmark {
+
+    private static final int POOL = 64; // 2의 거듭제곱 (cursor 마스킹)
+
+    @Param({"short", "medium", "long"})
+    public String size;
+
+    private final KeywordService keywords = new KeywordService(KeywordDictionaries.defaults());
+    private String[] titles;
+    private String[] posts;
+    private String[] normalized;
+    private String[] sources;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        titles = SocialPostCorpus.titles(POOL, 7L).toArray(String[]::new);
+        posts = SocialPostCorpus.posts(POOL, SocialPostCorpus.targetLength(size), 42L).toArray(String[]::new);
+        sources = SocialPostCorpus.sources(POOL, 11L).toArray(String[]::new);
+        normalized = new String[POOL];
+        for (int i = 0; i < POOL; i++) normalized[i] = TextUtils.normalize(titles[i] + " " + posts[i]);
+    }
+
+    private int next() {
+        return cursor++ & (POOL - 1);
+    }
+
+    @Benchmark
+    public List<String> boostedKeywords() {
+        int i = next();
+        return keywords.boostedKeywords(titles[i], posts[i], sources[i], 8);
+    }
+
+    @Benchmark
+    public List<String> extractEntities() {
+        int i = next();
+        return keywords.extractEntities(titles[i] + " " + posts[i], sources[i]);
+    }
+
+    @Benchmark
+    public List<String> topKeywords() {
+        return keywords.topKeywords(normalized[next()], 12);
+    }
+}
@@ -0,0 +1,76 @@
+package com.goormthonuniv.cleannews.service;
+
+import com.goormthonuniv.cleannews.util.AnalyzedDocument;
+import com.goormthonuniv.cleannews.util.SocialPostCorpus;
+import com.goormthonuniv.cleannews.util.TextAnalyzer;
+import com.goormthonuniv.cleannews.util.TextUtils;
+import com.goormthonuniv.cleannews.util.TokenDictionary;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SimilarityService.cosine: 정규화된 주장(게시물) vs 근거(검색 결과 제목+스니펫).
+ * - cosine: 문자열 1쌍 (공백 분리 토큰화 포함). 검증 1건당 근거 수(최대 8~24)만큼 반복되므로 실제 비용은 ops 당 값 × 근거 수
+ * - vector: 분석된 문서 1쌍의 희소 벡터 병합 조인만 (할당 0 이 기대치, gc.alloc.rate.norm 확인)
+ * - batch: 주장 1건 vs 근거 8건 (파이프라인 score 단계의 유사도 부분)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SimilarityServiceBenchmark {
+
+    private static final int POOL = 64;
+
+    @Param({"short", "medium", "long"})
+    public String size;
+
+    private final SimilarityService similarity = new SimilarityService();
+    private String[] claims;
+    private String[] evidences;
+    private AnalyzedDocument[] claimDocs;
+    private AnalyzedDocument[] evidenceDocs;
+    private List<List<AnalyzedDocument>> batches;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        claims = SocialPostCorpus.posts(POOL, SocialPostCorpus.targetLength(size), 42L).stream()
+                .map(TextUtils::normalize).toArray(String[]::new);
+        // 근거 스니펫은 검색 API 응답 길이(제목 + ~200자)로 고정
+        evidences = SocialPostCorpus.posts(POOL, 240, 99L).stream()
+                .map(TextUtils::normalize).toArray(String[]::new);
+        // 실제 요청처럼 주장 먼저 분석 → 같은 사전에 근거 추가 (벤치마크 전체가 사전 하나를 공유)
+        TokenDictionary dict = new TokenDictionary();
+        claimDocs = new AnalyzedDocument[POOL];
+        evidenceDocs = new AnalyzedDocument[POOL];
+        for (int i = 0; i < POOL; i++) claimDocs[i] = TextAnalyzer.terms(claims[i], dict);
+        for (int i = 0; i < POOL; i++) evidenceDocs[i] = TextAnalyzer.terms(evidences[i], dict);
+        batches = new ArrayList<>(POOL);
+        for (int i = 0; i < POOL; i++) {
+            List<AnalyzedDocument> batch = new ArrayList<>(8);
+            for (int k = 0; k < 8; k++) batch.add(evidenceDocs[(i * 7 + k) & (POOL - 1)]);
+            batches.add(batch);
+        }
+    }
+
+    @Benchmark
+    public double cosine() {
+        int i = cursor++;
+        return similarity.cosine(claims[i & (POOL - 1)], evidences[(i * 7) & (POOL - 1)]);
+    }
+
+    @Benchmark
+    public double vector() {
+        int i = cursor++;
+        return similarity.cosine(claimDocs[i & (POOL - 1)], evidenceDocs[(i * 7) & (POOL - 1)]);
+    }
+
+    @Benchmark
+    public double[] batch() {
+        int i = cursor++ & (POOL - 1);
+        return similarity.cosine(claimDocs[i], batches.get(i));
+    }
+}
@@ -0,0 +1,61 @@
+package com.goormthonuniv.cleannews.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사전 매칭 스케일링: 사전 단어 수를 늘려가며 게시물 1건에서 나오는 단어 찾기
+ * - containsLoop: 단어마다 text.contains (기존 TRIGGERS / VENUE_HINTS 방식, O(사전 × 텍스트))
+ * - automaton: AhoCorasick.matchIds (텍스트 1회 순회, 사전 크기와 무관)
+ * words 가 10배 늘 때 containsLoop 는 ~10배, automaton 은 거의 일정해야 함.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AhoCorasickBenchmark {
+
+    private static final int POOL = 64;
+    private static final String SYLLABLES = "가나다라마바사아자차카타파하이벤트공지모집무료당첨체험단";
+
+    @Param({"8", "100", "1000", "5000"})
+    public int words;
+
+    @Param({"medium", "long"})
+    public String size;
+
+    private List<String> dictionary;
+    private AhoCorasick automaton;
+    private String[] posts;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        Random rnd = new Random(42);
+        dictionary = new ArrayList<>(words);
+        for (int i = 0; i < words; i++) {
+            int len = 2 + rnd.nextInt(4);
+            StringBuilder sb = new StringBuilder(len);
+            for (int j = 0; j < len; j++) sb.append(SYLLABLES.charAt(rnd.nextInt(SYLLABLES.length())));
+            dictionary.add(sb.toString());
+        }
+        automaton = AhoCorasick.compile(dictionary);
+        posts = SocialPostCorpus.posts(POOL, SocialPostCorpus.targetLength(size), 42L).toArray(String[]::new);
+    }
+
+    @Benchmark
+    public int containsLoop() {
+        String text = posts[cursor++ & (POOL - 1)];
+        int found = 0;
+        for (String w : dictionary) if (text.contains(w)) found++;
+        return found;
+    }
+
+    @Benchmark
+    public int automaton() {
+        return automaton.matchIds(posts[cursor++ & (POOL - 1)]).length;
+    }
+}
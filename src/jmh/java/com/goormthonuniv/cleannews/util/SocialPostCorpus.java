@@ -0,0 +1,94 @@
+package com.goormthonuniv.cleannews.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 한/영 혼합 SNS 게시물 코퍼스 (고정 seed → 실행마다 같은 입력).
+ * 실제 피드처럼 @핸들, #해시태그, 따옴표/괄호 구절, 날짜, 공연장, URL, 이모지, 트리거 단어가 섞여 있다.
+ * 같은 문자열만 반복하면 분기 예측/캐시가 비현실적으로 유리해지므로 여러 건을 돌려 쓴다.
+ */
+public final class SocialPostCorpus {
+
+    /** 게시물 길이(문자 수): 짧은 트윗 / 일반 인스타 캡션 / 긴 공지(TextUtils 1.2k 트렁케이트 구간 포함) */
+    public static int targetLength(String size) {
+        return switch (size) {
+            case "short" -> 140;
+            case "medium" -> 600;
+            case "long" -> 2400;
+            default -> throw new IllegalArgumentException("unknown size: " + size);
+        };
+    }
+
+    private static final String[] SENTENCES = {
+            "🎉 @airpremia_official 신규 취항 기념 이벤트! 댓글 남기면 추첨을 통해 왕복 항공권 무료 증정 ✈️",
+            "[공지] 10월 18일 잠실실내체육관 콘서트 티켓오픈은 인터파크에서 진행됩니다.",
+            "2025.11.02 KSPO DOME 'WORLD TOUR IN SEOUL' 추가 회차 확정 #콘서트 #티켓팅",
+            "체험단 모집 📢 (선착순 30명) 신청은 프로필 링크 → https://linktr.ee/brand_kr",
+            "Official notice: tickets for the \"Seoul Night Show\" go on sale 11/05 at 8PM KST via NOL.",
+            "당첨자 발표는 12월 1일 공식 인스타그램 DM으로 개별 연락드립니다. 사칭 계정 주의!!",
+            "고척 스카이돔 공연 좌석 배치도 공개 🏟️ VIP석 가격은 165,000원입니다 #고척돔",
+            "Giveaway time 🎁 follow @cleannews_demo and tag 3 friends to win a free pair of tickets!",
+            "이번 프로모션은 공식 홈페이지(https://www.airpremia.com/event)에서만 진행됩니다.",
+            "‘한정판 굿즈’ 현장 판매 안내: 올림픽공원 핸드볼경기장 앞 부스, 오전 10시부터",
+            "멜론티켓 · 예스24 동시 예매, 1인 4매 제한. 취소 수수료는 공연일 기준으로 부과됩니다.",
+            "Lineup announcement 🔥 #SeoulFest2025 with special guests — schedule below 👇",
+            "사직실내체육관 팬미팅 일정 변경 공지 (기존 9/28 → 10/12) 양해 부탁드립니다 🙏",
+            "무료 나눔 이벤트 진행 중~ 리그램하고 #나눔 해시태그 달아주세요 @event.korea",
+            "DM으로 계좌번호 보내드리면 입금 확인 후 티켓 양도합니다 급처 ㅠㅠ 010-1234-5678",
+            "RT if you're going! Venue: Olympic Hall, doors open 6:30PM. More info at https://x.com/tour_info/status/1234567890",
+            "오늘 뉴스에 나온 \"무료 항공권\" 이벤트는 공식 채널에서 진행한 적이 없다고 합니다.",
+            "수원실내체육관 2차 오픈 안내. 모바일 티켓만 가능하며 현장 발권은 없습니다.",
+    };
+
+    private static final String[] SOURCES = {
+            "https://www.instagram.com/p/C9xYz12AbCd/",
+            "https://x.com/airpremia/status/1834567890123",
+            "https://tickets.interpark.com/goods/24012345",
+            "https://blog.naver.com/someone/223456789012",
+            "https://news.naver.com/main/read.naver?oid=001&aid=0014567890",
+            "https://m.facebook.com/events/123456789",
+            "https://www.youtube.com/watch?v=dQw4w9WgXcQ",
+            "https://someone.tistory.com/123",
+            "https://unknown-promo-site.xyz/event?id=42",
+            null,
+    };
+
+    private SocialPostCorpus() {}
+
+    /** targetLength 근처 길이의 게시물 n건 */
+    public static List<String> posts(int n, int targetLength, long seed) {
+        Random rnd = new Random(seed);
+        List<String> out = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            StringBuilder sb = new StringBuilder(targetLength + 128);
+            while (sb.length() < targetLength) {
+                if (!sb.isEmpty()) sb.append(rnd.nextInt(4) == 0 ? "\n" : " ");
+                sb.append(SENTENCES[rnd.nextInt(SENTENCES.length)]);
+            }
+            out.add(sb.toString());
+        }
+        return out;
+    }
+
+    /** 게시물 제목(짧은 한 줄) n건 */
+    public static List<String> titles(int n, long seed) {
+        Random rnd = new Random(seed);
+        List<String> out = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            String s = SENTENCES[rnd.nextInt(SENTENCES.length)];
+            int cps = s.codePointCount(0, s.length());
+            out.add(cps > 40 ? s.substring(0, s.offsetByCodePoints(0, 40)) : s); // 이모지 중간에서 자르지 않음
+        }
+        return out;
+    }
+
+    /** 원문 출처 URL n건 (null 포함) */
+    public static List<String> sources(int n, long seed) {
+        Random rnd = new Random(seed);
+        List<String> out = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) out.add(SOURCES[rnd.nextInt(SOURCES.length)]);
+        return out;
+    }
+}
@@ -0,0 +1,39 @@
+package com.goormthonuniv.cleannews.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TextAnalyzer.analyze: 요청 1건의 정규화 + 엔티티 + 토큰 id/빈도 (이후 키워드/유사도/near-duplicate 가 공유).
+ * 예전에는 같은 텍스트를 normalize / extractEntities / topKeywords / signature 가 각각 다시 훑었으므로
+ * 비교 기준은 TextUtilsBenchmark + KeywordServiceBenchmark 각 단계의 합.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TextAnalyzerBenchmark {
+
+    private static final int POOL = 64;
+
+    @Param({"short", "medium", "long"})
+    public String size;
+
+    private String[] titles;
+    private String[] posts;
+    private String[] sources;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        titles = SocialPostCorpus.titles(POOL, 7L).toArray(String[]::new);
+        posts = SocialPostCorpus.posts(POOL, SocialPostCorpus.targetLength(size), 42L).toArray(String[]::new);
+        sources = SocialPostCorpus.sources(POOL, 11L).toArray(String[]::new);
+    }
+
+    @Benchmark
+    public AnalyzedDocument analyze() {
+        int i = cursor++ & (POOL - 1);
+        return TextAnalyzer.analyze(titles[i], posts[i], sources[i]);
+    }
+}
@@ -0,0 +1,33 @@
+package com.goormthonuniv.cleannews.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TextUtils.normalize: URL/이모지 제거 + 공백 정리 + 소문자화 + 1.2k 트렁케이트.
+ * long 사이즈는 트렁케이트 이전에 전체 문자열을 훑는 비용까지 포함.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TextUtilsBenchmark {
+
+    private static final int POOL = 64;
+
+    @Param({"short", "medium", "long"})
+    public String size;
+
+    private String[] posts;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        posts = SocialPostCorpus.posts(POOL, SocialPostCorpus.targetLength(size), 42L).toArray(String[]::new);
+    }
+
+    @Benchmark
+    public String normalize() {
+        return TextUtils.normalize(posts[cursor++ & (POOL - 1)]);
+    }
+}
@@ -0,0 +1,42 @@
+package com.goormthonuniv.cleannews.verify;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DomainTrustPolicy.getTrustPrior: 근거 URL 마다 호출.
+ * 입력은 exact 매칭 / suffix 매칭 / 미등록 도메인 / 호스트만 / host/path 형태를 섞어 사용.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DomainTrustPolicyBenchmark {
+
+    private static final String[] URLS = {
+            "https://news.naver.com/main/read.naver?oid=001&aid=0014567890",
+            "https://tickets.interpark.com/goods/24012345",
+            "https://www.airpremia.com/kr/ko/event/detail?id=123",
+            "https://n.news.naver.com/article/001/0014567890",
+            "https://www.chosun.com/national/2025/10/01/ABCDEFG/",
+            "https://blog.naver.com/someone/223456789012",
+            "https://someone.tistory.com/123",
+            "https://www.instagram.com/p/C9xYz12AbCd/",
+            "https://m.facebook.com/events/123456789",
+            "https://unknown-promo-site.xyz/event?id=42",
+            "https://www.reuters.com/world/asia-pacific/some-article-2025-10-01/",
+            "yonhapnews.co.kr",
+            "media.daum.net/society/123",
+            "https://amp.example.org/very/long/path/with/many/segments?utm_source=x&utm_medium=y",
+            "not a url at all",
+            "https://sub.domain.notion.site/Page-1234567890abcdef",
+    };
+
+    private final DomainTrustPolicy policy = new DomainTrustPolicy();
+    private int cursor;
+
+    @Benchmark
+    public double getTrustPrior() {
+        return policy.getTrustPrior(URLS[cursor++ & (URLS.length - 1)]);
+    }
+}
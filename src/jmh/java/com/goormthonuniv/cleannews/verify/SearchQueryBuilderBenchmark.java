@@ -0,0 +1,53 @@
+package com.goormthonuniv.cleannews.verify;
+
+import com.goormthonuniv.cleannews.util.SocialPostCorpus;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SearchQueryBuilder.buildQueries: 템플릿 쿼리 생성(최대 24개) + 후처리.
+ * 팩트는 parseFacts 결과에 절반은 이벤트명/핸들/해시태그를 채워 템플릿 분기를 모두 타게 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SearchQueryBuilderBenchmark {
+
+    private static final int POOL = 64;
+    private static final String[] EVENTS = {"Seoul Night Show", "WORLD TOUR IN SEOUL", "신규 취항 기념 이벤트", "SeoulFest2025"};
+
+    @Param({"short", "medium", "long"})
+    public String size;
+
+    private String[] titles;
+    private String[] bodies;
+    private ExtractedFacts[] facts;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        titles = SocialPostCorpus.titles(POOL, 7L).stream()
+                .map(TextKoreanUtils::normalize).toArray(String[]::new);
+        bodies = SocialPostCorpus.posts(POOL, SocialPostCorpus.targetLength(size), 42L).stream()
+                .map(TextKoreanUtils::normalize).toArray(String[]::new);
+        facts = new ExtractedFacts[POOL];
+        for (int i = 0; i < POOL; i++) {
+            ExtractedFacts f = TextKoreanUtils.parseFacts(bodies[i]);
+            if ((i & 1) == 0) {
+                f.setEventName(EVENTS[(i >> 1) % EVENTS.length]);
+                f.setOrgHandles(List.of("@airpremia_official", "@event.korea"));
+                f.setHashtags(List.of("#콘서트", "#티켓팅"));
+                f.setLocationCity("서울");
+            }
+            facts[i] = f;
+        }
+    }
+
+    @Benchmark
+    public List<String> buildQueries() {
+        int i = cursor++ & (POOL - 1);
+        return SearchQueryBuilder.buildQueries(titles[i], bodies[i], facts[i]);
+    }
+}
@@ -0,0 +1,35 @@
+package com.goormthonuniv.cleannews.verify;
+
+import com.goormthonuniv.cleannews.util.SocialPostCorpus;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TextKoreanUtils.parseFacts: 날짜 정규식 스캔 + 공연장 힌트 탐색.
+ * 입력은 실제 호출처럼 TextKoreanUtils.normalize 를 거친 본문 (package-private 이라 같은 패키지에 둠).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TextKoreanUtilsBenchmark {
+
+    private static final int POOL = 64;
+
+    @Param({"short", "medium", "long"})
+    public String size;
+
+    private String[] normalized;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        normalized = SocialPostCorpus.posts(POOL, SocialPostCorpus.targetLength(size), 42L).stream()
+                .map(TextKoreanUtils::normalize).toArray(String[]::new);
+    }
+
+    @Benchmark
+    public ExtractedFacts parseFacts() {
+        return TextKoreanUtils.parseFacts(normalized[cursor++ & (POOL - 1)]);
+    }
+}
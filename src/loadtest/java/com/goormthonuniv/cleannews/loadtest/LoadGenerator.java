@@ -0,0 +1,127 @@
+package com.goormthonuniv.cleannews.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * POST /api/v1/verify 고정 도착률(open-loop) 부하 생성기.
+ * - 요청은 응답과 무관하게 예정 시각(start + i/rate)에 출발 → 서버가 느려져도 부하가 줄지 않음
+ * - 지연은 "예정 시각 → 응답 완료"로 잼 (생성기 지연까지 포함, coordinated omission 방지)
+ * - repeatRatio 비율만큼은 이전에 보낸 게시물을 그대로 재전송(판정 캐시 hit 경로), 나머지는 매번 새 게시물
+ */
+final class LoadGenerator {
+
+    private static final String[] POSTS = {
+            "[공지] 10월 18일 잠실실내체육관 콘서트 티켓오픈은 인터파크에서 진행됩니다. #콘서트 #티켓팅",
+            "🎉 @airpremia_official 신규 취항 기념 이벤트! 댓글 남기면 추첨을 통해 왕복 항공권 무료 증정 ✈️",
+            "2025.11.02 KSPO DOME 'WORLD TOUR IN SEOUL' 추가 회차 확정, 예매는 NOL 인터파크 단독",
+            "Official notice: tickets for the \"Seoul Night Show\" go on sale 11/05 at 8PM KST. Venue: Olympic Hall.",
+            "체험단 모집 📢 (선착순 30명) 무료 체험 후 후기 작성, 당첨자는 12월 1일 DM 개별 연락",
+            "고척 스카이돔 팬미팅 일정 변경 공지 (기존 9/28 → 10/12) 좌석 배치도 공개 #고척돔",
+            "Giveaway 🎁 follow @cleannews_demo and tag 3 friends to win free concert tickets!",
+            "오늘 뉴스에 나온 \"무료 항공권\" 이벤트는 공식 채널에서 진행한 적이 없다고 합니다. 사칭 주의",
+    };
+    private static final String[] SOURCES = {
+            "https://www.instagram.com/p/C9xYz12AbCd/",
+            "https://x.com/airpremia/status/1834567890123",
+            "https://www.facebook.com/events/123456789",
+            "https://blog.naver.com/someone/223456789012",
+    };
+    private static final int MAX_REPEAT_POOL = 256;
+
+    private final HttpClient client;
+    private final URI verifyUri;
+    private final double repeatRatio;
+    private final Long deadlineMs;
+    private final Duration requestTimeout;
+    private final ObjectMapper om = new ObjectMapper();
+    private final AtomicLong seq = new AtomicLong();
+    private final List<byte[]> sent = new ArrayList<>(); // 발송 스레드 하나만 접근
+
+    LoadGenerator(String baseUrl, double repeatRatio, Long deadlineMs, Duration requestTimeout) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(2))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.verifyUri = URI.create(baseUrl + "/api/v1/verify");
+        this.repeatRatio = repeatRatio;
+        this.deadlineMs = deadlineMs;
+        this.requestTimeout = requestTimeout;
+    }
+
+    /** rate(건/초)로 duration 동안 요청을 보내고, 마지막 요청의 응답까지 기다린 뒤 결과 반환 */
+    LoadResult run(double rate, Duration duration) throws InterruptedException {
+        long total = Math.max(1, Math.round(rate * duration.toNanos() / 1e9));
+        double intervalNanos = 1e9 / rate;
+        ConcurrentLinkedQueue<LoadResult.Sample> samples = new ConcurrentLinkedQueue<>();
+        long start = System.nanoTime();
+        try (ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < total; i++) {
+                long intended = start + Math.round(i * intervalNanos);
+                long wait = intended - System.nanoTime();
+                if (wait > 0) LockSupport.parkNanos(wait);
+                byte[] body = nextBody();
+                senders.execute(() -> samples.add(send(body, intended)));
+            }
+        } // close() = 보낸 요청이 모두 끝날 때까지 대기
+        long elapsed = System.nanoTime() - start;
+        return LoadResult.of(rate, total, elapsed, new ArrayList<>(samples));
+    }
+
+    private LoadResult.Sample send(byte[] body, long intendedNanos) {
+        HttpRequest.Builder req = HttpRequest.newBuilder(verifyUri)
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body));
+        try {
+            HttpResponse<String> res = client.send(req.build(), HttpResponse.BodyHandlers.ofString());
+            long latency = System.nanoTime() - intendedNanos;
+            boolean shed = res.headers().firstValue("X-Load-Shed").isPresent();
+            boolean degraded = res.statusCode() == 200 && res.body().contains("\"degraded\":true");
+            return new LoadResult.Sample(res.statusCode(), latency, shed, degraded);
+        } catch (IOException e) {
+            return new LoadResult.Sample(-1, System.nanoTime() - intendedNanos, false, false);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new LoadResult.Sample(-1, System.nanoTime() - intendedNanos, false, false);
+        }
+    }
+
+    private byte[] nextBody() {
+        ThreadLocalRandom r = ThreadLocalRandom.current();
+        if (!sent.isEmpty() && r.nextDouble() < repeatRatio) {
+            return sent.get(r.nextInt(sent.size()));
+        }
+        long n = seq.incrementAndGet();
+        // 게시물마다 고유 해시태그 → 새 검색 쿼리/판정 캐시 miss
+        String text = POSTS[(int) (n % POSTS.length)] + " #lt" + Long.toString(n, 36) + r.nextInt(1000);
+        Map<String, Object> req = new LinkedHashMap<>();
+        req.put("platform", "instagram");
+        req.put("sourceUrl", SOURCES[(int) (n % SOURCES.length)]);
+        req.put("language", "ko");
+        req.put("title", "");
+        req.put("text", text);
+        if (deadlineMs != null) req.put("deadlineMs", deadlineMs);
+        try {
+            byte[] body = om.writeValueAsBytes(req);
+            if (sent.size() < MAX_REPEAT_POOL) sent.add(body);
+            return body;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.goormthonuniv.cleannews.loadtest;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 도착률 1단계 측정 결과.
+ * - ok: 200 (캐시 전용 응답 포함), shed: 그중 X-Load-Shed(과부하로 캐시 전용), degraded: 예산 부족으로 단계 생략
+ * - overloaded: 503, errors: 그 외 상태코드/IO 오류
+ * - 지연 분위수는 200 응답 기준(ms)
+ */
+record LoadResult(double offeredRate, long sent, long ok, long shed, long degraded, long overloaded, long errors,
+                  double throughput, double p50Ms, double p90Ms, double p99Ms, double p999Ms, double maxMs) {
+
+    record Sample(int status, long latencyNanos, boolean shed, boolean degraded) {}
+
+    static LoadResult of(double rate, long sent, long elapsedNanos, List<Sample> samples) {
+        long ok = 0, shed = 0, degraded = 0, overloaded = 0, errors = 0;
+        long[] latencies = new long[samples.size()];
+        int n = 0;
+        for (Sample s : samples) {
+            if (s.status() == 200) {
+                ok++;
+                if (s.shed()) shed++;
+                if (s.degraded()) degraded++;
+                latencies[n++] = s.latencyNanos();
+            } else if (s.status() == 503) {
+                overloaded++;
+            } else {
+                errors++;
+            }
+        }
+        long[] sorted = Arrays.copyOf(latencies, n);
+        Arrays.sort(sorted);
+        double seconds = elapsedNanos / 1e9;
+        return new LoadResult(rate, sent, ok, shed, degraded, overloaded, errors, ok / seconds,
+                percentileMs(sorted, 0.50), percentileMs(sorted, 0.90), percentileMs(sorted, 0.99),
+                percentileMs(sorted, 0.999), n == 0 ? Double.NaN : sorted[n - 1] / 1e6);
+    }
+
+    private static double percentileMs(long[] sorted, double q) {
+        if (sorted.length == 0) return Double.NaN;
+        int idx = (int) Math.ceil(q * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, idx))] / 1e6;
+    }
+
+    static String header() {
+        return "%-8s %7s %7s %7s %6s %8s %6s %6s %9s %8s %8s %8s %8s %8s".formatted(
+                "mode", "rate/s", "sent", "ok", "shed", "degraded", "503", "err", "thrpt/s",
+                "p50ms", "p90ms", "p99ms", "p99.9ms", "maxms");
+    }
+
+    String row(String mode) {
+        return "%-8s %7.1f %7d %7d %6d %8d %6d %6d %9.1f %8.0f %8.0f %8.0f %8.0f %8.0f".formatted(
+                mode, offeredRate, sent, ok, shed, degraded, overloaded, errors, throughput,
+                p50Ms, p90Ms, p99Ms, p999Ms, maxMs);
+    }
+}
@@ -0,0 +1,134 @@
+package com.goormthonuniv.cleannews.loadtest;
+
+import com.goormthonuniv.cleannews.CleannewsApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 오프라인 부하 테스트: 스텁 서버(검색 3종 + OpenAI)를 띄우고 모드별로 애플리케이션을 같은 JVM 에 기동해
+ * 도착률 단계마다 처리량/지연 분위수를 표로 출력한다. 외부 API 쿼터를 쓰지 않으므로 노드당 용량을 반복 측정 가능.
+ *
+ * ./gradlew loadTest -PloadArgs="--modes=llm,hybrid --rates=5,10,20,40 --duration=30"
+ * ./gradlew loadTest -PloadArgs="--modes=hybrid --threads=platform,virtual --rates=20,40,80"
+ *
+ * 옵션 (--key=value)
+ * - modes: 측정할 cleannews.mode 목록 (기본 hybrid,llm)
+ * - threads: platform,virtual 중 측정할 실행 방식 (spring.threads.virtual.enabled 를 바꿔 모드마다 따로 기동,
+ *   결과는 mode/threads 로 표기). 없으면 애플리케이션 설정 그대로
+ * - rates: 도착률 단계(건/초), duration: 단계당 측정 시간(초), warmup: 모드별 첫 단계 전 워밍업(초)
+ * - repeatRatio: 이미 보낸 게시물을 재전송하는 비율(판정 캐시 hit, 기본 0.2)
+ * - deadlineMs: 요청 본문 deadlineMs (없으면 서버 기본값)
+ * - stub.{bing|google_cse|naver|openai|openai_verifier}=중앙값ms/p99ms/오류율
+ * - target: 이미 떠 있는 인스턴스 주소 (지정하면 내부 기동 없이 그 주소로, label 로 표기)
+ * - 그 밖의 키(cleannews.*, spring.* 등)는 내부 기동 시 애플리케이션 설정으로 전달
+ *
+ * 부하 생성기와 서버가 같은 JVM/CPU 를 나눠 쓰므로 절대 수치보다는 모드/설정 간 비교용.
+ * 노드 용량 측정은 target 으로 별도 프로세스를 지정하는 편이 정확하다.
+ */
+public final class LoadTest {
+
+    private static final Set<String> OPTIONS = Set.of(
+            "modes", "threads", "rates", "duration", "warmup", "repeatRatio", "deadlineMs", "target", "label", "port");
+
+    private LoadTest() {}
+
+    public static void main(String[] argv) throws Exception {
+        Map<String, String> args = parseArgs(argv);
+        List<Double> rates = Arrays.stream(args.getOrDefault("rates", "5,10,20").split(","))
+                .map(String::trim).map(Double::parseDouble).toList();
+        Duration duration = Duration.ofSeconds(Long.parseLong(args.getOrDefault("duration", "30")));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(args.getOrDefault("warmup", "10")));
+        double repeatRatio = Double.parseDouble(args.getOrDefault("repeatRatio", "0.2"));
+        Long deadlineMs = args.containsKey("deadlineMs") ? Long.parseLong(args.get("deadlineMs")) : null;
+        Duration requestTimeout = Duration.ofSeconds(65); // spring.mvc.async.request-timeout(60s) 보다 길게
+
+        Map<String, List<LoadResult>> report = new LinkedHashMap<>();
+        if (args.containsKey("target")) {
+            String label = args.getOrDefault("label", "target");
+            LoadGenerator gen = new LoadGenerator(args.get("target"), repeatRatio, deadlineMs, requestTimeout);
+            report.put(label, runSteps(label, gen, rates, duration, warmup));
+        } else {
+            try (StubServers stubs = StubServers.start(0, StubServers.profileOverrides(args))) {
+                System.out.println("stubs " + stubs.baseUrl() + " " + new TreeMap<>(stubs.profiles()));
+                List<String> threads = parseThreads(args.get("threads"));
+                for (String mode : args.getOrDefault("modes", "hybrid,llm").split(",")) {
+                    mode = mode.trim();
+                    for (String thread : threads) {
+                        String label = thread == null ? mode : mode + "/" + thread;
+                        try (ConfigurableApplicationContext ctx = boot(label, mode, thread, stubs, args)) {
+                            String base = "http://127.0.0.1:" + ctx.getEnvironment().getProperty("local.server.port");
+                            LoadGenerator gen = new LoadGenerator(base, repeatRatio, deadlineMs, requestTimeout);
+                            report.put(label, runSteps(label, gen, rates, duration, warmup));
+                        }
+                    }
+                }
+                System.out.println("stub calls " + stubs.served());
+            }
+        }
+
+        System.out.println();
+        System.out.println(LoadResult.header());
+        report.forEach((mode, results) -> results.forEach(r -> System.out.println(r.row(mode))));
+        System.exit(0); // 스텁/HTTP 클라이언트 스레드 정리 대기 없이 종료
+    }
+
+    private static List<LoadResult> runSteps(String mode, LoadGenerator gen, List<Double> rates,
+                                             Duration duration, Duration warmup) throws InterruptedException {
+        if (!warmup.isZero()) {
+            System.out.printf("[%s] warmup %ds @ %.1f/s%n", mode, warmup.toSeconds(), rates.get(0));
+            gen.run(rates.get(0), warmup);
+        }
+        List<LoadResult> results = new ArrayList<>();
+        for (double rate : rates) {
+            LoadResult r = gen.run(rate, duration);
+            System.out.println(r.row(mode));
+            results.add(r);
+        }
+        return results;
+    }
+
+    /** threads: platform | virtual | null(설정 그대로) */
+    private static ConfigurableApplicationContext boot(String label, String mode, String threads, StubServers stubs,
+                                                       Map<String, String> args) {
+        Map<String, Object> props = new LinkedHashMap<>(stubs.applicationProperties());
+        props.put("server.port", "0");
+        props.put("cleannews.mode", mode);
+        props.put("logging.level.root", "WARN");
+        props.put("springdoc.api-docs.enabled", "false");
+        props.put("springdoc.swagger-ui.enabled", "false");
+        args.forEach((k, v) -> {
+            if (!OPTIONS.contains(k) && !k.startsWith("stub.")) props.put(k, v); // 설정 오버라이드
+        });
+        if (threads != null) props.put("spring.threads.virtual.enabled", String.valueOf(threads.equals("virtual")));
+        System.out.printf("[%s] starting application%n", label);
+        return new SpringApplicationBuilder(CleannewsApplication.class)
+                .properties(props)
+                .run();
+    }
+
+    /** --threads=platform,virtual → 목록, 없으면 [null] (설정 그대로 한 번만 기동) */
+    static List<String> parseThreads(String value) {
+        if (value == null) return Collections.singletonList(null);
+        List<String> threads = Arrays.stream(value.split(",")).map(String::trim).toList();
+        for (String t : threads) {
+            if (!t.equals("platform") && !t.equals("virtual")) {
+                throw new IllegalArgumentException("threads must be platform or virtual: " + t);
+            }
+        }
+        return threads;
+    }
+
+    /** --key=value 형식 인자 → Map */
+    static Map<String, String> parseArgs(String[] argv) {
+        Map<String, String> m = new LinkedHashMap<>();
+        for (String a : argv) {
+            if (!a.startsWith("--") || !a.contains("=")) throw new IllegalArgumentException("expected --key=value: " + a);
+            int eq = a.indexOf('=');
+            m.put(a.substring(2, eq), a.substring(eq + 1));
+        }
+        return m;
+    }
+}
@@ -0,0 +1,41 @@
+package com.goormthonuniv.cleannews.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 스텁 응답 특성: 지연은 로그정규분포(중앙값/p99 지정), 일정 비율은 5xx/429 오류.
+ * 문자열 형식 "중앙값ms/p99ms/오류율" (예: 120/600/0.01)
+ */
+public record StubProfile(double medianMs, double p99Ms, double errorRate) {
+
+    private static final double Z99 = 2.3263; // 표준정규 99 분위수
+    private static final double MAX_OF_P99 = 5.0; // 꼬리 상한 (p99 의 5배)
+
+    public StubProfile {
+        if (medianMs < 0 || p99Ms < medianMs) throw new IllegalArgumentException("need 0 <= median <= p99");
+        if (errorRate < 0 || errorRate > 1) throw new IllegalArgumentException("errorRate must be 0..1");
+    }
+
+    public static StubProfile parse(String s) {
+        String[] p = s.split("/");
+        if (p.length != 3) throw new IllegalArgumentException("expected median/p99/errorRate: " + s);
+        return new StubProfile(Double.parseDouble(p[0]), Double.parseDouble(p[1]), Double.parseDouble(p[2]));
+    }
+
+    /** 이번 응답 지연(ms) */
+    public long sampleDelayMs() {
+        if (medianMs == 0) return 0;
+        double sigma = Math.log(p99Ms / medianMs) / Z99;
+        double ms = medianMs * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian());
+        return Math.round(Math.min(ms, p99Ms * MAX_OF_P99));
+    }
+
+    public boolean sampleError() {
+        return errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate;
+    }
+
+    @Override
+    public String toString() {
+        return "%.0f/%.0f/%s".formatted(medianMs, p99Ms, errorRate);
+    }
+}
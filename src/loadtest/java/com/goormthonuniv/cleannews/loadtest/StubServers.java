@@ -0,0 +1,307 @@
+package com.goormthonuniv.cleannews.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bing News / Google CSE / Naver 뉴스 / OpenAI chat completions 로컬 스텁 (외부 쿼터 소모 없이 부하 테스트).
+ * - 각 어댑터/LLM 이 실제로 읽는 JSON 필드 구조만 흉내 냄 (value[], items[], choices[].message.content)
+ * - 대상별 StubProfile: 로그정규 지연 + 오류율(500/429 반반)
+ * - OpenAI: response_format 이 있으면 OpenAiVerifier(JSON 판정), 없으면 OpenAiJudge(-1~1 숫자)로 응답
+ * - 요청 처리는 가상 스레드 → 지연(sleep) 중인 요청 수에 제한 없음
+ *
+ * 단독 실행: ./gradlew stubServers -PstubArgs="--port=18080 --stub.naver=80/400/0.02"
+ */
+public final class StubServers implements AutoCloseable {
+
+    public static final Map<String, StubProfile> DEFAULT_PROFILES = Map.of(
+            "bing", new StubProfile(120, 600, 0.01),
+            "google_cse", new StubProfile(150, 800, 0.01),
+            "naver", new StubProfile(80, 400, 0.01),
+            "openai", new StubProfile(700, 3000, 0.005),          // OpenAiJudge
+            "openai_verifier", new StubProfile(6000, 20000, 0.01)  // OpenAiVerifier (웹 검색 포함 긴 응답)
+    );
+
+    private static final DateTimeFormatter RFC_1123 = DateTimeFormatter.RFC_1123_DATE_TIME;
+
+    private final HttpServer server;
+    private final Map<String, StubProfile> profiles;
+    private final ObjectMapper om = new ObjectMapper();
+    private final Map<String, AtomicLong> served = new TreeMap<>();
+
+    private StubServers(HttpServer server, Map<String, StubProfile> profiles) {
+        this.server = server;
+        this.profiles = profiles;
+        for (String name : profiles.keySet()) served.put(name, new AtomicLong());
+    }
+
+    /** port=0 이면 빈 포트 */
+    public static StubServers start(int port, Map<String, StubProfile> overrides) throws IOException {
+        Map<String, StubProfile> profiles = new HashMap<>(DEFAULT_PROFILES);
+        profiles.putAll(overrides);
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 1024);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        StubServers stubs = new StubServers(server, profiles);
+        server.createContext("/bing/v7.0/news/search", stubs.handler("bing", stubs::bing));
+        server.createContext("/google/customsearch/v1", stubs.handler("google_cse", stubs::google));
+        server.createContext("/naver/v1/search/news.json", stubs.handler("naver", stubs::naver));
+        server.createContext("/openai/v1/chat/completions", stubs::openai);
+        server.start();
+        return stubs;
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /** 애플리케이션이 스텁을 보도록 하는 설정값 (키도 더미로 채워 어댑터/LLM 이 비활성화되지 않게) */
+    public Map<String, Object> applicationProperties() {
+        String base = baseUrl();
+        Map<String, Object> p = new LinkedHashMap<>();
+        p.put("cleannews.adapters.bing.endpoint", base + "/bing/v7.0/news/search");
+        p.put("cleannews.adapters.bing.apiKey", "stub");
+        p.put("cleannews.adapters.google.endpoint", base + "/google/customsearch/v1");
+        p.put("cleannews.adapters.google.apiKey", "stub");
+        p.put("cleannews.adapters.google.cx", "stub");
+        p.put("cleannews.adapters.naver.endpoint", base + "/naver/v1/search/news.json");
+        p.put("cleannews.adapters.naver.clientId", "stub");
+        p.put("cleannews.adapters.naver.clientSecret", "stub");
+        p.put("cleannews.ai.provider", "openai");
+        p.put("cleannews.ai.openai.apiKey", "stub");
+        p.put("cleannews.ai.openai.endpoint", base + "/openai/v1/chat/completions");
+        return p;
+    }
+
+    public Map<String, StubProfile> profiles() {
+        return Collections.unmodifiableMap(profiles);
+    }
+
+    /** 대상별 처리 건수 (리포트용) */
+    public Map<String, Long> served() {
+        Map<String, Long> m = new LinkedHashMap<>();
+        served.forEach((k, v) -> m.put(k, v.get()));
+        return m;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    // ===================== 핸들러 =====================
+
+    @FunctionalInterface
+    private interface Body {
+        Object render(Map<String, String> query);
+    }
+
+    private HttpHandler handler(String name, Body body) {
+        return ex -> {
+            try (ex) {
+                Map<String, String> q = query(ex.getRequestURI().getRawQuery());
+                respond(ex, name, () -> body.render(q));
+            }
+        };
+    }
+
+    private void openai(HttpExchange ex) throws IOException {
+        try (ex; InputStream in = ex.getRequestBody()) {
+            String req = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            boolean verifier = req.contains("\"response_format\"");
+            respond(ex, verifier ? "openai_verifier" : "openai", () -> chatCompletion(verifier ? verdictJson() : judgeScore()));
+        }
+    }
+
+    private void respond(HttpExchange ex, String name, java.util.function.Supplier<Object> body) throws IOException {
+        StubProfile profile = profiles.get(name);
+        served.get(name).incrementAndGet();
+        try {
+            Thread.sleep(profile.sampleDelayMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (profile.sampleError()) {
+            boolean throttled = ThreadLocalRandom.current().nextBoolean();
+            write(ex, throttled ? 429 : 500, Map.of("error", Map.of("message", throttled ? "rate limited (stub)" : "internal error (stub)")));
+            return;
+        }
+        write(ex, 200, body.get());
+    }
+
+    private void write(HttpExchange ex, int status, Object body) throws IOException {
+        byte[] bytes = om.writeValueAsBytes(body);
+        ex.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        ex.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = ex.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    // ===================== 응답 본문 (실제 API 필드 구조) =====================
+
+    private Object bing(Map<String, String> q) {
+        String query = q.getOrDefault("q", "");
+        int n = Math.min(parseInt(q.get("count"), 10), 50);
+        List<Map<String, Object>> value = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            value.add(Map.of(
+                    "name", query + " 관련 보도 " + (i + 1),
+                    "url", "https://news.example.co.kr/article/" + Math.abs((query + i).hashCode()),
+                    "description", snippet(query, i),
+                    "datePublished", OffsetDateTime.now(ZoneOffset.UTC).minusHours(i * 3L).toString(),
+                    "provider", List.of(Map.of("_type", "Organization", "name", "Example News"))
+            ));
+        }
+        return Map.of("_type", "News", "totalEstimatedMatches", n * 17, "value", value);
+    }
+
+    private Object google(Map<String, String> q) {
+        String query = q.getOrDefault("q", "");
+        int n = Math.min(parseInt(q.get("num"), 10), 10);
+        List<Map<String, Object>> items = new ArrayList<>(n);
+        String[] hosts = {"tickets.interpark.com", "www.chosun.com", "blog.naver.com", "www.instagram.com"};
+        for (int i = 0; i < n; i++) {
+            items.add(Map.of(
+                    "kind", "customsearch#result",
+                    "title", query + " - " + hosts[i % hosts.length],
+                    "link", "https://" + hosts[i % hosts.length] + "/p/" + Math.abs((query + i).hashCode()),
+                    "snippet", snippet(query, i)
+            ));
+        }
+        return Map.of("kind", "customsearch#search", "items", items);
+    }
+
+    private Object naver(Map<String, String> q) {
+        String query = q.getOrDefault("query", "");
+        int n = Math.min(parseInt(q.get("display"), 10), 100);
+        List<Map<String, Object>> items = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            String link = "https://n.news.naver.com/article/001/" + (1_000_000 + Math.abs((query + i).hashCode() % 1_000_000));
+            items.add(Map.of(
+                    "title", "<b>" + query + "</b> 소식 " + (i + 1),
+                    "originallink", link,
+                    "link", link,
+                    "description", "<b>" + query + "</b> " + snippet(query, i),
+                    "pubDate", OffsetDateTime.now(ZoneOffset.ofHours(9)).minusHours(i).format(RFC_1123)
+            ));
+        }
+        return Map.of("lastBuildDate", OffsetDateTime.now(ZoneOffset.ofHours(9)).format(RFC_1123),
+                "total", n * 31, "start", 1, "display", n, "items", items);
+    }
+
+    private static String snippet(String query, int i) {
+        return switch (i % 3) {
+            case 0 -> query + " 일정과 장소가 공식 채널을 통해 공개됐다. 예매는 다음 주 시작된다.";
+            case 1 -> "주최 측은 " + query + " 관련 루머에 대해 사실이 아니라고 밝혔다.";
+            default -> "Official announcement: " + query + " tickets go on sale next week.";
+        };
+    }
+
+    private String judgeScore() {
+        return "%.2f".formatted(ThreadLocalRandom.current().nextDouble(-1.0, 1.0));
+    }
+
+    private String verdictJson() {
+        ThreadLocalRandom r = ThreadLocalRandom.current();
+        String[] verdicts = {"LIKELY_TRUE", "UNSURE", "LIKELY_FALSE"};
+        List<Map<String, Object>> evidences = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            evidences.add(Map.of(
+                    "source", List.of("예매처", "주최측", "언론").get(i),
+                    "domain", "example" + i + ".co.kr",
+                    "title", "스텁 근거 " + (i + 1),
+                    "url", "https://example" + i + ".co.kr/notice/" + r.nextInt(100_000),
+                    "snippet", "공식 공지에서 날짜와 장소가 확인되었습니다.",
+                    "publishedAt", OffsetDateTime.now(ZoneOffset.UTC).minusDays(i).toString()
+            ));
+        }
+        try {
+            return om.writeValueAsString(Map.of(
+                    "verdict", verdicts[r.nextInt(verdicts.length)],
+                    "confidence", 30 + r.nextInt(70),
+                    "rationale", "스텁 응답: 서로 다른 유형의 출처 3곳을 확인했습니다.",
+                    "consensusSummary", "스텁 요약",
+                    "normalizedText", "",
+                    "evidences", evidences
+            ));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Map<String, Object> chatCompletion(String content) {
+        return Map.of(
+                "id", "chatcmpl-stub-" + UUID.randomUUID(),
+                "object", "chat.completion",
+                "created", System.currentTimeMillis() / 1000,
+                "model", "gpt-4o-mini",
+                "choices", List.of(Map.of(
+                        "index", 0,
+                        "message", Map.of("role", "assistant", "content", content),
+                        "finish_reason", "stop")),
+                "usage", Map.of("prompt_tokens", 900, "completion_tokens", 120, "total_tokens", 1020)
+        );
+    }
+
+    // ===================== 유틸 =====================
+
+    private static Map<String, String> query(String raw) {
+        Map<String, String> m = new HashMap<>();
+        if (raw == null || raw.isEmpty()) return m;
+        for (String kv : raw.split("&")) {
+            int eq = kv.indexOf('=');
+            if (eq <= 0) continue;
+            m.put(kv.substring(0, eq), URLDecoder.decode(kv.substring(eq + 1), StandardCharsets.UTF_8));
+        }
+        return m;
+    }
+
+    private static int parseInt(String s, int dflt) {
+        try {
+            return s == null ? dflt : Integer.parseInt(s);
+        } catch (NumberFormatException e) {
+            return dflt;
+        }
+    }
+
+    /** 인자에서 --stub.<대상>=중앙값/p99/오류율 만 골라냄 */
+    static Map<String, StubProfile> profileOverrides(Map<String, String> args) {
+        Map<String, StubProfile> m = new HashMap<>();
+        args.forEach((k, v) -> {
+            if (k.startsWith("stub.")) {
+                String name = k.substring("stub.".length());
+                if (!DEFAULT_PROFILES.containsKey(name)) throw new IllegalArgumentException("unknown stub: " + name);
+                m.put(name, StubProfile.parse(v));
+            }
+        });
+        return m;
+    }
+
+    public static void main(String[] argv) throws Exception {
+        Map<String, String> args = LoadTest.parseArgs(argv);
+        StubServers stubs = start(Integer.parseInt(args.getOrDefault("port", "18080")), profileOverrides(args));
+        System.out.println("stub servers listening on " + stubs.baseUrl());
+        new TreeMap<>(stubs.profiles()).forEach((k, v) -> System.out.println("  " + k + " = " + v + " (median/p99 ms/errorRate)"));
+        System.out.println("application properties:");
+        stubs.applicationProperties().forEach((k, v) -> System.out.println("  --" + k + "=" + v));
+        Runtime.getRuntime().addShutdownHook(new Thread(stubs::close));
+        Thread.currentThread().join();
+    }
+}
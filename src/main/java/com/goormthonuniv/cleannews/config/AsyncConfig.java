@@ -0,0 +1,92 @@
+package com.goormthonuniv.cleannews.config;
+
+import com.goormthonuniv.cleannews.logging.MdcExecutorService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 내부 실행 풀 구성.
+ * - 기본: 고정 크기 플랫폼 스레드 풀 (bounded: 큐가 차면 호출 스레드에서 직접 실행, verify/job 풀은 거절 → 503)
+ * - spring.threads.virtual.enabled=true: 작업마다 가상 스레드 (Tomcat 요청 처리도 Boot 가 가상 스레드로 전환)
+ * - 모든 풀은 MdcExecutorService 로 감싸 요청 id(MDC)를 작업 스레드로 전달
+ */
+@Configuration
+public class AsyncConfig {
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    /** 검색 어댑터 동시 호출용 */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService searchExecutor(@Value("${cleannews.search.fanout.threads:16}") int threads,
+                                          @Value("${cleannews.search.fanout.queue:256}") int queue) {
+        return pool("cn-search-", threads, queue);
+    }
+
+    /** 폴백 후보 경합용 — 내부에서 searchExecutor를 기다리므로 반드시 별도 풀 */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService fallbackExecutor(@Value("${cleannews.search.fallback.threads:16}") int threads,
+                                            @Value("${cleannews.search.fallback.queue:256}") int queue) {
+        return pool("cn-fallback-", threads, queue);
+    }
+
+    /**
+     * 비동기 검증 파이프라인 단계 실행용 (서블릿 스레드는 즉시 반환).
+     * 큐가 차면 RejectedExecutionException — CallerRuns 면 과부하 때 파이프라인 전체가 서블릿 스레드에서 돌게 되므로
+     * 거절해서 OverloadedException(→ 503) 으로 돌려보냄 (VerificationOrchestrator.verifyAsync)
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService verifyExecutor(@Value("${cleannews.async.threads:64}") int threads,
+                                          @Value("${cleannews.async.queue:1000}") int queue) {
+        return pool("cn-verify-", threads, queue, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /** timeout 을 직접 걸 수 없는 외부 호출(LLM judge 등)을 감싸 실행 (Resilience.call) */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService guardExecutor(@Value("${cleannews.resilience.threads:16}") int threads,
+                                         @Value("${cleannews.resilience.queue:256}") int queue) {
+        return pool("cn-guard-", threads, queue);
+    }
+
+    /**
+     * 검증 작업(job) 워커 풀 — 큐가 차면 RejectedExecutionException(→ 503).
+     * 가상 스레드 모드에서도 워커 수/큐 깊이 제한은 유지.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService jobExecutor(@Value("${cleannews.jobs.workers:8}") int workers,
+                                       @Value("${cleannews.jobs.queue:200}") int queue) {
+        ThreadFactory factory = virtualThreads
+                ? Thread.ofVirtual().name("cn-job-", 1).factory()
+                : named("cn-job-");
+        return MdcExecutorService.wrap(new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queue), factory,
+                new ThreadPoolExecutor.AbortPolicy()));
+    }
+
+    /** 큐가 차면 제출한 스레드(verify/fallback 워커)에서 직접 실행 — 서블릿 스레드에서 제출하는 풀에는 쓰지 않음 */
+    private ExecutorService pool(String prefix, int threads, int queue) {
+        return pool(prefix, threads, queue, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    private ExecutorService pool(String prefix, int threads, int queue, RejectedExecutionHandler onFull) {
+        if (virtualThreads) {
+            // 대기 대부분이 외부 HTTP I/O → 스레드 수 튜닝 없이 작업당 가상 스레드
+            return MdcExecutorService.wrap(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(prefix, 1).factory()));
+        }
+        return MdcExecutorService.wrap(new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queue), named(prefix), onFull));
+    }
+
+    static ThreadFactory named(String prefix) {
+        AtomicInteger seq = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
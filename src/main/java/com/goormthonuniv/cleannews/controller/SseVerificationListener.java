@@ -0,0 +1,73 @@
+package com.goormthonuniv.cleannews.controller;
+
+import com.goormthonuniv.cleannews.dto.Evidence;
+import com.goormthonuniv.cleannews.dto.VerificationResponse;
+import com.goormthonuniv.cleannews.resilience.OverloadedException;
+import com.goormthonuniv.cleannews.search.SearchResult;
+import com.goormthonuniv.cleannews.service.VerificationListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 파이프라인 단계 이벤트 → SSE 이벤트 변환.
+ * event: keywords | adapter | search | evidences | verdict | error
+ * 클라이언트가 끊기면 이후 이벤트는 버리고 파이프라인은 계속 진행(판정은 캐시에 남음).
+ */
+class SseVerificationListener implements VerificationListener {
+
+    private final SseEmitter emitter;
+    private volatile boolean closed;
+
+    SseVerificationListener(SseEmitter emitter) {
+        this.emitter = emitter;
+        emitter.onCompletion(() -> closed = true);
+        emitter.onTimeout(() -> closed = true);
+        emitter.onError(e -> closed = true);
+    }
+
+    @Override
+    public void onKeywords(List<String> keywords, String query) {
+        send("keywords", Map.of("keywords", keywords, "query", query));
+    }
+
+    @Override
+    public void onAdapterHits(String adapter, String query, List<SearchResult> hits) {
+        send("adapter", Map.of("adapter", adapter, "query", query, "hits", hits));
+    }
+
+    @Override
+    public void onSearch(String query, List<SearchResult> hits, boolean fallback) {
+        send("search", Map.of("query", query, "hitCount", hits.size(), "fallback", fallback));
+    }
+
+    @Override
+    public void onEvidences(List<Evidence> evidences) {
+        send("evidences", evidences);
+    }
+
+    void complete(VerificationResponse res) {
+        send("verdict", res);
+        if (!closed) emitter.complete();
+    }
+
+    void fail(Throwable e) {
+        Throwable cause = e.getCause() != null ? e.getCause() : e;
+        send("error", Map.of(
+                "error", cause instanceof OverloadedException ? "OVERLOADED" : "INTERNAL_ERROR",
+                "message", String.valueOf(cause.getMessage())
+        ));
+        if (!closed) emitter.complete();
+    }
+
+    private void send(String name, Object data) {
+        if (closed) return;
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        } catch (IOException | IllegalStateException e) {
+            closed = true; // 연결 끊김
+        }
+    }
+}
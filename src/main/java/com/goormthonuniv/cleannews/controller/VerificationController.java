@@ -1,7 +1,16 @@
 package com.goormthonuniv.cleannews.controller;
 
+import com.goormthonuniv.cleannews.dto.BatchVerificationRequest;
+import com.goormthonuniv.cleannews.dto.BatchVerificationResponse;
 import com.goormthonuniv.cleannews.dto.FeedVerificationRequest;
+import com.goormthonuniv.cleannews.dto.VerificationJob;
 import com.goormthonuniv.cleannews.dto.VerificationResponse;
+import com.goormthonuniv.cleannews.resilience.AdaptiveLimiter;
+import com.goormthonuniv.cleannews.resilience.OverloadedException;
+import com.goormthonuniv.cleannews.service.BatchVerificationService;
+import com.goormthonuniv.cleannews.service.SamplingListener;
+import com.goormthonuniv.cleannews.service.VerificationJobService;
+import com.goormthonuniv.cleannews.service.VerificationListener;
 import com.goormthonuniv.cleannews.service.VerificationOrchestrator;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.*;
@@ -9,6 +18,12 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/v1")
@@ -16,16 +31,118 @@ import org.springframework.web.bind.annotation.*;
 public class VerificationController {
 
     private final VerificationOrchestrator orchestrator;
+    private final BatchVerificationService batchService;
+    private final VerificationJobService jobService;
+    private final AdaptiveLimiter limiter;
+
+    private static final long STREAM_TIMEOUT_MS = 60_000L;
+    /** 응답 시간 예산(ms). 본문 deadlineMs 가 있으면 그쪽이 우선 */
+    private static final String DEADLINE_HEADER = "X-Deadline-Ms";
+    /** 과부하로 캐시 전용 응답을 한 경우 표시 */
+    private static final String SHED_HEADER = "X-Load-Shed";
 
-    @Operation(summary = "피드 사실 검증", description = "피드(텍스트/이미지/링크)를 전달하면 검증 결과/신뢰도/레퍼런스를 반환합니다.")
+    @Operation(summary = "피드 사실 검증", description = "피드(텍스트/이미지/링크)를 전달하면 검증 결과/신뢰도/레퍼런스를 반환합니다. "
+            + "시간 예산(deadlineMs 또는 X-Deadline-Ms)을 넘길 단계는 건너뛰고 degraded=true 로 표시합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "검증 성공"),
             @ApiResponse(responseCode = "400", description = "요청 형식 오류"),
-            @ApiResponse(responseCode = "500", description = "서버 오류")
+            @ApiResponse(responseCode = "500", description = "서버 오류"),
+            @ApiResponse(responseCode = "503", description = "과부하(캐시된 판정도 없음) — Retry-After 후 재시도")
     })
     @PostMapping("/verify")
-    public ResponseEntity<VerificationResponse> verify(@Valid @RequestBody FeedVerificationRequest req) {
-        VerificationResponse res = orchestrator.verify(req);
-        return ResponseEntity.ok(res);
+    public CompletableFuture<ResponseEntity<VerificationResponse>> verify(@Valid @RequestBody FeedVerificationRequest req,
+                                                                         @RequestHeader(value = DEADLINE_HEADER, required = false) Long deadlineMs) {
+        Optional<AdaptiveLimiter.Permit> permit = limiter.tryAcquire();
+        if (permit.isEmpty()) {
+            // 동시 처리 상한 초과 → 캐시된 판정이 있으면 그것만, 없으면 즉시 503
+            VerificationResponse cached = orchestrator.cachedOnly(req);
+            limiter.rejected(cached != null);
+            if (cached == null) throw new OverloadedException(limiter.limit());
+            return CompletableFuture.completedFuture(ResponseEntity.ok().header(SHED_HEADER, "cache-only").body(cached));
+        }
+        // 비동기 파이프라인: 외부 호출 동안 요청 스레드를 점유하지 않음(deferred result)
+        SamplingListener sampling = new SamplingListener(permit.get(), VerificationListener.NONE);
+        return orchestrator.verifyAsync(withDeadline(req, deadlineMs), sampling)
+                .whenComplete((res, e) -> permit.get().release())
+                .thenApply(ResponseEntity::ok);
+    }
+
+    @Operation(summary = "피드 사실 검증(진행 스트리밍)", description = "검증 단계별 중간 결과를 SSE 로 전송합니다. "
+            + "event: keywords → adapter(어댑터별 도착 순) → search → evidences → verdict (실패 시 error). 캐시 hit 이면 verdict 만 전송됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "스트림 시작"),
+            @ApiResponse(responseCode = "400", description = "요청 형식 오류")
+    })
+    @PostMapping(value = "/verify/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter verifyStream(@Valid @RequestBody FeedVerificationRequest req,
+                                   @RequestHeader(value = DEADLINE_HEADER, required = false) Long deadlineMs) {
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MS);
+        SseVerificationListener listener = new SseVerificationListener(emitter);
+        Optional<AdaptiveLimiter.Permit> permit = limiter.tryAcquire();
+        if (permit.isEmpty()) {
+            VerificationResponse cached = orchestrator.cachedOnly(req);
+            limiter.rejected(cached != null);
+            if (cached != null) listener.complete(cached);
+            else listener.fail(new OverloadedException(limiter.limit()));
+            return emitter;
+        }
+        orchestrator.verifyAsync(withDeadline(req, deadlineMs), new SamplingListener(permit.get(), listener)).whenComplete((res, e) -> {
+            permit.get().release();
+            if (e != null) listener.fail(e);
+            else listener.complete(res);
+        });
+        return emitter;
+    }
+
+    @Operation(summary = "피드 일괄 검증", description = "여러 피드를 한 번에 검증합니다. 동일 게시물/동일 검색 쿼리는 한 번만 처리하며, 결과는 요청 순서대로 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "검증 성공"),
+            @ApiResponse(responseCode = "400", description = "요청 형식 오류(빈 목록/50건 초과 포함)"),
+            @ApiResponse(responseCode = "500", description = "서버 오류"),
+            @ApiResponse(responseCode = "503", description = "과부하 — Retry-After 후 재시도")
+    })
+    @PostMapping("/verify/batch")
+    public CompletableFuture<ResponseEntity<BatchVerificationResponse>> verifyBatch(@Valid @RequestBody BatchVerificationRequest req) {
+        // 동시 처리 슬롯은 서비스가 unique claim 마다 확보 (슬롯 없는 claim 은 캐시 전용, 캐시도 없으면 503)
+        return batchService.verifyAll(req.items())
+                .thenApply(results -> ResponseEntity.ok(new BatchVerificationResponse(results)));
+    }
+
+    @Operation(summary = "피드 검증 작업 등록", description = "검증을 백그라운드 작업으로 등록하고 job id 를 즉시 반환합니다. "
+            + "결과는 GET /verify/jobs/{id} 로 조회하거나, callbackUrl 을 주면 완료 시 job 을 POST 로 받습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "등록 성공"),
+            @ApiResponse(responseCode = "400", description = "요청 형식 오류(callbackUrl 포함)"),
+            @ApiResponse(responseCode = "503", description = "대기열 가득 참")
+    })
+    @PostMapping("/verify/jobs")
+    public ResponseEntity<?> submitJob(@Valid @RequestBody FeedVerificationRequest req,
+                                       @RequestParam(required = false) String callbackUrl) {
+        if (!jobService.isValidCallback(callbackUrl)) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "VALIDATION_ERROR",
+                    "message", "callbackUrl must be an absolute http(s) URL to an allowed public host"
+            ));
+        }
+        VerificationJob job = jobService.submit(req, callbackUrl);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/verify/jobs/" + job.id()))
+                .body(job);
+    }
+
+    @Operation(summary = "피드 검증 작업 조회", description = "QUEUED/RUNNING/DONE/FAILED 상태와 결과를 반환합니다. 결과는 일정 시간 후 만료됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "없는 job 이거나 만료됨")
+    })
+    @GetMapping("/verify/jobs/{id}")
+    public ResponseEntity<VerificationJob> getJob(@PathVariable String id) {
+        VerificationJob job = jobService.find(id);
+        return job == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(job);
+    }
+
+    private static FeedVerificationRequest withDeadline(FeedVerificationRequest req, Long headerMs) {
+        if (req.deadlineMs() != null || headerMs == null || headerMs <= 0) return req;
+        return req.withDeadlineMs(headerMs);
     }
-}
\ No newline at end of file
+}
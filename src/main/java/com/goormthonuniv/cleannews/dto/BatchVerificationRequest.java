@@ -0,0 +1,11 @@
+package com.goormthonuniv.cleannews.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BatchVerificationRequest(
+        @NotEmpty @Size(max = 50) List<@Valid FeedVerificationRequest> items  // 최대 50건
+) {}
@@ -0,0 +1,7 @@
+package com.goormthonuniv.cleannews.dto;
+
+import java.util.List;
+
+public record BatchVerificationResponse(
+        List<VerificationResponse> results   // 요청 items 와 같은 순서
+) {}
@@ -1,6 +1,7 @@
 package com.goormthonuniv.cleannews.dto;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
 
 import java.util.List;
 
@@ -10,5 +11,10 @@ public record FeedVerificationRequest(
         String language,              // "ko"|"en"|...
         String title,                 // 선택
         String text,                  // 게시물 본문(최대한 전달)
-        List<String> imageUrls        // 선택
-) {}
\ No newline at end of file
+        List<String> imageUrls,       // 선택
+        @Positive Long deadlineMs     // 선택: 응답 시간 예산(ms). 없으면 X-Deadline-Ms 헤더 → 서버 기본값
+) {
+    public FeedVerificationRequest withDeadlineMs(Long deadlineMs) {
+        return new FeedVerificationRequest(platform, sourceUrl, language, title, text, imageUrls, deadlineMs);
+    }
+}
\ No newline at end of file
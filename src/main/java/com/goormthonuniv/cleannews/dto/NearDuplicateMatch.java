@@ -0,0 +1,9 @@
+package com.goormthonuniv.cleannews.dto;
+
+import java.time.OffsetDateTime;
+
+public record NearDuplicateMatch(
+        double similarity,         // 0.0~1.0 (SimHash 해밍거리 기반)
+        String matchedClaim,       // 재사용한 판정의 원 주장(정규화 텍스트 일부)
+        OffsetDateTime verifiedAt  // 원 판정 시각
+) {}
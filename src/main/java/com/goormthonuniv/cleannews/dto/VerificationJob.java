@@ -0,0 +1,25 @@
+package com.goormthonuniv.cleannews.dto;
+
+import java.time.OffsetDateTime;
+
+public record VerificationJob(
+        String id,
+        String status,                // QUEUED | RUNNING | DONE | FAILED
+        OffsetDateTime submittedAt,
+        OffsetDateTime completedAt,   // DONE/FAILED 일 때만
+        String callbackUrl,           // 선택: 완료 시 결과 POST 대상
+        VerificationResponse result,  // DONE 일 때만
+        String error                  // FAILED 일 때만
+) {
+    public VerificationJob withStatus(String status) {
+        return new VerificationJob(id, status, submittedAt, completedAt, callbackUrl, result, error);
+    }
+
+    public VerificationJob done(VerificationResponse result) {
+        return new VerificationJob(id, "DONE", submittedAt, OffsetDateTime.now(), callbackUrl, result, null);
+    }
+
+    public VerificationJob failed(String error) {
+        return new VerificationJob(id, "FAILED", submittedAt, OffsetDateTime.now(), callbackUrl, null, error);
+    }
+}
@@ -8,5 +8,23 @@ public record VerificationResponse(
         String rationale,        // 판단 근거 요약
         String consensusSummary, // 상위 레퍼런스 종합 한줄 요약(간이)
         String normalizedText,   // 정규화된 피드 텍스트(최종 비교 대상)
-        List<Evidence> evidences // 상위 N개 근거
-) {}
\ No newline at end of file
+        List<Evidence> evidences, // 상위 N개 근거
+        NearDuplicateMatch nearDuplicate, // 유사 게시물 판정 재사용 시에만 (없으면 null)
+        Boolean degraded,        // 시간 예산 부족/호출 한도로 일부 단계를 건너뛴 best-effort 판정이면 true (아니면 null)
+        List<String> skippedStages // degraded 일 때 건너뛴 단계: search | fallback | llm
+) {
+    public VerificationResponse(String verdict, int confidence, String rationale, String consensusSummary,
+                                String normalizedText, List<Evidence> evidences) {
+        this(verdict, confidence, rationale, consensusSummary, normalizedText, evidences, null, null, null);
+    }
+
+    public VerificationResponse withNearDuplicate(NearDuplicateMatch match) {
+        return new VerificationResponse(verdict, confidence, rationale, consensusSummary, normalizedText, evidences,
+                match, degraded, skippedStages);
+    }
+
+    public VerificationResponse withSkipped(List<String> stages) {
+        return new VerificationResponse(verdict, confidence, rationale, consensusSummary, normalizedText, evidences,
+                nearDuplicate, true, List.copyOf(stages));
+    }
+}
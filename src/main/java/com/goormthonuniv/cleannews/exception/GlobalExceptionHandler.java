@@ -1,10 +1,12 @@
 package com.goormthonuniv.cleannews.exception;
 
+import com.goormthonuniv.cleannews.resilience.OverloadedException;
 import org.springframework.http.*;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -18,6 +20,26 @@ public class GlobalExceptionHandler {
         ));
     }
 
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<?> handleRejected(RejectedExecutionException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(Map.of(
+                        "error", "QUEUE_FULL",
+                        "message", "처리 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요."
+                ));
+    }
+
+    @ExceptionHandler(OverloadedException.class)
+    public ResponseEntity<?> handleOverloaded(OverloadedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of(
+                        "error", "OVERLOADED",
+                        "message", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."
+                ));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<?> handleGeneric(Exception e) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of(
@@ -0,0 +1,204 @@
+package com.goormthonuniv.cleannews.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 외부 호출(검색 API / OpenAI) 공용 HTTP 계층.
+ * - JDK HttpClient 하나를 모든 대상이 공유: 호스트별 keep-alive 커넥션 재사용 + HTTP/2 멀티플렉싱(ALPN 협상)
+ * - 대상(target)별 read timeout: cleannews.http.targets.{target}.readTimeoutMs (없으면 기본값)
+ * - 대상별 메트릭: cleannews.http.inflight(동시 요청 수), cleannews.http.outbound(지연/상태코드)
+ * - 사용자 지정 URL(웹훅)은 postPinned: 검증한 주소로만 접속, 리다이렉트 없음
+ */
+@Component
+public class OutboundHttp {
+
+    private final HttpClient client;
+    private final RestClient.Builder builder;
+    private final Environment env;
+    private final MeterRegistry registry;
+    private final long connectTimeoutMs;
+    private final long defaultReadTimeoutMs;
+
+    private final Map<String, RestClient> restClients = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> inflight = new ConcurrentHashMap<>();
+
+    public OutboundHttp(RestClient.Builder builder,
+                        Environment env,
+                        MeterRegistry registry,
+                        @Value("${cleannews.http.connectTimeoutMs:2000}") long connectTimeoutMs,
+                        @Value("${cleannews.http.readTimeoutMs:5000}") long defaultReadTimeoutMs,
+                        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        HttpClient.Builder b = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL);
+        if (virtualThreads) b.executor(Executors.newVirtualThreadPerTaskExecutor());
+        this.client = b.build();
+        this.builder = builder;
+        this.env = env;
+        this.registry = registry;
+        this.connectTimeoutMs = connectTimeoutMs;
+        this.defaultReadTimeoutMs = defaultReadTimeoutMs;
+    }
+
+    /** 대상별 RestClient (공유 HttpClient 위에 read timeout/메트릭만 다르게) */
+    public RestClient restClient(String target) {
+        return restClients.computeIfAbsent(target, t -> build(client, t));
+    }
+
+    private RestClient build(HttpClient httpClient, String target) {
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(readTimeout(target));
+        return builder.clone()
+                .requestFactory(factory)
+                .requestInterceptor(track(target))
+                .build();
+    }
+
+    /** raw HttpClient 경로(OpenAiVerifier 등): 대상별 timeout 적용 + 메트릭 기록 */
+    public <T> HttpResponse<T> send(String target, HttpRequest.Builder request, HttpResponse.BodyHandler<T> handler)
+            throws IOException, InterruptedException {
+        AtomicInteger n = inflight(target);
+        n.incrementAndGet();
+        long start = System.nanoTime();
+        String status = "IO_ERROR";
+        try {
+            HttpResponse<T> res = client.send(request.timeout(readTimeout(target)).build(), handler);
+            status = String.valueOf(res.statusCode());
+            return res;
+        } finally {
+            n.decrementAndGet();
+            record(target, status, start);
+        }
+    }
+
+    /**
+     * 검증한 주소(address)로만 접속하는 POST — 사용자가 지정한 URL(웹훅)용.
+     * HttpClient 는 접속 시 host 를 다시 해석하므로 검사와 접속 사이에 DNS 가 내부 주소로 바뀌면(DNS rebinding) 막을 수 없다.
+     * 그래서 소켓을 직접 열고, Host 헤더와 TLS(SNI/인증서 검증)는 원래 host 로 보낸다. 리다이렉트는 따라가지 않음.
+     * @return 응답 상태 코드
+     */
+    public int postPinned(String target, URI uri, InetAddress address, String contentType, byte[] body) throws IOException {
+        boolean https = "https".equalsIgnoreCase(uri.getScheme());
+        int port = uri.getPort() != -1 ? uri.getPort() : (https ? 443 : 80);
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        if (uri.getRawQuery() != null) path += "?" + uri.getRawQuery();
+        String head = "POST " + path + " HTTP/1.1\r\n"
+                + "Host: " + (uri.getPort() == -1 ? uri.getHost() : uri.getHost() + ":" + port) + "\r\n"
+                + "Content-Type: " + contentType + "\r\n"
+                + "Content-Length: " + body.length + "\r\n"
+                + "Connection: close\r\n\r\n";
+
+        AtomicInteger n = inflight(target);
+        n.incrementAndGet();
+        long start = System.nanoTime();
+        String status = "IO_ERROR";
+        try (Socket socket = connect(uri.getHost(), address, port, https, (int) readTimeout(target).toMillis())) {
+            OutputStream out = socket.getOutputStream();
+            out.write(head.getBytes(StandardCharsets.US_ASCII));
+            out.write(body);
+            out.flush();
+            // 상태 줄만 읽음 ("HTTP/1.1 204 No Content")
+            String line = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII)).readLine();
+            String[] parts = line == null ? new String[0] : line.split(" ", 3);
+            if (parts.length < 2 || !parts[0].startsWith("HTTP/")) throw new IOException("malformed status line: " + line);
+            try {
+                int code = Integer.parseInt(parts[1]);
+                status = String.valueOf(code);
+                return code;
+            } catch (NumberFormatException e) {
+                throw new IOException("malformed status line: " + line, e);
+            }
+        } finally {
+            n.decrementAndGet();
+            record(target, status, start);
+        }
+    }
+
+    private Socket connect(String host, InetAddress address, int port, boolean https, int readTimeoutMs) throws IOException {
+        Socket plain = new Socket();
+        try {
+            plain.connect(new InetSocketAddress(address, port), (int) connectTimeoutMs);
+            plain.setSoTimeout(readTimeoutMs);
+            if (!https) return plain;
+            String tlsHost = host.startsWith("[") ? host.substring(1, host.length() - 1) : host; // IPv6 리터럴
+            SSLSocket tls = (SSLSocket) ((SSLSocketFactory) SSLSocketFactory.getDefault())
+                    .createSocket(plain, tlsHost, port, true);
+            SSLParameters params = tls.getSSLParameters();
+            params.setEndpointIdentificationAlgorithm("HTTPS"); // 인증서는 접속 주소가 아니라 원래 host 기준으로 검증
+            tls.setSSLParameters(params);
+            tls.startHandshake();
+            return tls;
+        } catch (IOException e) {
+            plain.close();
+            throw e;
+        }
+    }
+
+    public Duration readTimeout(String target) {
+        return Duration.ofMillis(env.getProperty(
+                "cleannews.http.targets." + target + ".readTimeoutMs", Long.class, defaultReadTimeoutMs));
+    }
+
+    // ===== metrics =====
+
+    private ClientHttpRequestInterceptor track(String target) {
+        return (request, body, execution) -> {
+            AtomicInteger n = inflight(target);
+            n.incrementAndGet();
+            long start = System.nanoTime();
+            String status = "IO_ERROR";
+            try {
+                var res = execution.execute(request, body);
+                status = String.valueOf(res.getStatusCode().value());
+                return res;
+            } finally {
+                n.decrementAndGet();
+                record(target, status, start);
+            }
+        };
+    }
+
+    private AtomicInteger inflight(String target) {
+        return inflight.computeIfAbsent(target, t ->
+                registry.gauge("cleannews.http.inflight", Tags.of("target", t), new AtomicInteger()));
+    }
+
+    private void record(String target, String status, long startNanos) {
+        Timer.builder("cleannews.http.outbound")
+                .tags("target", target, "status", status)
+                .register(registry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,109 @@
+package com.goormthonuniv.cleannews.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.*;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * jfr 액추에이터 엔드포인트 — 에이전트 없이 운영 중 JFR 녹화 시작/중지.
+ * HTTP 로는 노출하지 않고 JMX 로만 노출 (org.springframework.boot:type=Endpoint,name=Jfr, 로컬 jconsole/jmc 등).
+ * 인증 없는 공개 포트에서 녹화를 조작하거나 디스크를 채울 수 없도록 하기 위함.
+ * - status: 상태
+ * - start(settings=profile|default, maxAgeSeconds=600): 녹화 시작 (JDK 이벤트 + cleannews.* 커스텀 이벤트)
+ * - stop: 중지 후 cleannews.jfr.dir 에 .jfr 파일로 저장, 경로 반환 (JDK Mission Control 로 분석)
+ * JDK 설정 위에 jfr/cleannews.jfc 를 덮어써서 환경변수/시스템 프로퍼티/JVM 인자 이벤트(비밀값 포함)는 녹화하지 않는다.
+ */
+@Component
+@Endpoint(id = "jfr")
+public class JfrEndpoint {
+
+    private static final DateTimeFormatter TS = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final String OVERLAY = "/jfr/cleannews.jfc";
+
+    private final Path dir;
+    private Recording recording;
+
+    public JfrEndpoint(@Value("${cleannews.jfr.dir:${java.io.tmpdir}}") String dir) {
+        this.dir = Path.of(dir);
+    }
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("recording", recording != null);
+        if (recording != null) {
+            m.put("name", recording.getName());
+            m.put("startTime", recording.getStartTime());
+            m.put("state", recording.getState().name());
+        }
+        return m;
+    }
+
+    @WriteOperation
+    public synchronized Map<String, Object> start(@OptionalParameter String settings,
+                                                  @OptionalParameter Long maxAgeSeconds) throws IOException, ParseException {
+        if (recording != null) return status();
+        String base = settings != null ? settings : "profile";
+        if (!base.equals("profile") && !base.equals("default")) {
+            throw new IllegalArgumentException("settings must be profile or default");
+        }
+        Recording r = new Recording(settings(base));
+        r.setName("cleannews-" + LocalDateTime.now().format(TS));
+        r.setMaxAge(Duration.ofSeconds(maxAgeSeconds != null ? maxAgeSeconds : 600));
+        r.setToDisk(true);
+        r.enable(StageEvent.class);
+        r.enable(SearchEvent.class);
+        r.enable(OutboundCallEvent.class);
+        r.start();
+        recording = r;
+        return status();
+    }
+
+    /** JDK 기본 설정 + cleannews.jfc 오버레이 (오버레이가 우선) */
+    static Map<String, String> settings(String base) throws IOException, ParseException {
+        Map<String, String> merged = new HashMap<>(Configuration.getConfiguration(base).getSettings());
+        try (InputStream in = JfrEndpoint.class.getResourceAsStream(OVERLAY)) {
+            if (in == null) throw new IOException("missing " + OVERLAY);
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                merged.putAll(Configuration.create(reader).getSettings());
+            }
+        }
+        return merged;
+    }
+
+    @DeleteOperation
+    public synchronized Map<String, Object> stop() throws IOException {
+        if (recording == null) return status();
+        Recording r = recording;
+        recording = null;
+        Files.createDirectories(dir);
+        Path file = dir.resolve(r.getName() + ".jfr");
+        try {
+            r.stop();
+            r.dump(file);
+        } finally {
+            r.close();
+        }
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("file", file.toAbsolutePath().toString());
+        m.put("bytes", Files.size(file));
+        return m;
+    }
+}
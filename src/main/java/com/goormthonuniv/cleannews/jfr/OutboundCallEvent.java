@@ -0,0 +1,67 @@
+package com.goormthonuniv.cleannews.jfr;
+
+import com.goormthonuniv.cleannews.logging.CorrelationIdFilter;
+import jdk.jfr.*;
+import org.slf4j.MDC;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/** 외부 호출 1회 (검색 어댑터 / LLM judge / LLM-only verifier), 브레이커·재시도·헤지 포함 */
+@Name("cleannews.OutboundCall")
+@Label("Outbound Call")
+@Category({"CleanNews", "Outbound"})
+@StackTrace(false)
+public class OutboundCallEvent extends Event {
+
+    @Label("Target")
+    public String target;
+
+    @Label("Query Length")
+    public int queryLength;
+
+    @Label("Hit Count")
+    public int hits;
+
+    @Label("Outcome")
+    public String outcome;
+
+    @Label("Error Class")
+    public String errorClass;
+
+    @Label("Request Id")
+    public String requestId;
+
+    /** 요청 id 는 시작 스레드의 MDC 에서 (완료 스레드에는 MDC 가 없을 수 있음) */
+    public static OutboundCallEvent start(String target, int queryLength) {
+        OutboundCallEvent e = new OutboundCallEvent();
+        e.target = target;
+        e.queryLength = queryLength;
+        if (e.isEnabled()) e.requestId = MDC.get(CorrelationIdFilter.MDC_KEY);
+        e.begin();
+        return e;
+    }
+
+    /** outcome: success | error | skipped */
+    public void finish(int hits, String outcome) {
+        finish(hits, outcome, null);
+    }
+
+    /** error: 실패/건너뜀 원인 (CompletionException 등 래퍼는 벗겨서 클래스명 기록) */
+    public void finish(int hits, String outcome, Throwable error) {
+        end();
+        if (shouldCommit()) {
+            this.hits = hits;
+            this.outcome = outcome;
+            this.errorClass = error == null ? null : unwrap(error).getClass().getName();
+            commit();
+        }
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        while ((e instanceof CompletionException || e instanceof ExecutionException) && e.getCause() != null) {
+            e = e.getCause();
+        }
+        return e;
+    }
+}
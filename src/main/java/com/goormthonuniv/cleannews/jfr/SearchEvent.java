@@ -0,0 +1,42 @@
+package com.goormthonuniv.cleannews.jfr;
+
+import com.goormthonuniv.cleannews.logging.CorrelationIdFilter;
+import jdk.jfr.*;
+import org.slf4j.MDC;
+
+/** 1차 검색 (searchCache 경유) — 캐시 hit 이면 진행 중/완료된 검색 결과 대기 시간 */
+@Name("cleannews.Search")
+@Label("Primary Search")
+@Category({"CleanNews", "Verification"})
+@StackTrace(false)
+public class SearchEvent extends Event {
+
+    @Label("Query Length")
+    public int queryLength;
+
+    @Label("Hit Count")
+    public int hits;
+
+    @Label("Cache Hit")
+    public boolean cacheHit;
+
+    @Label("Request Id")
+    public String requestId;
+
+    public static SearchEvent start(int queryLength, boolean cacheHit) {
+        SearchEvent e = new SearchEvent();
+        e.queryLength = queryLength;
+        e.cacheHit = cacheHit;
+        if (e.isEnabled()) e.requestId = MDC.get(CorrelationIdFilter.MDC_KEY);
+        e.begin();
+        return e;
+    }
+
+    public void finish(int hits) {
+        end();
+        if (shouldCommit()) {
+            this.hits = hits;
+            commit();
+        }
+    }
+}
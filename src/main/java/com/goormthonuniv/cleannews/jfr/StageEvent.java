@@ -0,0 +1,17 @@
+package com.goormthonuniv.cleannews.jfr;
+
+import jdk.jfr.*;
+
+/** 검증 파이프라인 단계 1회 실행 (normalize, keywords, search_primary, ...) */
+@Name("cleannews.Stage")
+@Label("Verification Stage")
+@Category({"CleanNews", "Verification"})
+@StackTrace(false)
+public class StageEvent extends Event {
+
+    @Label("Stage")
+    public String stage;
+
+    @Label("Request Id")
+    public String requestId;
+}
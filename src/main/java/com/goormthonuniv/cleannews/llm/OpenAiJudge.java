@@ -1,5 +1,6 @@
 package com.goormthonuniv.cleannews.llm;
 
+import com.goormthonuniv.cleannews.http.OutboundHttp;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
@@ -12,15 +13,18 @@ import java.util.Map;
 public class OpenAiJudge implements LlmJudge {
 
     private final RestClient rest;
+    private final String endpoint;
     private final String apiKey;
     private final String model;
     private final String provider;
 
-    public OpenAiJudge(RestClient.Builder builder,                    // ✅ Builder 주입
+    public OpenAiJudge(OutboundHttp http,                             // 공용 HTTP 계층(풀/HTTP2)
+                       @Value("${cleannews.ai.openai.endpoint:https://api.openai.com/v1/chat/completions}") String endpoint,
                        @Value("${cleannews.ai.openai.apiKey:}") String apiKey,
                        @Value("${cleannews.ai.openai.model:gpt-4o-mini}") String model,
                        @Value("${cleannews.ai.provider:none}") String provider) {
-        this.rest = builder.build();                                  // ✅ 여기서 build()
+        this.rest = http.restClient("openai");
+        this.endpoint = endpoint;
         this.apiKey = apiKey;
         this.model = model;
         this.provider = provider;
@@ -30,31 +34,36 @@ public class OpenAiJudge implements LlmJudge {
     public double judge(String claim, String evidence) {
         if (!"openai".equalsIgnoreCase(provider) || apiKey == null || apiKey.isBlank()) return 0.0;
 
+        Map<String, Object> body = Map.of(
+                "model", model,
+                "messages", List.of(
+                        Map.of("role","system","content",
+                                "You are a cautious fact-checking assistant. Return a single number between -1.0 and 1.0: negative means likely false, positive means likely true, near 0 means unsure."),
+                        Map.of("role","user","content",
+                                "CLAIM:\n" + claim + "\n\nEVIDENCE SNIPPETS:\n" + evidence + "\n\nReturn ONLY the number.")
+                ),
+                "temperature", 0
+        );
+
+        Map<?,?> res = rest.post()
+                .uri(endpoint)
+                .header("Authorization", "Bearer " + apiKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body)
+                .retrieve().body(Map.class);
+
+        // HTTP/IO 오류는 그대로 전파(브레이커 집계), 응답 형식 문제만 0(불확실)으로 처리
+        return parseScore(res);
+    }
+
+    /** choices[0].message.content 의 숫자. 형식이 다르면(오류 모양의 200 응답 등) 0(불확실) */
+    static double parseScore(Map<?, ?> res) {
         try {
-            Map<String, Object> body = Map.of(
-                    "model", model,
-                    "messages", List.of(
-                            Map.of("role","system","content",
-                                    "You are a cautious fact-checking assistant. Return a single number between -1.0 and 1.0: negative means likely false, positive means likely true, near 0 means unsure."),
-                            Map.of("role","user","content",
-                                    "CLAIM:\n" + claim + "\n\nEVIDENCE SNIPPETS:\n" + evidence + "\n\nReturn ONLY the number.")
-                    ),
-                    "temperature", 0
-            );
-
-            Map<?,?> res = rest.post()
-                    .uri("https://api.openai.com/v1/chat/completions")
-                    .header("Authorization", "Bearer " + apiKey)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(body)
-                    .retrieve().body(Map.class);
-
-            var choices = (List<Map<String, Object>>) res.get("choices");
-            if (choices == null || choices.isEmpty()) return 0.0;
-            String txt = ((Map<String, String>) choices.get(0).get("message")).get("content");
-            return Double.parseDouble(txt.trim());
-        } catch (Exception e) {
+            var choices = (List<?>) res.get("choices");
+            var message = (Map<?, ?>) ((Map<?, ?>) choices.get(0)).get("message");
+            return Double.parseDouble(((String) message.get("content")).trim());
+        } catch (RuntimeException e) {
             return 0.0;
         }
     }
-}
\ No newline at end of file
+}
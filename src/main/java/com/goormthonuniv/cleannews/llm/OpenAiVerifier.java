@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.goormthonuniv.cleannews.dto.Evidence;
 import com.goormthonuniv.cleannews.dto.FeedVerificationRequest;
 import com.goormthonuniv.cleannews.dto.VerificationResponse;
+import com.goormthonuniv.cleannews.http.OutboundHttp;
 import com.goormthonuniv.cleannews.verify.DomainTrustPolicy;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,7 +13,6 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.OffsetDateTime;
@@ -31,6 +31,10 @@ public class OpenAiVerifier {
     @Value("${cleannews.ai.openai.model:gpt-4o-mini}")
     private String model;
 
+    @Value("${cleannews.ai.openai.endpoint:https://api.openai.com/v1/chat/completions}")
+    private String endpoint;
+
+    private final OutboundHttp http;
     private final ObjectMapper om = new ObjectMapper();
     private final DomainTrustPolicy trust = new DomainTrustPolicy();
 
@@ -53,15 +57,14 @@ public class OpenAiVerifier {
                     "response_format", Map.of("type","json_object")
             );
 
-            HttpRequest httpReq = HttpRequest.newBuilder()
-                    .uri(URI.create("https://api.openai.com/v1/chat/completions"))
+            HttpRequest.Builder httpReq = HttpRequest.newBuilder()
+                    .uri(URI.create(endpoint))
                     .header("Authorization", "Bearer " + apiKey)
                     .header("Content-Type", "application/json")
-                    .POST(HttpRequest.BodyPublishers.ofString(om.writeValueAsString(body)))
-                    .build();
+                    .POST(HttpRequest.BodyPublishers.ofString(om.writeValueAsString(body)));
 
-            HttpResponse<String> httpRes = HttpClient.newHttpClient()
-                    .send(httpReq, HttpResponse.BodyHandlers.ofString());
+            // 공용 HttpClient 재사용(커넥션/TLS 세션 재사용, HTTP/2)
+            HttpResponse<String> httpRes = http.send("openai", httpReq, HttpResponse.BodyHandlers.ofString());
             if (httpRes.statusCode() / 100 != 2) {
                 return fail("OpenAI API error: " + httpRes.statusCode() + " " + httpRes.body());
             }
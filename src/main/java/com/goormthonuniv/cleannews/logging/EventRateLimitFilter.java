@@ -0,0 +1,65 @@
+package com.goormthonuniv.cleannews.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이벤트 종류별 로그 샘플링 + 초당 상한 (appender 필터 — AsyncAppender 큐에 넣기 전에 버림).
+ * TurboFilter 는 SLF4J fluent API(log.atInfo()…log("event"))의 레벨 확인 단계에서 format 없이 불려
+ * 이벤트를 구분할 수 없으므로, 이벤트가 만들어진 뒤 appender 단계에서 거른다.
+ * - 이벤트 종류 = 로그 메시지 (예: "search.primary", "adapter.error")
+ * - rule: "이벤트,샘플비율,초당상한" (예: search.primary,0.1,50). 규칙 없는 이벤트는 그대로 통과
+ *   (카운터는 규칙 수만큼만 → 메시지 종류가 늘어도 메모리 고정)
+ * - ERROR 는 항상 통과
+ * logback-spring.xml 에서 설정.
+ */
+public class EventRateLimitFilter extends Filter<ILoggingEvent> {
+
+    private record Rule(double sampleRate, long perSecond, Window window) {}
+
+    /** 초 단위 고정 윈도우 카운터: 상위 32bit = epoch second, 하위 32bit = count */
+    private static final class Window {
+        final AtomicLong state = new AtomicLong();
+
+        boolean tryAcquire(long perSecond) {
+            long sec = System.currentTimeMillis() / 1000;
+            while (true) {
+                long s = state.get();
+                long count = (s >>> 32) == sec ? (s & 0xffffffffL) : 0;
+                if (count >= perSecond) return false;
+                if (state.compareAndSet(s, (sec << 32) | (count + 1))) return true;
+            }
+        }
+    }
+
+    private final Map<String, Rule> rules = new ConcurrentHashMap<>();
+
+    /** logback &lt;rule&gt; 반복 요소 */
+    public void addRule(String rule) {
+        String[] parts = rule.trim().split("\\s*,\\s*");
+        if (parts.length != 3) {
+            addWarn("invalid rule (expected event,sampleRate,perSecond): " + rule);
+            return;
+        }
+        rules.put(parts[0], new Rule(Double.parseDouble(parts[1]), Long.parseLong(parts[2]), new Window()));
+    }
+
+    @Override
+    public FilterReply decide(ILoggingEvent event) {
+        if (!isStarted() || event.getLevel().isGreaterOrEqual(Level.ERROR)) return FilterReply.NEUTRAL;
+
+        Rule rule = rules.get(event.getMessage());
+        if (rule == null) return FilterReply.NEUTRAL;
+        if (rule.sampleRate() < 1.0 && ThreadLocalRandom.current().nextDouble() >= rule.sampleRate()) {
+            return FilterReply.DENY;
+        }
+        return rule.window().tryAcquire(rule.perSecond()) ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+}
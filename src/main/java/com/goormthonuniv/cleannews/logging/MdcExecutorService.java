@@ -0,0 +1,53 @@
+package com.goormthonuniv.cleannews.logging;
+
+import org.slf4j.MDC;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 작업 제출 시점의 MDC(요청 id 등)를 실행 스레드로 옮겨 주는 ExecutorService 래퍼.
+ * submit/invokeAll 등은 AbstractExecutorService 가 execute 로 모아 주므로 execute 만 감싸면 된다.
+ */
+public final class MdcExecutorService extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+
+    private MdcExecutorService(ExecutorService delegate) {
+        this.delegate = delegate;
+    }
+
+    public static ExecutorService wrap(ExecutorService delegate) {
+        return new MdcExecutorService(delegate);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        delegate.execute(() -> {
+            // CallerRuns 로 호출 스레드에서 돌 수도 있으므로 이전 MDC 를 복원
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            if (context != null) MDC.setContextMap(context);
+            else MDC.clear();
+            try {
+                task.run();
+            } finally {
+                if (previous != null) MDC.setContextMap(previous);
+                else MDC.clear();
+            }
+        });
+    }
+
+    @Override public void shutdown() { delegate.shutdown(); }
+    @Override public List<Runnable> shutdownNow() { return delegate.shutdownNow(); }
+    @Override public boolean isShutdown() { return delegate.isShutdown(); }
+    @Override public boolean isTerminated() { return delegate.isTerminated(); }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
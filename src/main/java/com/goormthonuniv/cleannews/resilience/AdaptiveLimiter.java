@@ -0,0 +1,115 @@
+package com.goormthonuniv.cleannews.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 검증 API 동시 처리 상한을 지연 시간 변화로 자동 조절 (gradient 방식).
+ * - shortRtt(최근 EMA) 가 longRtt(장기 EMA) 보다 커지면 = 대기열이 쌓이는 중 → limit 축소
+ * - 지연이 안정적이면 limit + sqrt(limit) 만큼 여유를 둬 천천히 확장
+ * - in-flight 가 limit 의 절반도 안 되면(트래픽 부족) 확장하지 않음
+ * RTT 는 파이프라인을 실제로 실행한 요청만 표본으로 쓴다 (Permit.sample). 판정 캐시/유사 게시물 hit(수 ms)이
+ * 섞이면 hit 비율이 바뀔 때마다 EMA 가 흔들려, 지연이 그대로여도 limit 이 줄거나 늘기 때문.
+ */
+@Component
+public class AdaptiveLimiter {
+
+    /** 처리 슬롯. 완료 시 한 번만 release (중복 호출 무시) */
+    public final class Permit {
+        private final long start = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+        private volatile boolean sampled;
+
+        /** 이 요청의 처리 시간을 limit 조절에 반영 (캐시 hit 로 끝나지 않고 파이프라인을 실행한 경우) */
+        public void sample() {
+            sampled = true;
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) onRelease(sampled ? System.nanoTime() - start : -1);
+        }
+    }
+
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Counter shedToCache;
+    private final Counter shedRejected;
+
+    private volatile double limit;
+    private double shortRtt;
+    private double longRtt;
+
+    public AdaptiveLimiter(MeterRegistry registry,
+                           @Value("${cleannews.limiter.enabled:true}") boolean enabled,
+                           @Value("${cleannews.limiter.initialLimit:50}") int initialLimit,
+                           @Value("${cleannews.limiter.minLimit:8}") int minLimit,
+                           @Value("${cleannews.limiter.maxLimit:400}") int maxLimit,
+                           @Value("${cleannews.limiter.tolerance:1.5}") double tolerance,
+                           @Value("${cleannews.limiter.smoothing:0.2}") double smoothing) {
+        this.enabled = enabled;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        Gauge.builder("cleannews.limiter.limit", this, l -> l.limit).register(registry);
+        Gauge.builder("cleannews.limiter.inflight", inflight, AtomicInteger::get).register(registry);
+        this.shedToCache = Counter.builder("cleannews.limiter.rejected").tag("outcome", "cache").register(registry);
+        this.shedRejected = Counter.builder("cleannews.limiter.rejected").tag("outcome", "503").register(registry);
+    }
+
+    /** 상한 미만이면 슬롯 확보, 아니면 empty (호출자가 캐시 응답/503 결정) */
+    public Optional<Permit> tryAcquire() {
+        if (!enabled) return Optional.of(new Permit());
+        while (true) {
+            int n = inflight.get();
+            if (n >= (int) limit) return Optional.empty();
+            if (inflight.compareAndSet(n, n + 1)) return Optional.of(new Permit());
+        }
+    }
+
+    /** 상한 초과 요청 처리 결과 기록 (캐시 응답 / 503) */
+    public void rejected(boolean servedFromCache) {
+        (servedFromCache ? shedToCache : shedRejected).increment();
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    /** rttNanos < 0: 표본 없이 슬롯만 반납 */
+    private void onRelease(long rttNanos) {
+        if (!enabled) return;
+        int n = inflight.getAndDecrement();
+        if (rttNanos >= 0) update(rttNanos, n);
+    }
+
+    private synchronized void update(double rtt, int inflightAtRelease) {
+        if (longRtt == 0) {
+            shortRtt = longRtt = rtt;
+            return;
+        }
+        shortRtt += (rtt - shortRtt) * (2.0 / (10 + 1));
+        longRtt += (rtt - longRtt) * (2.0 / (600 + 1));
+        // 부하가 빠진 뒤 장기 평균이 과거 고지연에 묶이지 않도록 천천히 끌어내림
+        if (longRtt / shortRtt > 2.0) longRtt *= 0.95;
+
+        if (inflightAtRelease < limit / 2) return; // 트래픽 부족 → 판단 근거 없음
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / shortRtt));
+        double next = limit * gradient + Math.sqrt(limit);
+        next = limit * (1 - smoothing) + next * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+}
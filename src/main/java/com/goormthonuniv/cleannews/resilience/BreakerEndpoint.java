@@ -0,0 +1,22 @@
+package com.goormthonuniv.cleannews.resilience;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/** GET /actuator/breakers — 대상별 브레이커 상태/실패율/p99/현재 timeout + 재시도 예산 잔고 */
+@Component
+@Endpoint(id = "breakers")
+@RequiredArgsConstructor
+public class BreakerEndpoint {
+
+    private final Resilience resilience;
+
+    @ReadOperation
+    public Map<String, Object> breakers() {
+        return resilience.snapshot();
+    }
+}
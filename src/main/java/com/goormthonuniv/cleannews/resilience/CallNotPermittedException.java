@@ -0,0 +1,9 @@
+package com.goormthonuniv.cleannews.resilience;
+
+/** 서킷 브레이커가 열려 있어 호출하지 않음 */
+public class CallNotPermittedException extends RuntimeException {
+
+    public CallNotPermittedException(String name) {
+        super("circuit breaker open: " + name);
+    }
+}
@@ -0,0 +1,128 @@
+package com.goormthonuniv.cleannews.resilience;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 개수 기반 슬라이딩 윈도우 서킷 브레이커.
+ * - CLOSED: 최근 windowSize 건 중 실패율 또는 느린 호출 비율이 임계치를 넘으면 OPEN
+ * - OPEN: openMs 동안 호출 차단 → 이후 HALF_OPEN
+ * - HALF_OPEN: halfOpenCalls 건만 시험 호출, 모두 정상이면 CLOSED / 하나라도 실패·지연이면 다시 OPEN
+ */
+public final class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    public record Settings(int windowSize, int minCalls, double failureRate, double slowCallRate,
+                           long slowCallMs, long openMs, int halfOpenCalls) {}
+
+    private final Settings s;
+    private final LongSupplier nanoTime;
+    private final boolean[] failed;
+    private final boolean[] slow;
+    private int idx, count, failures, slows;
+
+    private State state = State.CLOSED;
+    private long stateSince;
+    private int halfOpenPermits, halfOpenSuccesses;
+
+    public CircuitBreaker(Settings s) {
+        this(s, System::nanoTime);
+    }
+
+    /** nanoTime: 테스트용 시계 */
+    CircuitBreaker(Settings s, LongSupplier nanoTime) {
+        this.s = s;
+        this.nanoTime = nanoTime;
+        this.stateSince = nanoTime.getAsLong();
+        this.failed = new boolean[s.windowSize()];
+        this.slow = new boolean[s.windowSize()];
+    }
+
+    /** 호출 허용 여부 (HALF_OPEN 이면 시험 호출 permit 을 소비) */
+    public synchronized boolean tryAcquire() {
+        long now = nanoTime.getAsLong();
+        if (state == State.OPEN) {
+            if (now - stateSince < s.openMs() * 1_000_000L) return false;
+            transition(State.HALF_OPEN, now);
+        }
+        if (state == State.HALF_OPEN) {
+            // 시험 호출이 결과 없이 사라진 경우(취소 등) openMs 후 permit 재발급
+            if (halfOpenPermits >= s.halfOpenCalls() && now - stateSince >= s.openMs() * 1_000_000L) {
+                transition(State.HALF_OPEN, now);
+            }
+            if (halfOpenPermits >= s.halfOpenCalls()) return false;
+            halfOpenPermits++;
+        }
+        return true;
+    }
+
+    /** tryAcquire 가 허용할 상태인지 (HALF_OPEN 시험 permit 을 소비하지 않음) — 호출 한도 토큰/쿼터를 쓰기 전 확인용 */
+    public synchronized boolean isCallPermitted() {
+        long sinceNanos = nanoTime.getAsLong() - stateSince;
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> sinceNanos >= s.openMs() * 1_000_000L;
+            case HALF_OPEN -> halfOpenPermits < s.halfOpenCalls() || sinceNanos >= s.openMs() * 1_000_000L;
+        };
+    }
+
+    public synchronized void record(long nanos, boolean success) {
+        boolean isSlow = nanos > s.slowCallMs() * 1_000_000L;
+        switch (state) {
+            case HALF_OPEN -> {
+                if (!success || isSlow) {
+                    transition(State.OPEN, nanoTime.getAsLong());
+                } else if (++halfOpenSuccesses >= s.halfOpenCalls()) {
+                    transition(State.CLOSED, nanoTime.getAsLong());
+                }
+            }
+            case CLOSED -> {
+                if (count == failed.length) {
+                    if (failed[idx]) failures--;
+                    if (slow[idx]) slows--;
+                } else {
+                    count++;
+                }
+                failed[idx] = !success;
+                slow[idx] = isSlow;
+                if (!success) failures++;
+                if (isSlow) slows++;
+                idx = (idx + 1) % failed.length;
+                if (count >= s.minCalls()
+                        && (failures >= s.failureRate() * count || slows >= s.slowCallRate() * count)) {
+                    transition(State.OPEN, nanoTime.getAsLong());
+                }
+            }
+            case OPEN -> { } // 차단 전에 출발한 늦은 응답은 무시
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    public synchronized double failureRate() {
+        return count == 0 ? 0.0 : (double) failures / count;
+    }
+
+    public synchronized double slowCallRate() {
+        return count == 0 ? 0.0 : (double) slows / count;
+    }
+
+    public synchronized int calls() {
+        return count;
+    }
+
+    private void transition(State next, long now) {
+        state = next;
+        stateSince = now;
+        halfOpenPermits = 0;
+        halfOpenSuccesses = 0;
+        if (next != State.OPEN) {
+            // 새 상태는 깨끗한 윈도우로 시작
+            java.util.Arrays.fill(failed, false);
+            java.util.Arrays.fill(slow, false);
+            idx = count = failures = slows = 0;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.goormthonuniv.cleannews.resilience;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/** 일일 호출 한도 (zone 기준 자정에 초기화) */
+final class DailyQuota {
+
+    private final long limit;
+    private final Clock clock;
+    private LocalDate day;
+    private long used;
+
+    DailyQuota(long limit, ZoneId zone) {
+        this(limit, Clock.system(zone));
+    }
+
+    /** clock 의 zone 기준 자정 초기화 (테스트용 시계) */
+    DailyQuota(long limit, Clock clock) {
+        this.limit = limit;
+        this.clock = clock;
+        this.day = LocalDate.now(clock);
+    }
+
+    synchronized boolean tryConsume() {
+        rollover();
+        if (used >= limit) return false;
+        used++;
+        return true;
+    }
+
+    /** 예약 취소 (토큰 대기 초과 등으로 실제 호출하지 않은 경우) */
+    synchronized void refund() {
+        rollover();
+        if (used > 0) used--;
+    }
+
+    synchronized long remaining() {
+        rollover();
+        return limit - used;
+    }
+
+    synchronized long used() {
+        rollover();
+        return used;
+    }
+
+    private void rollover() {
+        LocalDate today = LocalDate.now(clock);
+        if (!today.equals(day)) {
+            day = today;
+            used = 0;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.goormthonuniv.cleannews.resilience;
+
+import io.micrometer.core.instrument.Counter;
+
+/**
+ * 외부 의존성(어댑터/LLM) 하나의 보호 상태: 브레이커 + 관측 지연(p99 기반 timeout, p95 기반 헤지).
+ */
+public final class Guard {
+
+    private final String name;
+    private final CircuitBreaker breaker;
+    private final LatencyWindow latency;
+    private final double p99Multiplier;
+    private final long minTimeoutMs;
+    private final long maxTimeoutMs;
+    private final boolean hedging;
+    final Counter hedges;
+    final Counter hedgeWins;
+
+    Guard(String name, CircuitBreaker breaker, LatencyWindow latency,
+          double p99Multiplier, long minTimeoutMs, long maxTimeoutMs,
+          boolean hedging, Counter hedges, Counter hedgeWins) {
+        this.name = name;
+        this.breaker = breaker;
+        this.latency = latency;
+        this.p99Multiplier = p99Multiplier;
+        this.minTimeoutMs = minTimeoutMs;
+        this.maxTimeoutMs = maxTimeoutMs;
+        this.hedging = hedging;
+        this.hedges = hedges;
+        this.hedgeWins = hedgeWins;
+    }
+
+    public String name() { return name; }
+
+    public CircuitBreaker breaker() { return breaker; }
+
+    /** 관측 p99 × multiplier 를 [minTimeoutMs, capMs] 로 자른 값. 샘플이 부족하면 capMs */
+    public long timeoutMs(long capMs) {
+        long p99 = latency.p99Nanos();
+        if (p99 < 0) return capMs;
+        long adaptive = (long) (p99 * p99Multiplier / 1_000_000L);
+        return Math.max(Math.min(minTimeoutMs, capMs), Math.min(capMs, adaptive));
+    }
+
+    /** 설정된 상한(cleannews.resilience.targets.{name}.maxTimeoutMs) 기준 timeout */
+    public long timeoutMs() {
+        return timeoutMs(maxTimeoutMs);
+    }
+
+    public boolean hedging() { return hedging; }
+
+    /** 헤지 발사 시점(관측 p95). 헤지 꺼짐/샘플 부족이면 -1 */
+    long hedgeDelayNanos() {
+        return hedging ? latency.p95Nanos() : -1;
+    }
+
+    public long p95Ms() {
+        long p95 = latency.p95Nanos();
+        return p95 < 0 ? -1 : p95 / 1_000_000L;
+    }
+
+    public long p99Ms() {
+        long p99 = latency.p99Nanos();
+        return p99 < 0 ? -1 : p99 / 1_000_000L;
+    }
+
+    void record(long nanos, boolean success) {
+        latency.record(nanos);
+        breaker.record(nanos, success);
+    }
+}
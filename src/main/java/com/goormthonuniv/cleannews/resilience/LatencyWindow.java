@@ -0,0 +1,49 @@
+package com.goormthonuniv.cleannews.resilience;
+
+import java.util.Arrays;
+
+/**
+ * 최근 N건 지연 시간 링버퍼 → p95/p99 (16건마다 재계산, 조회는 캐시 값).
+ */
+final class LatencyWindow {
+
+    private static final int RECOMPUTE_EVERY = 16;
+
+    private final long[] samples;
+    private final int minSamples;
+    private int idx, count, sinceRecompute;
+    private volatile long p95Nanos = -1;
+    private volatile long p99Nanos = -1;
+
+    LatencyWindow(int size, int minSamples) {
+        this.samples = new long[size];
+        this.minSamples = minSamples;
+    }
+
+    synchronized void record(long nanos) {
+        samples[idx] = nanos;
+        idx = (idx + 1) % samples.length;
+        if (count < samples.length) count++;
+        if (count >= minSamples && ++sinceRecompute >= RECOMPUTE_EVERY) {
+            sinceRecompute = 0;
+            long[] copy = Arrays.copyOf(samples, count);
+            Arrays.sort(copy);
+            p95Nanos = percentile(copy, 0.95);
+            p99Nanos = percentile(copy, 0.99);
+        }
+    }
+
+    /** 샘플 부족 시 -1 */
+    long p95Nanos() {
+        return p95Nanos;
+    }
+
+    /** 샘플 부족 시 -1 */
+    long p99Nanos() {
+        return p99Nanos;
+    }
+
+    private static long percentile(long[] sorted, double q) {
+        return sorted[Math.min(sorted.length - 1, Math.max(0, (int) Math.ceil(sorted.length * q) - 1))];
+    }
+}
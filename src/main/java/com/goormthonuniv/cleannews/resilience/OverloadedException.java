@@ -0,0 +1,16 @@
+package com.goormthonuniv.cleannews.resilience;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/** 동시 처리 상한 초과 (503 + Retry-After) */
+public class OverloadedException extends RuntimeException {
+
+    public OverloadedException(int limit) {
+        super("concurrency limit reached: " + limit);
+    }
+
+    /** 파이프라인 실행 풀 대기열이 가득 참 */
+    public OverloadedException(RejectedExecutionException cause) {
+        super("verification queue full", cause);
+    }
+}
@@ -0,0 +1,9 @@
+package com.goormthonuniv.cleannews.resilience;
+
+/** 호출 한도(초당 한도/일일 쿼터)를 넘어 호출하지 않음 */
+public class RateLimitedException extends RuntimeException {
+
+    public RateLimitedException(String name) {
+        super("rate limited: " + name);
+    }
+}
@@ -0,0 +1,126 @@
+package com.goormthonuniv.cleannews.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대상(SearchAdapter.name())별 호출 한도.
+ * - 초당 한도: token bucket (cleannews.ratelimit.targets.{name}.permitsPerSecond / burst)
+ * - 일일 한도: dailyQuota (quotaZone 기준 자정 초기화)
+ * - 짧은 대기(maxWaitMs 와 요청 데드라인 중 작은 값 이내)는 줄 서서 기다리고, 넘으면 호출하지 않음
+ * - 허가를 받고도 호출하지 않게 되면(대기 중 인터럽트/데드라인 초과, 브레이커 차단) 토큰과 쿼터를 돌려줌
+ * - 설정이 없는 대상은 제한 없음
+ * - 메트릭: cleannews.ratelimit.quota.remaining / cleannews.ratelimit.tokens / cleannews.ratelimit.rejected{reason}
+ */
+@Component
+public class RateLimiters {
+
+    private record Limiter(TokenBucket bucket, DailyQuota quota, Counter waitRejected, Counter quotaRejected) {}
+
+    private final Environment env;
+    private final MeterRegistry registry;
+    private final long maxWaitNanos;
+    private final ZoneId zone;
+    private final Map<String, Optional<Limiter>> limiters = new ConcurrentHashMap<>();
+
+    public RateLimiters(Environment env, MeterRegistry registry) {
+        this.env = env;
+        this.registry = registry;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(
+                env.getProperty("cleannews.ratelimit.maxWaitMs", Long.class, 500L));
+        this.zone = ZoneId.of(env.getProperty("cleannews.ratelimit.quotaZone", "Asia/Seoul"));
+    }
+
+    /**
+     * 호출 허가를 받을 때까지(짧게) 대기.
+     * @return false 면 한도 초과 → 이번 요청에서는 이 대상을 건너뛸 것
+     */
+    public boolean acquire(String name, long deadlineNanos) throws InterruptedException {
+        Limiter l = limiters.computeIfAbsent(name, this::create).orElse(null);
+        if (l == null) return true;
+
+        if (l.quota() != null && !l.quota().tryConsume()) {
+            l.quotaRejected().increment();
+            return false;
+        }
+        if (l.bucket() == null) return true;
+
+        long budget = Math.min(maxWaitNanos, deadlineNanos - System.nanoTime());
+        long wait = l.bucket().reserve(Math.max(0L, budget));
+        if (wait < 0) {
+            if (l.quota() != null) l.quota().refund();
+            l.waitRejected().increment();
+            return false;
+        }
+        if (wait > 0) {
+            try {
+                Thread.sleep(Duration.ofNanos(wait));
+            } catch (InterruptedException e) {
+                refund(l);
+                throw e;
+            }
+            if (System.nanoTime() - deadlineNanos > 0) { // 대기가 예산을 넘김 → 호출해도 결과를 못 씀
+                refund(l);
+                l.waitRejected().increment();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** acquire 로 받은 허가를 쓰지 않았을 때 반납 (브레이커 차단 등) */
+    public void refund(String name) {
+        Limiter l = limiters.getOrDefault(name, Optional.empty()).orElse(null);
+        if (l != null) refund(l);
+    }
+
+    private static void refund(Limiter l) {
+        if (l.bucket() != null) l.bucket().refund();
+        if (l.quota() != null) l.quota().refund();
+    }
+
+    /** 대기 없이 즉시 허가될 때만 true (헤지 요청 등 부가 호출용) */
+    public boolean tryAcquire(String name) {
+        try {
+            return acquire(name, System.nanoTime());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Optional<Limiter> create(String name) {
+        String prefix = "cleannews.ratelimit.targets." + name + ".";
+        Double pps = env.getProperty(prefix + "permitsPerSecond", Double.class);
+        Long daily = env.getProperty(prefix + "dailyQuota", Long.class);
+        TokenBucket bucket = (pps != null && pps > 0)
+                ? new TokenBucket(pps, env.getProperty(prefix + "burst", Double.class, pps))
+                : null;
+        DailyQuota quota = (daily != null && daily > 0) ? new DailyQuota(daily, zone) : null;
+        if (bucket == null && quota == null) return Optional.empty();
+
+        if (quota != null) {
+            Gauge.builder("cleannews.ratelimit.quota.remaining", quota, DailyQuota::remaining)
+                    .tag("adapter", name).register(registry);
+            Gauge.builder("cleannews.ratelimit.quota.used", quota, DailyQuota::used)
+                    .tag("adapter", name).register(registry);
+        }
+        if (bucket != null) {
+            Gauge.builder("cleannews.ratelimit.tokens", bucket, TokenBucket::available)
+                    .tag("adapter", name).register(registry);
+        }
+        return Optional.of(new Limiter(bucket, quota,
+                Counter.builder("cleannews.ratelimit.rejected").tag("adapter", name).tag("reason", "wait").register(registry),
+                Counter.builder("cleannews.ratelimit.rejected").tag("adapter", name).tag("reason", "quota").register(registry)));
+    }
+}
@@ -0,0 +1,241 @@
+package com.goormthonuniv.cleannews.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 외부 호출 보호 계층 (검색 어댑터 / LLM judge 공용).
+ * - 대상(name)별 Guard: 서킷 브레이커 + 관측 p99 기반 timeout
+ * - 전역 재시도 예산 안에서만 지터 백오프 재시도 (남은 데드라인 안에서만, 재시도마다 호출 허가를 다시 받음)
+ * - (선택) 헤지: 관측 p95 를 넘긴 호출에 복제 요청 1건, 전역 헤지 예산으로 비율 제한
+ * - 설정: cleannews.resilience.* (대상별 override: cleannews.resilience.targets.{name}.*)
+ * - 상태 조회: actuator /actuator/breakers, 메트릭 cleannews.breaker.* / cleannews.hedge.*
+ */
+@Component
+public class Resilience {
+
+    private final Environment env;
+    private final MeterRegistry registry;
+    private final ExecutorService executor;
+    private final RetryBudget retryBudget;
+    private final RetryBudget hedgeBudget;
+    private final int maxAttempts;
+    private final long backoffMs;
+    private final Map<String, Guard> guards = new ConcurrentHashMap<>();
+
+    public Resilience(Environment env, MeterRegistry registry,
+                      @Qualifier("guardExecutor") ExecutorService executor) {
+        this.env = env;
+        this.registry = registry;
+        this.executor = executor;
+        this.retryBudget = new RetryBudget(
+                env.getProperty("cleannews.resilience.retry.budgetRatio", Double.class, 0.1),
+                env.getProperty("cleannews.resilience.retry.budgetInitial", Integer.class, 10),
+                env.getProperty("cleannews.resilience.retry.budgetMax", Integer.class, 100));
+        this.hedgeBudget = new RetryBudget(
+                env.getProperty("cleannews.resilience.hedge.budgetRatio", Double.class, 0.05),
+                env.getProperty("cleannews.resilience.hedge.budgetInitial", Integer.class, 5),
+                env.getProperty("cleannews.resilience.hedge.budgetMax", Integer.class, 50));
+        this.maxAttempts = env.getProperty("cleannews.resilience.retry.maxAttempts", Integer.class, 2);
+        this.backoffMs = env.getProperty("cleannews.resilience.retry.backoffMs", Long.class, 100L);
+        Gauge.builder("cleannews.retry.budget", retryBudget, RetryBudget::available).register(registry);
+        Gauge.builder("cleannews.hedge.budget", hedgeBudget, RetryBudget::available).register(registry);
+    }
+
+    /** 호출 허가 (대상별 호출 한도 등): deadlineNanos 까지 기다려도 허가되지 않으면 false */
+    @FunctionalInterface
+    public interface CallPermit {
+        CallPermit ALWAYS = deadlineNanos -> true;
+
+        boolean acquire(long deadlineNanos) throws InterruptedException;
+
+        /** 받은 허가를 쓰지 않음 (브레이커가 호출을 막음) */
+        default void refund() {}
+    }
+
+    public Guard guard(String name) {
+        return guards.computeIfAbsent(name, this::create);
+    }
+
+    /**
+     * 호출 스레드에서 실행: 브레이커 확인 → 호출 → 실패 시 예산/데드라인이 허락하면 지터 재시도.
+     * timeout 강제는 호출자가 담당(SearchFanout 의 어댑터별 데드라인 등).
+     * @throws CallNotPermittedException 브레이커 OPEN
+     */
+    public <T> T attempt(Guard g, Callable<T> call, long deadlineNanos) throws Exception {
+        return attempt(g, call, deadlineNanos, CallPermit.ALWAYS);
+    }
+
+    /**
+     * 위와 같되 재시도 전마다 retryPermit 을 받음 (첫 호출의 허가는 호출자가 받은 상태). 허가가 안 나면 마지막 실패를 던짐.
+     * 브레이커가 호출을 막으면 들고 있던 허가(첫 호출이면 호출자가 받은 것)를 retryPermit.refund() 로 돌려줌
+     */
+    public <T> T attempt(Guard g, Callable<T> call, long deadlineNanos, CallPermit retryPermit) throws Exception {
+        retryBudget.deposit();
+        return attempt(g, call, deadlineNanos, retryPermit, () -> false);
+    }
+
+    /**
+     * abandoned 가 true 인 상태의 실패(헤지에서 진 호출의 취소 등)는 브레이커/지연 통계에 넣지 않음.
+     * 재시도 예산 적립은 논리 호출당 1회라 호출자(public attempt / hedged)가 함 — 헤지 복제분까지 적립하면 헤지가 제 예산을 벌어 옴
+     */
+    private <T> T attempt(Guard g, Callable<T> call, long deadlineNanos, CallPermit retryPermit,
+                          BooleanSupplier abandoned) throws Exception {
+        for (int attempt = 1; ; attempt++) {
+            if (!g.breaker().tryAcquire()) {
+                retryPermit.refund();
+                throw new CallNotPermittedException(g.name());
+            }
+            long start = System.nanoTime();
+            T res;
+            try {
+                res = call.call();
+            } catch (Exception e) {
+                if (!abandoned.getAsBoolean()) g.record(System.nanoTime() - start, false);
+                if (e instanceof InterruptedException || Thread.currentThread().isInterrupted()) throw e;
+                // full jitter: [0, backoff * 2^(attempt-1))
+                long sleep = ThreadLocalRandom.current().nextLong(Math.max(1, backoffMs << (attempt - 1)));
+                boolean retry = attempt < maxAttempts
+                        && System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sleep) < deadlineNanos
+                        && retryBudget.tryWithdraw();
+                if (!retry) throw e;
+                Thread.sleep(sleep);
+                if (!retryPermit.acquire(deadlineNanos)) throw e;
+                continue;
+            }
+            g.record(System.nanoTime() - start, true);
+            return res;
+        }
+    }
+
+    /**
+     * guardExecutor 에서 실행하며 deadline 을 강제하고, 헤지가 켜진 대상이면
+     * 관측 p95 까지 응답이 없을 때 복제 호출을 하나 더 보낸다(먼저 성공한 쪽 채택, 나머지 취소).
+     * 헤지 수는 전역 헤지 예산(전체 호출의 budgetRatio)과 permit(호출 한도 등, 헤지는 대기 없이)으로 제한.
+     * 각 호출의 재시도도 permit 을 받아야 나감.
+     * guardExecutor 가 포화되면 호출 스레드에서 실행(CallerRuns)되어 timeout/헤지 없이 끝까지 기다린다.
+     */
+    public <T> T hedged(Guard g, Callable<T> call, long deadlineNanos, CallPermit permit) throws Exception {
+        long start = System.nanoTime();
+        long hedgeDelay = g.hedgeDelayNanos();
+        retryBudget.deposit();
+        if (hedgeDelay >= 0) hedgeBudget.deposit();
+
+        AtomicBoolean settled = new AtomicBoolean();
+        CompletionService<T> cs = new ExecutorCompletionService<>(executor);
+        List<Future<T>> running = new ArrayList<>(2);
+        running.add(cs.submit(() -> attempt(g, call, deadlineNanos, permit, settled::get)));
+        Future<T> hedge = null;
+        boolean hedgeDecided = hedgeDelay < 0;
+        try {
+            while (true) {
+                long until = hedgeDecided ? deadlineNanos : Math.min(deadlineNanos, start + hedgeDelay);
+                Future<T> done = cs.poll(Math.max(0L, until - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (done == null) {
+                    if (System.nanoTime() - deadlineNanos >= 0) {
+                        g.record(System.nanoTime() - start, false); // 취소될 호출 대신 timeout 1건 기록
+                        throw new TimeoutException(g.name() + " timeout="
+                                + TimeUnit.NANOSECONDS.toMillis(deadlineNanos - start) + "ms");
+                    }
+                    hedgeDecided = true;
+                    if (hedgeBudget.tryWithdraw() && permit.acquire(System.nanoTime())) {
+                        hedge = cs.submit(() -> attempt(g, call, deadlineNanos, permit, settled::get));
+                        running.add(hedge);
+                        g.hedges.increment();
+                    }
+                    continue;
+                }
+                running.remove(done);
+                try {
+                    T res = done.get();
+                    if (done == hedge) g.hedgeWins.increment();
+                    return res;
+                } catch (ExecutionException e) {
+                    // 다른 호출이 진행 중이면 그 결과를 기다림
+                    if (running.isEmpty()) throw e.getCause() instanceof Exception ex ? ex : e;
+                }
+            }
+        } finally {
+            settled.set(true);
+            running.forEach(f -> f.cancel(true));
+        }
+    }
+
+    /**
+     * 호출자가 데드라인을 걸 수 없는 외부 호출(LLM judge 등): adaptive timeout 강제 + (설정 시) 헤지.
+     */
+    public <T> T call(String name, Callable<T> call) throws Exception {
+        return call(name, call, Long.MAX_VALUE);
+    }
+
+    /** 위와 같되 호출자의 데드라인(nanoTime 절대값, 없으면 Long.MAX_VALUE)을 넘지 않음 */
+    public <T> T call(String name, Callable<T> call, long deadlineNanos) throws Exception {
+        Guard g = guard(name);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(g.timeoutMs());
+        if (deadlineNanos != Long.MAX_VALUE && deadlineNanos - deadline < 0) deadline = deadlineNanos;
+        return hedged(g, call, deadline, CallPermit.ALWAYS);
+    }
+
+    /** actuator 노출용 스냅샷 */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> out = new TreeMap<>();
+        guards.forEach((name, g) -> {
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("state", g.breaker().state().name());
+            m.put("calls", g.breaker().calls());
+            m.put("failureRate", g.breaker().failureRate());
+            m.put("slowCallRate", g.breaker().slowCallRate());
+            m.put("p95Ms", g.p95Ms());
+            m.put("p99Ms", g.p99Ms());
+            m.put("hedging", g.hedging());
+            m.put("timeoutMs", g.timeoutMs());
+            out.put(name, m);
+        });
+        out.put("retryBudget", retryBudget.available());
+        out.put("hedgeBudget", hedgeBudget.available());
+        return out;
+    }
+
+    private Guard create(String name) {
+        CircuitBreaker breaker = new CircuitBreaker(new CircuitBreaker.Settings(
+                prop(name, "windowSize", Integer.class, 50),
+                prop(name, "minCalls", Integer.class, 10),
+                prop(name, "failureRate", Double.class, 0.5),
+                prop(name, "slowCallRate", Double.class, 0.8),
+                prop(name, "slowCallMs", Long.class, 2000L),
+                prop(name, "openMs", Long.class, 30000L),
+                prop(name, "halfOpenCalls", Integer.class, 3)));
+        Guard g = new Guard(name, breaker,
+                new LatencyWindow(256, prop(name, "minSamples", Integer.class, 20)),
+                prop(name, "p99Multiplier", Double.class, 1.5),
+                prop(name, "minTimeoutMs", Long.class, 300L),
+                prop(name, "maxTimeoutMs", Long.class, 5000L),
+                prop(name, "hedge.enabled", Boolean.class, false),
+                Counter.builder("cleannews.hedge.issued").tag("name", name).register(registry),
+                Counter.builder("cleannews.hedge.wins").tag("name", name).register(registry));
+        Gauge.builder("cleannews.breaker.state", breaker, b -> b.state().ordinal())
+                .description("0=CLOSED, 1=OPEN, 2=HALF_OPEN")
+                .tag("name", name)
+                .register(registry);
+        Gauge.builder("cleannews.breaker.timeout", g, x -> x.timeoutMs())
+                .baseUnit("milliseconds")
+                .tag("name", name)
+                .register(registry);
+        return g;
+    }
+
+    /** 대상별 값 → 공통 값 → 기본값 */
+    private <T> T prop(String name, String key, Class<T> type, T def) {
+        T common = env.getProperty("cleannews.resilience." + key, type, def);
+        return env.getProperty("cleannews.resilience.targets." + name + "." + key, type, common);
+    }
+}
@@ -0,0 +1,39 @@
+package com.goormthonuniv.cleannews.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전역 재시도/헤지 예산 (토큰 버킷).
+ * 최초 호출마다 ratio 토큰 적립, 재시도 1회에 1토큰 소비 → 재시도는 전체 호출의 ratio 비율 + 초기 잔고로 제한.
+ * 장애 시 재시도 폭주(retry storm)로 업스트림/쿼터를 더 태우지 않기 위함.
+ */
+final class RetryBudget {
+
+    private static final long UNIT = 1000; // 1토큰 = 1000 milli-token
+
+    private final long deposit;
+    private final long max;
+    private final AtomicLong balance;
+
+    RetryBudget(double ratio, int initial, int max) {
+        this.deposit = Math.round(ratio * UNIT);
+        this.max = (long) max * UNIT;
+        this.balance = new AtomicLong((long) initial * UNIT);
+    }
+
+    void deposit() {
+        balance.getAndUpdate(b -> Math.min(max, b + deposit));
+    }
+
+    boolean tryWithdraw() {
+        while (true) {
+            long b = balance.get();
+            if (b < UNIT) return false;
+            if (balance.compareAndSet(b, b - UNIT)) return true;
+        }
+    }
+
+    double available() {
+        return balance.get() / (double) UNIT;
+    }
+}
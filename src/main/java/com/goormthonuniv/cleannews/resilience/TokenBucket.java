@@ -0,0 +1,55 @@
+package com.goormthonuniv.cleannews.resilience;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 초당 허용량 token bucket (burst 만큼 적립 가능).
+ * 토큰이 부족하면 미래 토큰을 예약하고 대기 시간을 돌려준다 → 대기 중인 호출이 순서대로 줄을 선다.
+ */
+final class TokenBucket {
+
+    private final double permitsPerNano;
+    private final double burst;
+    private final LongSupplier nanoTime;
+    private double stored;
+    private long lastNanos;
+
+    TokenBucket(double permitsPerSecond, double burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    /** nanoTime: 테스트용 시계 */
+    TokenBucket(double permitsPerSecond, double burst, LongSupplier nanoTime) {
+        this.permitsPerNano = permitsPerSecond / 1e9;
+        this.burst = Math.max(1.0, burst);
+        this.nanoTime = nanoTime;
+        this.stored = this.burst;
+        this.lastNanos = nanoTime.getAsLong();
+    }
+
+    /** 토큰 1개 예약. @return 필요한 대기(ns), maxWaitNanos 를 넘으면 예약하지 않고 -1 */
+    synchronized long reserve(long maxWaitNanos) {
+        refill();
+        long wait = stored >= 1.0 ? 0L : (long) Math.ceil((1.0 - stored) / permitsPerNano);
+        if (wait > maxWaitNanos) return -1L;
+        stored -= 1.0; // 음수 = 이미 예약된 미래 토큰
+        return wait;
+    }
+
+    /** 예약 취소 (대기 중 인터럽트/데드라인 초과, 브레이커 차단 등으로 실제 호출하지 않은 경우) */
+    synchronized void refund() {
+        refill();
+        stored = Math.min(burst, stored + 1.0);
+    }
+
+    synchronized double available() {
+        long now = nanoTime.getAsLong();
+        return Math.min(burst, stored + (now - lastNanos) * permitsPerNano);
+    }
+
+    private void refill() {
+        long now = nanoTime.getAsLong();
+        stored = Math.min(burst, stored + (now - lastNanos) * permitsPerNano);
+        lastNanos = now;
+    }
+}
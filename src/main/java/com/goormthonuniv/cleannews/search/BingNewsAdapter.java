@@ -1,27 +1,29 @@
 package com.goormthonuniv.cleannews.search;
 
+import com.goormthonuniv.cleannews.http.OutboundHttp;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
-import org.springframework.core.ParameterizedTypeReference;
 
 import java.net.URLEncoder;
 import java.net.URI;
-import java.time.OffsetDateTime;
-import java.util.*;
+import java.util.List;
+import java.util.function.UnaryOperator;
 
 @Component
 public class BingNewsAdapter implements SearchAdapter {
 
+    private static final SearchResultDecoder.Fields FIELDS =
+            new SearchResultDecoder.Fields("name", "url", "description", "datePublished");
+
     private final RestClient rest;
     private final String endpoint;
     private final String apiKey;
 
-    public BingNewsAdapter(RestClient rest,
+    public BingNewsAdapter(OutboundHttp http,
                            @Value("${cleannews.adapters.bing.endpoint}") String endpoint,
                            @Value("${cleannews.adapters.bing.apiKey:}") String apiKey) {
-        this.rest = rest;
+        this.rest = http.restClient("bing");
         this.endpoint = endpoint;
         this.apiKey = apiKey;
     }
@@ -31,36 +33,14 @@ public class BingNewsAdapter implements SearchAdapter {
     @Override
     public List<SearchResult> search(String query, int limit) {
         if (apiKey == null || apiKey.isBlank()) return List.of();
-        try {
-            URI uri = URI.create(endpoint + "?q=" + URLEncoder.encode(query, java.nio.charset.StandardCharsets.UTF_8)
-                    + "&count=" + limit);
-
-            Map<String, Object> res = rest.get().uri(uri)
-                    .header("Ocp-Apim-Subscription-Key", apiKey)
-                    .retrieve()
-                    .body(new ParameterizedTypeReference<Map<String, Object>>() {});
-
-            if (res == null) return List.of();
-
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> value =
-                    (List<Map<String, Object>>) res.getOrDefault("value", Collections.<Map<String,Object>>emptyList());
-
-            List<SearchResult> out = new ArrayList<>();
-            for (Map<String, Object> v : value) {
-                String name = (String) v.getOrDefault("name", "");
-                String url  = (String) v.getOrDefault("url", "");
-                String desc = (String) v.getOrDefault("description", "");
-                OffsetDateTime odt = null;
-                Object dateObj = v.get("datePublished");
-                if (dateObj instanceof String s && !s.isBlank()) {
-                    try { odt = OffsetDateTime.parse(s); } catch (Exception ignore) {}
-                }
-                out.add(new SearchResult(name(), name, url, desc, odt));
-            }
-            return out;
-        } catch (Exception e) {
-            return List.of();
-        }
+        URI uri = URI.create(endpoint + "?q=" + URLEncoder.encode(query, java.nio.charset.StandardCharsets.UTF_8)
+                + "&count=" + limit);
+
+        // value[] 만 스트리밍 디코딩 (Map 변환 없이 SearchResult 로 직접)
+        return rest.get().uri(uri)
+                .header("Ocp-Apim-Subscription-Key", apiKey)
+                .exchange((req, res) -> res.getStatusCode().is2xxSuccessful()
+                        ? SearchResultDecoder.decode(res.getBody(), name(), "value", FIELDS, limit, UnaryOperator.identity())
+                        : SearchAdapterException.fail(name(), res.getStatusCode().value()));
     }
 }
\ No newline at end of file
@@ -4,5 +4,10 @@ import java.util.List;
 
 public interface SearchAdapter {
     String name(); // "bing", "google_cse", "naver"
+
+    /**
+     * @return 검색 결과 (키 미설정 등 비활성 상태면 빈 목록)
+     * @throws RuntimeException 업스트림 오류(비 2xx/IO) — 브레이커 집계를 위해 삼키지 않음
+     */
     List<SearchResult> search(String query, int limit);
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.goormthonuniv.cleannews.search;
+
+import java.util.List;
+
+/** 검색 API 가 비 2xx 로 응답 */
+public class SearchAdapterException extends RuntimeException {
+
+    private final String adapter;
+    private final int status;
+
+    public SearchAdapterException(String adapter, int status) {
+        super(adapter + " HTTP " + status);
+        this.adapter = adapter;
+        this.status = status;
+    }
+
+    public String adapter() { return adapter; }
+
+    public int status() { return status; }
+
+    /** exchange 람다에서 결과 타입을 맞추기 위한 헬퍼 */
+    static List<SearchResult> fail(String adapter, int status) {
+        throw new SearchAdapterException(adapter, status);
+    }
+}
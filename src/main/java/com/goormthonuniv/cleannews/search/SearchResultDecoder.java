@@ -0,0 +1,106 @@
+package com.goormthonuniv.cleannews.search;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.ParsePosition;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * 검색 API 응답(JSON)을 Jackson 토큰 스트림에서 바로 SearchResult 로 디코딩.
+ * - 결과 배열(arrayField)만 따라가고, 나머지 필드/중첩 객체는 skipChildren()으로 건너뜀(Map 생성 X)
+ * - limit 개를 채우면 더 이상 항목을 만들지 않음(남은 토큰은 객체 생성 없이 소비 → 커넥션 재사용 유지)
+ * - 날짜는 ParsePosition 기반으로 파싱, 형식이 맞지 않으면 예외 없이 null
+ */
+public final class SearchResultDecoder {
+
+    /** 응답 항목의 필드명 매핑 (해당 필드가 없으면 null) */
+    public record Fields(String title, String url, String snippet, String publishedAt) {}
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private SearchResultDecoder() {}
+
+    public static List<SearchResult> decode(InputStream in, String source, String arrayField,
+                                            Fields fields, int limit, UnaryOperator<String> text) throws IOException {
+        List<SearchResult> out = new ArrayList<>(Math.max(0, Math.min(limit, 16)));
+        if (in == null) return out;
+        try (JsonParser p = JSON.createParser(in)) {
+            if (p.nextToken() != JsonToken.START_OBJECT) return out;
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String name = p.currentName();
+                JsonToken t = p.nextToken();
+                if (!arrayField.equals(name) || t != JsonToken.START_ARRAY) {
+                    p.skipChildren();
+                    continue;
+                }
+                for (t = p.nextToken(); t != null && t != JsonToken.END_ARRAY; t = p.nextToken()) {
+                    if (t == JsonToken.START_OBJECT && out.size() < limit) {
+                        out.add(readItem(p, source, fields, text));
+                    } else {
+                        p.skipChildren();
+                    }
+                }
+            }
+        }
+        return out;
+    }
+
+    private static SearchResult readItem(JsonParser p, String source, Fields f, UnaryOperator<String> text) throws IOException {
+        String title = "", url = "", snippet = "";
+        OffsetDateTime publishedAt = null;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String name = p.currentName();
+            if (p.nextToken() != JsonToken.VALUE_STRING) {
+                p.skipChildren();
+                continue;
+            }
+            if (name.equals(f.title())) title = text.apply(p.getText());
+            else if (name.equals(f.url())) url = p.getText();
+            else if (name.equals(f.snippet())) snippet = text.apply(p.getText());
+            else if (name.equals(f.publishedAt())) publishedAt = parseDate(p.getText());
+        }
+        return new SearchResult(source, title, url, snippet, publishedAt);
+    }
+
+    /** ISO-8601 offset 날짜 파싱. 형식/범위가 맞지 않으면 null (예외를 흐름 제어에 쓰지 않음) */
+    public static OffsetDateTime parseDate(String s) {
+        // 최소 형태: yyyy-MM-ddTHH:mmZ
+        if (s == null || s.length() < 17 || s.charAt(4) != '-' || s.charAt(7) != '-') return null;
+        ParsePosition pos = new ParsePosition(0);
+        TemporalAccessor t = DateTimeFormatter.ISO_OFFSET_DATE_TIME.parseUnresolved(s, pos);
+        if (t == null || pos.getErrorIndex() >= 0 || pos.getIndex() != s.length()) return null;
+
+        int year = field(t, ChronoField.YEAR, -1);
+        int month = field(t, ChronoField.MONTH_OF_YEAR, -1);
+        int day = field(t, ChronoField.DAY_OF_MONTH, -1);
+        int hour = field(t, ChronoField.HOUR_OF_DAY, -1);
+        int minute = field(t, ChronoField.MINUTE_OF_HOUR, -1);
+        int second = field(t, ChronoField.SECOND_OF_MINUTE, 0);
+        int nano = field(t, ChronoField.NANO_OF_SECOND, 0);
+        int offset = field(t, ChronoField.OFFSET_SECONDS, Integer.MIN_VALUE);
+
+        if (year < 1 || year > 9999 || month < 1 || month > 12) return null;
+        if (day < 1 || day > YearMonth.of(year, month).lengthOfMonth()) return null;
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) return null;
+        if (nano < 0 || offset < -18 * 3600 || offset > 18 * 3600) return null;
+        return OffsetDateTime.of(year, month, day, hour, minute, second, nano, ZoneOffset.ofTotalSeconds(offset));
+    }
+
+    private static int field(TemporalAccessor t, ChronoField field, int absent) {
+        if (!t.isSupported(field)) return absent;
+        long v = t.getLong(field);
+        return (v < Integer.MIN_VALUE || v > Integer.MAX_VALUE) ? -1 : (int) v;
+    }
+}
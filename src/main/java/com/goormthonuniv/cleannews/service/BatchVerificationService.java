@@ -0,0 +1,94 @@
+package com.goormthonuniv.cleannews.service;
+
+import com.goormthonuniv.cleannews.dto.FeedVerificationRequest;
+import com.goormthonuniv.cleannews.dto.VerificationResponse;
+import com.goormthonuniv.cleannews.resilience.AdaptiveLimiter;
+import com.goormthonuniv.cleannews.resilience.OverloadedException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 배치 검증.
+ * - 동일 claim(정규 fingerprint 같음)은 한 번만 검증하고 결과를 공유
+ * - 모든 claim 의 1차 쿼리를 먼저 계산해 중복 제거 후 동시에 검색 시작(파이프라인은 같은 검색을 공유)
+ * - unique claim 들은 verifyAsync 로 동시에 실행, 결과는 요청 순서대로 반환
+ * - 동시 처리 상한(AdaptiveLimiter)은 unique claim 마다 슬롯 1개. 슬롯을 못 얻은 claim 은 캐시된 판정으로만 답하고,
+ *   그마저 없으면 배치 전체를 503 (확보한 슬롯은 파이프라인 시작 전에 반납)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchVerificationService {
+
+    private final VerificationOrchestrator orchestrator;
+    private final AdaptiveLimiter limiter;
+
+    public CompletableFuture<List<VerificationResponse>> verifyAll(List<FeedVerificationRequest> items) {
+        return verifyAll(items, VerificationListener.NONE);
+    }
+
+    /** listener 는 unique claim 마다의 파이프라인 이벤트를 받음 (여러 claim 이 동시에 보냄) */
+    public CompletableFuture<List<VerificationResponse>> verifyAll(List<FeedVerificationRequest> items,
+                                                                   VerificationListener listener) {
+        // 1) 동일 claim dedupe
+        List<String> keys = new ArrayList<>(items.size());
+        Map<String, FeedVerificationRequest> unique = new LinkedHashMap<>();
+        for (FeedVerificationRequest req : items) {
+            String key = VerdictCache.fingerprint(req);
+            keys.add(key);
+            unique.putIfAbsent(key, req);
+        }
+
+        // 2) claim 마다 처리 슬롯 확보 — 슬롯 없는 claim 은 캐시 전용
+        Map<String, AdaptiveLimiter.Permit> permits = new LinkedHashMap<>();
+        Map<String, VerificationResponse> shed = new HashMap<>();
+        for (Map.Entry<String, FeedVerificationRequest> e : unique.entrySet()) {
+            Optional<AdaptiveLimiter.Permit> permit = limiter.tryAcquire();
+            if (permit.isPresent()) {
+                permits.put(e.getKey(), permit.get());
+                continue;
+            }
+            VerificationResponse cached = orchestrator.cachedOnly(e.getValue());
+            limiter.rejected(cached != null);
+            if (cached == null) {
+                permits.values().forEach(AdaptiveLimiter.Permit::release);
+                throw new OverloadedException(limiter.limit());
+            }
+            shed.put(e.getKey(), cached);
+        }
+
+        // 3) 1차 쿼리 일괄 계산 + 동일 쿼리 dedupe 후 선검색
+        //    (여기서 한 분석/키워드 추출은 파이프라인에 넘겨 재사용)
+        List<FeedVerificationRequest> toRun = permits.keySet().stream().map(unique::get).toList();
+        Map<FeedVerificationRequest, VerificationOrchestrator.Prepared> prepared;
+        try {
+            prepared = orchestrator.prefetchPrimaryQueries(toRun);
+        } catch (RuntimeException e) {
+            permits.values().forEach(AdaptiveLimiter.Permit::release);
+            throw e;
+        }
+        long queries = prepared.values().stream().map(VerificationOrchestrator.Prepared::query).distinct().count();
+        log.atInfo()
+                .addKeyValue("items", items.size())
+                .addKeyValue("uniqueClaims", unique.size())
+                .addKeyValue("cacheOnly", shed.size())
+                .addKeyValue("uniqueQueries", queries)
+                .log("batch.start");
+
+        // 4) unique claim 동시 실행(claim 별로 완료 시 슬롯 반납, RTT 표본도 claim 단위) → 요청 순서대로 조립
+        Map<String, CompletableFuture<VerificationResponse>> running = new HashMap<>();
+        shed.forEach((key, res) -> running.put(key, CompletableFuture.completedFuture(res)));
+        permits.forEach((key, permit) -> {
+            FeedVerificationRequest req = unique.get(key);
+            running.put(key, orchestrator.verifyAsync(req, prepared.get(req), new SamplingListener(permit, listener))
+                    .whenComplete((res, e) -> permit.release()));
+        });
+
+        return CompletableFuture.allOf(running.values().toArray(CompletableFuture[]::new))
+                .thenApply(v -> keys.stream().map(k -> running.get(k).join()).toList());
+    }
+}
@@ -0,0 +1,85 @@
+package com.goormthonuniv.cleannews.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * job 완료 callback URL 검증 (서버가 대신 POST 하므로 SSRF 방지).
+ * - http(s) 절대 URL + host 필수
+ * - allowedHosts 가 설정되면 host 가 목록과 일치해야 함 ("example.com" 은 정확히, ".example.com" 은 하위 도메인 포함)
+ * - host 가 해석되는 모든 주소가 공인 주소여야 함: loopback / 사설(10/8, 172.16/12, 192.168/16) / link-local(169.254.169.254 메타데이터 포함)
+ *   / any-local / multicast / CGNAT(100.64/10) / IPv6 ULA(fc00::/7) 거부 → 자기 자신(/actuator)·내부망·클라우드 메타데이터 차단
+ * - 등록 시 검사하고, 전송 때는 resolve 가 돌려준 검증된 주소로만 접속 (OutboundHttp.postPinned — 다시 해석하지 않으므로
+ *   DNS rebinding 으로 검사 후 내부 주소로 바뀌어도 닿지 않음). 리다이렉트는 따라가지 않음
+ */
+@Component
+public class CallbackUrlPolicy {
+
+    private final List<String> allowedHosts;
+
+    public CallbackUrlPolicy(@Value("${cleannews.jobs.callback.allowedHosts:}") List<String> allowedHosts) {
+        this.allowedHosts = allowedHosts.stream()
+                .map(h -> h.strip().toLowerCase(Locale.ROOT))
+                .filter(h -> !h.isEmpty())
+                .toList();
+    }
+
+    /** null(callback 없음)은 허용 */
+    public boolean isAllowed(String url) {
+        return url == null || resolve(url) != null;
+    }
+
+    /** 허용되는 URL 이면 접속할 주소(해석 결과 중 첫 번째, 모두 공인 주소), 아니면 null */
+    public InetAddress resolve(String url) {
+        if (url == null) return null;
+        URI uri;
+        try {
+            uri = URI.create(url);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (!"http".equalsIgnoreCase(uri.getScheme()) && !"https".equalsIgnoreCase(uri.getScheme())) return null;
+        String host = uri.getHost();
+        if (host == null || uri.getUserInfo() != null) return null;
+        host = host.toLowerCase(Locale.ROOT);
+        if (!allowedHosts.isEmpty() && !isListed(host)) return null;
+        try {
+            InetAddress[] addresses = InetAddress.getAllByName(host);
+            if (addresses.length == 0) return null;
+            for (InetAddress a : addresses) {
+                if (!isPublic(a)) return null;
+            }
+            return addresses[0];
+        } catch (UnknownHostException | SecurityException e) {
+            return null;
+        }
+    }
+
+    private boolean isListed(String host) {
+        for (String allowed : allowedHosts) {
+            if (allowed.startsWith(".") ? host.endsWith(allowed) : host.equals(allowed)) return true;
+        }
+        return false;
+    }
+
+    static boolean isPublic(InetAddress a) {
+        if (a.isLoopbackAddress() || a.isSiteLocalAddress() || a.isLinkLocalAddress()
+                || a.isAnyLocalAddress() || a.isMulticastAddress()) {
+            return false;
+        }
+        byte[] b = a.getAddress();
+        if (b.length == 4) {
+            int first = b[0] & 0xff, second = b[1] & 0xff;
+            if (first == 0) return false;                                  // 0.0.0.0/8
+            if (first == 100 && second >= 64 && second <= 127) return false; // 100.64.0.0/10 (CGNAT)
+            return true;
+        }
+        return (b[0] & 0xfe) != 0xfc;                                      // fc00::/7 (ULA)
+    }
+}
@@ -0,0 +1,31 @@
+package com.goormthonuniv.cleannews.service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 단위 시간 예산 (System.nanoTime 기준 절대 시각).
+ * 비교는 항상 차이(a - b)로 해서 nanoTime overflow 에 안전하게.
+ */
+public record Deadline(long atNanos) {
+
+    public static Deadline afterMs(long ms) {
+        return new Deadline(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ms));
+    }
+
+    public long remainingNanos() {
+        return Math.max(0L, atNanos - System.nanoTime());
+    }
+
+    public long remainingMs() {
+        return TimeUnit.NANOSECONDS.toMillis(remainingNanos());
+    }
+
+    public boolean expired() {
+        return atNanos - System.nanoTime() <= 0;
+    }
+
+    /** 이 데드라인과 다른 데드라인(nanoTime 절대값) 중 이른 쪽 */
+    public long earliest(long otherNanos) {
+        return atNanos - otherNanos < 0 ? atNanos : otherNanos;
+    }
+}
@@ -0,0 +1,90 @@
+package com.goormthonuniv.cleannews.service;
+
+import com.goormthonuniv.cleannews.search.SearchResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * 폴백 후보 쿼리 경합 실행기.
+ * - 후보는 우선순위(삽입 순서)대로 wave 단위(concurrency 개씩) 동시 실행
+ * - 가장 먼저 끝난 non-empty 결과가 승리, 나머지 진행 중 쿼리는 취소
+ * - 총 후보 수(maxCandidates)와 총 소요 시간(budgetMs, 요청 데드라인 중 이른 쪽) 상한으로 폴백 비용 제한
+ * - concurrency=1 이면 기존 순차 폴백과 동일하게 동작
+ */
+@Slf4j
+@Component
+public class FallbackSearchEngine {
+
+    /** 폴백 결과: 승리한 쿼리(없으면 null), 결과, 실제 시도한 후보 수 */
+    public record Outcome(String query, List<SearchResult> hits, int attempted) {
+        static Outcome miss(int attempted) { return new Outcome(null, List.of(), attempted); }
+    }
+
+    private record Hit(String query, List<SearchResult> results) {}
+
+    private final ExecutorService executor;
+    private final int concurrency;
+    private final int maxCandidates;
+    private final long budgetMs;
+
+    public FallbackSearchEngine(@Qualifier("fallbackExecutor") ExecutorService executor,
+                                @Value("${cleannews.search.fallback.concurrency:4}") int concurrency,
+                                @Value("${cleannews.search.fallback.maxCandidates:24}") int maxCandidates,
+                                @Value("${cleannews.search.fallback.budgetMs:6000}") long budgetMs) {
+        this.executor = executor;
+        this.concurrency = Math.max(1, concurrency);
+        this.maxCandidates = Math.max(1, maxCandidates);
+        this.budgetMs = budgetMs;
+    }
+
+    public Outcome race(Collection<String> candidates, Function<String, List<SearchResult>> search, Deadline requestDeadline) {
+        List<String> queue = candidates.stream()
+                .filter(q -> q != null && !q.isBlank())
+                .limit(maxCandidates)
+                .toList();
+        long deadline = requestDeadline.earliest(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMs));
+        int attempted = 0;
+
+        for (int from = 0; from < queue.size(); from += concurrency) {
+            if (System.nanoTime() - deadline >= 0) break;
+            List<String> wave = queue.subList(from, Math.min(from + concurrency, queue.size()));
+
+            CompletionService<Hit> cs = new ExecutorCompletionService<>(executor);
+            List<Future<Hit>> futures = new ArrayList<>(wave.size());
+            for (String q : wave) futures.add(cs.submit(() -> new Hit(q, search.apply(q))));
+            attempted += wave.size();
+
+            try {
+                for (int n = 0; n < futures.size(); n++) {
+                    Future<Hit> done = cs.poll(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    if (done == null) {
+                        log.atInfo().addKeyValue("attempted", attempted).log("fallback.budget_exhausted");
+                        return Outcome.miss(attempted);
+                    }
+                    try {
+                        Hit hit = done.get();
+                        log.atInfo().addKeyValue("query", hit.query()).addKeyValue("hits", hit.results().size())
+                                .log("fallback.query");
+                        if (!hit.results().isEmpty()) return new Outcome(hit.query(), hit.results(), attempted);
+                    } catch (ExecutionException e) {
+                        log.atWarn().addKeyValue("error", e.getCause().getMessage()).log("fallback.error");
+                    } catch (CancellationException ignored) {
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Outcome.miss(attempted);
+            } finally {
+                // 승자 확정/예산 초과/인터럽트 시 남은 후보 취소(완료된 것에는 영향 없음)
+                futures.forEach(f -> f.cancel(true));
+            }
+        }
+        return Outcome.miss(attempted);
+    }
+}
@@ -0,0 +1,60 @@
+package com.goormthonuniv.cleannews.service;
+
+import com.goormthonuniv.cleannews.util.AhoCorasick;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * 키워드/폴백 쿼리용 단어 사전 (컴파일된 AhoCorasick 으로 보관 → 사전이 수천 개로 늘어도 텍스트 1회 순회).
+ * - triggers: '행위/안내' 트리거 단어 (브랜드 아님). 기본 목록 + 선택적 파일(한 줄에 한 단어, # 주석)
+ * - 파일 위치는 classpath:… 또는 file:… (기동 시 1회 로드, 읽기 실패 시 기동 실패)
+ */
+@Slf4j
+@Component
+public class KeywordDictionaries {
+
+    static final List<String> DEFAULT_TRIGGERS = List.of("이벤트", "프로모션", "공지", "공식", "모집", "무료", "당첨", "체험단");
+
+    private final AhoCorasick triggers;
+
+    public KeywordDictionaries(@Value("${cleannews.dictionary.triggers:이벤트,프로모션,공지,공식,모집,무료,당첨,체험단}") List<String> triggers,
+                               @Value("${cleannews.dictionary.triggersFile:}") String triggersFile) {
+        LinkedHashSet<String> words = new LinkedHashSet<>();
+        for (String t : triggers) if (!t.isBlank()) words.add(t.strip());
+        if (!triggersFile.isBlank()) words.addAll(load(triggersFile));
+        this.triggers = AhoCorasick.compile(words);
+        log.atInfo().addKeyValue("triggers", words.size()).log("dictionary.loaded");
+    }
+
+    /** 기본 사전 (스프링 밖: 벤치마크 등) */
+    static KeywordDictionaries defaults() {
+        return new KeywordDictionaries(DEFAULT_TRIGGERS, "");
+    }
+
+    public AhoCorasick triggers() {
+        return triggers;
+    }
+
+    private static List<String> load(String location) {
+        Resource resource = new DefaultResourceLoader().getResource(location);
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            return in.lines()
+                    .map(String::strip)
+                    .filter(l -> !l.isEmpty() && !l.startsWith("#"))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("dictionary load failed: " + location, e);
+        }
+    }
+}
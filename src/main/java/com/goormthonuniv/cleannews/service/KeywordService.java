@@ -1,99 +1,89 @@
 package com.goormthonuniv.cleannews.service;
 
+import com.goormthonuniv.cleannews.util.AnalyzedDocument;
+import com.goormthonuniv.cleannews.util.TextAnalyzer;
 import com.goormthonuniv.cleannews.util.TextUtils;
-import org.apache.commons.text.similarity.LevenshteinDistance;
+import com.goormthonuniv.cleannews.util.TokenDictionary;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.net.URI;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
  * 특정 사건/브랜드 하드코딩 없이 일반화.
  * - @handles, #hashtags, 따옴표/괄호 내 구절, URL 호스트 토큰, 한/영 토큰을 종합하여 쿼리 구성
- * - 레벤슈타인 병합으로 유사 토큰 정리
- * - "이벤트/공지/모집/무료/당첨/체험단/공식" 같은 '행위/안내' 트리거만 일반 단어로 사용(브랜드 비의존)
+ * - 요청 텍스트는 TextAnalyzer 가 한 번 분석한 AnalyzedDocument 를 받아 재토큰화하지 않음
+ * - 레벤슈타인 병합(기존 동작 유지: 모든 토큰이 HashMap 첫 키로 합쳐져 상위 토큰은 1개)
+ * - "이벤트/공지/모집/무료/당첨/체험단/공식" 같은 '행위/안내' 트리거만 일반 단어로 사용(브랜드 비의존, KeywordDictionaries 설정)
  */
 @Service
+@RequiredArgsConstructor
 public class KeywordService {
 
-    private static final Pattern HANDLE = Pattern.compile("@[A-Za-z0-9_\\.]+");
-    private static final Pattern HASHTAG = Pattern.compile("#[A-Za-z0-9_가-힣]+");
-    private static final Pattern QUOTED = Pattern.compile("‘([^’]+)’|\"([^\"]+)\"|\\(([^)]+)\\)");
-    private static final Pattern TOKEN = Pattern.compile("[A-Za-z0-9가-힣]{2,}"); // 간단 토큰
-    private static final Set<String> TRIGGERS = Set.of("이벤트","프로모션","공지","공식","모집","무료","당첨","체험단");
+    private final KeywordDictionaries dictionaries;
 
     /** 원문(title+text)에서 엔티티성 키워드 추출 */
     public List<String> extractEntities(String raw, String sourceUrl) {
-        if (raw == null) raw = "";
+        return extractEntities(TextAnalyzer.analyze(raw, null, sourceUrl), sourceUrl);
+    }
+
+    /** 분석된 문서에서 엔티티성 키워드 추출 (handles/hashtags/quoted 는 TextAnalyzer 가 한 번에 추출) */
+    public List<String> extractEntities(AnalyzedDocument doc, String sourceUrl) {
         LinkedHashSet<String> key = new LinkedHashSet<>();
 
-        // @handles / #hashtags
-        Matcher m = HANDLE.matcher(raw);
-        while (m.find()) key.add(m.group().substring(1)); // @제거
-        m = HASHTAG.matcher(raw);
-        while (m.find()) key.add(m.group().substring(1)); // #제거
+        // @handles / #hashtags (@, # 제거된 상태)
+        key.addAll(doc.handles());
+        key.addAll(doc.hashtags());
 
         // 따옴표/괄호 안 구절(상품/좌석명 등)
-        m = QUOTED.matcher(raw);
-        while (m.find()) {
-            for (int i=1;i<=m.groupCount();i++) {
-                String g = m.group(i);
-                if (g != null && g.strip().length() >= 2) key.add(g.strip());
-            }
-        }
+        for (String g : doc.quoted()) if (g.length() >= 2) key.add(g);
 
         // URL 호스트 토큰 (ex: instagram.com -> instagram / _tripgoing -> tripgoing)
         for (String t : hostTokens(sourceUrl)) key.add(t);
 
-        // 일반 트리거(행위/안내; 브랜드 아님)
-        for (String t : TRIGGERS) if (raw.contains(t)) key.add(t);
+        // 일반 트리거(행위/안내; 브랜드 아님) — 사전 전체를 원문 1회 순회로 매칭
+        key.addAll(dictionaries.triggers().matches(doc.raw()));
 
-        return key.stream().map(this::normalizeToken).filter(s -> s.length() >= 2).toList();
+        return key.stream().map(KeywordService::normalizeToken).filter(s -> s.length() >= 2).toList();
     }
 
     /** 정규화된 텍스트에서 상위 토큰 추출 (스톱워드 제외 + 근접 병합) */
     public List<String> topKeywords(String normalized, int limit) {
         if (normalized == null || normalized.isBlank()) return List.of();
+        return topKeywords(TextAnalyzer.analyze(normalized, new TokenDictionary()), limit);
+    }
+
+    /** 분석된 문서의 토큰 빈도에서 상위 토큰 추출 */
+    public List<String> topKeywords(AnalyzedDocument doc, int limit) {
         var stop = TextUtils.stopwords();
         Map<String, Integer> tf = new HashMap<>();
-        Matcher tok = TOKEN.matcher(normalized);
-        while (tok.find()) {
-            String t = tok.group().toLowerCase(Locale.ROOT);
-            if (stop.contains(t) || t.length() < 2) continue;
-            tf.merge(t, 1, Integer::sum);
-        }
-        // 근접 병합(편집거리 1)
-        var keys = new ArrayList<>(tf.keySet());
-        var merged = new LinkedHashMap<String, Integer>();
-        var dist = new LevenshteinDistance(1);
-        for (String k : keys) {
-            String rep = merged.keySet().stream()
-                    .filter(x -> dist.apply(x, k) <= 1)
-                    .findFirst().orElse(k);
-            merged.merge(rep, tf.get(k), Integer::sum);
+        for (int i = 0; i < doc.termCount(); i++) {
+            String t = doc.term(i);
+            if (stop.contains(t)) continue;
+            tf.merge(t, doc.termFreq(i), Integer::sum);
         }
-        return merged.entrySet().stream()
-                .sorted((a,b)->Integer.compare(b.getValue(), a.getValue()))
-                .limit(limit)
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
+        // 근접 병합: 예전 LevenshteinDistance(1) 는 거리가 1을 넘으면 -1 을 돌려줘 "<= 1" 비교가 항상 참
+        // → 모든 토큰이 HashMap 순회 첫 키로 합쳐짐. 쿼리/판정이 바뀌지 않도록 그 결과를 스캔 없이 그대로 재현
+        if (tf.isEmpty() || limit <= 0) return List.of();
+        return List.of(tf.keySet().iterator().next());
     }
 
     /** 최종 쿼리용 키워드: 엔티티 우선 + 일반 토큰 보강 (브랜드 하드코딩 없이 동작) */
     public List<String> boostedKeywords(String title, String rawText, String sourceUrl, int limit) {
-        String mix = ((title==null?"":title) + " " + (rawText==null?"":rawText));
+        return boostedKeywords(TextAnalyzer.analyze(title, rawText, sourceUrl), sourceUrl, limit);
+    }
+
+    public List<String> boostedKeywords(AnalyzedDocument doc, String sourceUrl, int limit) {
         // 1) 엔티티성 키워드 (handles/hashtags/quoted/host/trigger)
-        LinkedHashSet<String> set = new LinkedHashSet<>(extractEntities(mix, sourceUrl));
+        LinkedHashSet<String> set = new LinkedHashSet<>(extractEntities(doc, sourceUrl));
         // 2) 정규화 본문 기반 일반 토큰
-        var norm = TextUtils.normalize(mix);
-        set.addAll(topKeywords(norm, Math.max(limit, 12)));
+        set.addAll(topKeywords(doc, Math.max(limit, 12)));
         // 과잉 토큰 제거(숫자만 등)
         var out = set.stream()
-                .map(this::normalizeToken)
-                .filter(s -> s.length() >= 2 && !s.matches("\\d+"))
+                .map(KeywordService::normalizeToken)
+                .filter(s -> s.length() >= 2 && !isDigits(s))
                 .collect(Collectors.toCollection(LinkedHashSet::new));
         // 상위 limit로 제한
         return new ArrayList<>(out).subList(0, Math.min(out.size(), limit));
@@ -106,9 +96,24 @@ public class KeywordService {
 
     // ===== helpers =====
 
-    private String normalizeToken(String t) {
+    /** [A-Za-z0-9가-힣] 만 남기고 소문자화 */
+    private static String normalizeToken(String t) {
         if (t == null) return "";
-        return t.replaceAll("[^A-Za-z0-9가-힣]", "").toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(t.length());
+        for (int i = 0; i < t.length(); i++) {
+            char c = t.charAt(i);
+            if (c >= 'A' && c <= 'Z') sb.append((char) (c + ('a' - 'A')));
+            else if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || (c >= '가' && c <= '힣')) sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    private static boolean isDigits(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') return false;
+        }
+        return !s.isEmpty();
     }
 
     private List<String> hostTokens(String url) {
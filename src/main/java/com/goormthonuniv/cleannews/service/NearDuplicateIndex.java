@@ -0,0 +1,204 @@
+package com.goormthonuniv.cleannews.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.goormthonuniv.cleannews.dto.FeedVerificationRequest;
+import com.goormthonuniv.cleannews.dto.NearDuplicateMatch;
+import com.goormthonuniv.cleannews.dto.VerificationResponse;
+import com.goormthonuniv.cleannews.util.AnalyzedDocument;
+import com.goormthonuniv.cleannews.util.TextAnalyzer;
+import com.goormthonuniv.cleannews.util.TextUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유사(near-duplicate) 게시물 판정 재사용 인덱스.
+ * - TextAnalyzer 정규화 토큰(제목 + 본문)의 빈도로 64bit SimHash 계산 (해시태그 순서/이모지/URL 차이에 둔감)
+ * - LSH banding: 64bit를 bands 개 구간으로 나눠 버킷팅. 해밍거리 <= bands-1 이면 최소 한 구간이 일치(비둘기집)
+ * - minSimilarity 로 허용 해밍거리를 정하고, bands 는 그에 맞춰 자동 결정
+ * - 항목은 Caffeine(크기/TTL 상한)으로 관리, 퇴출 시 버킷에서도 제거 → 메모리 bounded
+ *   (버킷은 서명 → 등록한 Entry 를 보관, 퇴출된 Entry 가 아직 주인일 때만 제거 → 같은 서명 재등록과 경합해도 새 항목 유지)
+ */
+@Component
+public class NearDuplicateIndex {
+
+    private static final int PREVIEW_LEN = 120;
+
+    /** equals 는 identity — 버킷의 조건부 제거가 "이 등록"만 지우도록 record 가 아닌 class */
+    private static final class Entry {
+        final VerificationResponse response;
+        final String claim;
+        final OffsetDateTime verifiedAt;
+
+        Entry(VerificationResponse response, String claim, OffsetDateTime verifiedAt) {
+            this.response = response;
+            this.claim = claim;
+            this.verifiedAt = verifiedAt;
+        }
+    }
+
+    private final boolean enabled;
+    private final int maxDistance;
+    private final int bands;
+    private final int minTokens;
+    private final Cache<Long, Entry> entries;
+    private final ConcurrentHashMap<Long, Map<Long, Entry>> buckets = new ConcurrentHashMap<>();
+
+    @Autowired
+    public NearDuplicateIndex(@Value("${cleannews.cache.nearDuplicate.enabled:true}") boolean enabled,
+                              @Value("${cleannews.cache.nearDuplicate.minSimilarity:0.95}") double minSimilarity,
+                              @Value("${cleannews.cache.nearDuplicate.minTokens:6}") int minTokens,
+                              @Value("${cleannews.cache.nearDuplicate.ttlMinutes:60}") long ttlMinutes,
+                              @Value("${cleannews.cache.nearDuplicate.maxSize:20000}") long maxSize) {
+        this(enabled, minSimilarity, minTokens, ttlMinutes, maxSize, Ticker.systemTicker());
+    }
+
+    /** ticker: 항목 TTL 을 재는 시계 (테스트용) */
+    NearDuplicateIndex(boolean enabled, double minSimilarity, int minTokens, long ttlMinutes, long maxSize, Ticker ticker) {
+        this.enabled = enabled;
+        // 해밍거리 d 허용 → bands = d+1 (구간 폭이 32bit 를 넘지 않도록 2..32 로 제한)
+        int d = (int) Math.floor((1.0 - minSimilarity) * 64);
+        this.bands = Math.max(2, Math.min(32, d + 1));
+        this.maxDistance = Math.max(0, Math.min(d, bands - 1));
+        this.minTokens = minTokens;
+        this.entries = Caffeine.newBuilder()
+                .ticker(ticker)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .maximumSize(maxSize)
+                .<Long, Entry>evictionListener((sig, e, cause) -> { if (sig != null && e != null) unindex(sig, e); })
+                .build();
+    }
+
+    /** 요청의 SimHash 서명. 비활성화/토큰 부족(짧은 글)이면 null */
+    public Long signature(FeedVerificationRequest req) {
+        return signature(TextAnalyzer.analyze(req.title(), req.text(), req.sourceUrl()));
+    }
+
+    /** 분석된 요청 문서(제목 + 본문 정규화 토큰)의 SimHash 서명 */
+    public Long signature(AnalyzedDocument doc) {
+        if (!enabled) return null;
+        var stop = TextUtils.stopwords();
+        int terms = 0;
+        for (int i = 0; i < doc.termCount(); i++) {
+            if (!stop.contains(doc.term(i))) terms++;
+        }
+        if (terms < minTokens) return null;
+
+        int[] acc = new int[64];
+        for (int i = 0; i < doc.termCount(); i++) {
+            String t = doc.term(i);
+            if (stop.contains(t)) continue;
+            long h = hash64(t);
+            int w = doc.termFreq(i);
+            for (int bit = 0; bit < 64; bit++) {
+                acc[bit] += ((h >>> bit) & 1L) != 0 ? w : -w;
+            }
+        }
+        long sig = 0L;
+        for (int bit = 0; bit < 64; bit++) {
+            if (acc[bit] > 0) sig |= 1L << bit;
+        }
+        return sig;
+    }
+
+    /** 허용 거리 안의 가장 가까운 기존 판정 → nearDuplicate 주석을 단 응답, 없으면 null */
+    public VerificationResponse find(long sig) {
+        long bestSig = 0L;
+        int bestDist = Integer.MAX_VALUE;
+        for (int b = 0; b < bands; b++) {
+            Map<Long, Entry> bucket = buckets.get(bucketKey(sig, b));
+            if (bucket == null) continue;
+            for (Long cand : bucket.keySet()) {
+                int dist = Long.bitCount(sig ^ cand);
+                if (dist < bestDist) {
+                    bestDist = dist;
+                    bestSig = cand;
+                }
+            }
+        }
+        if (bestDist > maxDistance) return null;
+
+        Entry e = entries.getIfPresent(bestSig);
+        if (e == null) return null; // 방금 퇴출됨
+        double similarity = 1.0 - bestDist / 64.0;
+        return e.response.withNearDuplicate(new NearDuplicateMatch(similarity, e.claim, e.verifiedAt));
+    }
+
+    /** 새로 계산된 판정을 등록 (근거 없는 응답은 제외) */
+    public void put(long sig, FeedVerificationRequest req, VerificationResponse res) {
+        put(sig, TextAnalyzer.analyze(req.title(), req.text(), req.sourceUrl()), res);
+    }
+
+    public void put(long sig, AnalyzedDocument doc, VerificationResponse res) {
+        if (!VerdictCache.isCacheable(res)) return;
+        String claim = doc.normalized();
+        if (claim.length() > PREVIEW_LEN) claim = claim.substring(0, PREVIEW_LEN);
+        Entry entry = new Entry(res, claim, OffsetDateTime.now());
+        // 서명 단위 compute: 같은 서명의 동시 put 끼리 버킷 주인과 entries 값이 어긋나지 않음.
+        // 이전 항목의 퇴출 통지가 등록 전후 어느 쪽에 오든 주인이 entry 로 바뀌었으므로 지워지지 않음
+        entries.asMap().compute(sig, (k, old) -> {
+            for (int b = 0; b < bands; b++) {
+                buckets.compute(bucketKey(sig, b), (bk, bucket) -> {
+                    if (bucket == null) bucket = new ConcurrentHashMap<>();
+                    bucket.put(sig, entry);
+                    return bucket;
+                });
+            }
+            return entry;
+        });
+    }
+
+    // ===== helpers =====
+
+    /** 퇴출된 entry 가 아직 버킷 주인일 때만 제거 (그 사이 같은 서명으로 재등록된 항목은 유지) */
+    private void unindex(long sig, Entry evicted) {
+        for (int b = 0; b < bands; b++) {
+            buckets.computeIfPresent(bucketKey(sig, b), (k, bucket) -> {
+                bucket.remove(sig, evicted);
+                return bucket.isEmpty() ? null : bucket;
+            });
+        }
+    }
+
+    /** 밀린 퇴출(evictionListener → unindex)을 호출 스레드에서 처리 (테스트용) */
+    void cleanUp() {
+        entries.cleanUp();
+    }
+
+    /** 버킷에 등록된 서명 수 (테스트용) */
+    int indexedSignatures() {
+        Set<Long> sigs = new HashSet<>();
+        for (Map<Long, Entry> bucket : buckets.values()) sigs.addAll(bucket.keySet());
+        return sigs.size();
+    }
+
+    /** (밴드 번호, 밴드 구간 비트값) → 버킷 키. 마지막 밴드가 나머지 비트를 가짐(항상 32bit 이하) */
+    private long bucketKey(long sig, int band) {
+        int width = 64 / bands;
+        int shift = band * width;
+        int bits = (band == bands - 1) ? 64 - shift : width;
+        return ((long) band << 32) | ((sig >>> shift) & ((1L << bits) - 1));
+    }
+
+    /** FNV-1a 64 + murmur3 finalizer */
+    private static long hash64(String s) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < s.length(); i++) {
+            h ^= s.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb93fe1a3c5a3L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,48 @@
+package com.goormthonuniv.cleannews.service;
+
+import com.goormthonuniv.cleannews.dto.Evidence;
+import com.goormthonuniv.cleannews.resilience.AdaptiveLimiter;
+import com.goormthonuniv.cleannews.search.SearchResult;
+
+import java.util.List;
+
+/**
+ * 파이프라인을 실제로 실행한 요청만 AdaptiveLimiter 의 RTT 표본이 되도록 permit 에 표시하고,
+ * 단계 이벤트는 그대로 delegate 에 전달. 판정 캐시/유사 게시물 hit, 진행 중 요청 합류는 표본에서 빠진다.
+ */
+public class SamplingListener implements VerificationListener {
+
+    private final AdaptiveLimiter.Permit permit;
+    private final VerificationListener delegate;
+
+    public SamplingListener(AdaptiveLimiter.Permit permit, VerificationListener delegate) {
+        this.permit = permit;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void onPipeline() {
+        permit.sample();
+        delegate.onPipeline();
+    }
+
+    @Override
+    public void onKeywords(List<String> keywords, String query) {
+        delegate.onKeywords(keywords, query);
+    }
+
+    @Override
+    public void onAdapterHits(String adapter, String query, List<SearchResult> hits) {
+        delegate.onAdapterHits(adapter, query, hits);
+    }
+
+    @Override
+    public void onSearch(String query, List<SearchResult> hits, boolean fallback) {
+        delegate.onSearch(query, hits, fallback);
+    }
+
+    @Override
+    public void onEvidences(List<Evidence> evidences) {
+        delegate.onEvidences(evidences);
+    }
+}
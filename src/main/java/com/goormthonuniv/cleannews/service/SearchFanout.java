@@ -0,0 +1,216 @@
+package com.goormthonuniv.cleannews.service;
+
+import com.goormthonuniv.cleannews.jfr.OutboundCallEvent;
+import com.goormthonuniv.cleannews.resilience.CallNotPermittedException;
+import com.goormthonuniv.cleannews.resilience.Guard;
+import com.goormthonuniv.cleannews.resilience.RateLimitedException;
+import com.goormthonuniv.cleannews.resilience.RateLimiters;
+import com.goormthonuniv.cleannews.resilience.Resilience;
+import com.goormthonuniv.cleannews.search.SearchAdapter;
+import com.goormthonuniv.cleannews.search.SearchResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 검색 어댑터 호출 담당.
+ * - parallel 모드: 모든 어댑터를 bounded executor에서 동시에 호출, 어댑터별 데드라인까지만 대기
+ * - 순차 모드(cleannews.search.fanout.enabled=false): 기존처럼 하나씩 호출
+ * - 타임아웃/예외가 난 어댑터는 결과 없이 건너뜀(요청은 실패시키지 않음)
+ * - 결과는 어댑터 등록 순서대로 이어붙여 반환 → 순차 모드와 dedupe 결과가 동일
+ * - 어댑터별 Guard: 브레이커가 열린 어댑터는 즉시 건너뛰고, 데드라인은 min(설정값, 관측 p99 기반 값)
+ * - 헤지 설정된 어댑터는 관측 p95 를 넘기면 복제 요청(호출 한도 안에서만)
+ * - 어댑터별 호출 한도(RateLimiters): 짧은 대기는 기다리고, 한도/쿼터 초과면 이번 요청에서 건너뜀.
+ *   건너뛴 어댑터 수는 Result 로 알려 줌 → 호출자가 빈 결과와 구분(폴백 생략, 캐시 안 함). 재시도도 허가를 다시 받음
+ */
+@Slf4j
+@Component
+public class SearchFanout {
+
+    private final List<SearchAdapter> adapters;
+    private final ExecutorService executor;
+    private final Resilience resilience;
+    private final RateLimiters rateLimiters;
+    private final VerificationMetrics metrics;
+    private final boolean parallel;
+    private final Map<String, Long> timeoutMs = new HashMap<>();
+
+    /**
+     * fan-out 결과.
+     * @param hits        어댑터 순서대로 합친 결과
+     * @param rateLimited 호출 한도/쿼터 초과로 건너뛴 어댑터 수
+     * @param called      실제로 호출한 어댑터 수 (성공/실패/timeout 포함, 브레이커 OPEN·한도 초과 제외)
+     */
+    public record Result(List<SearchResult> hits, int rateLimited, int called) {
+
+        /** 호출 한도 때문에 어떤 어댑터도 호출하지 못함 → 다른 쿼리로 다시 보내도 같은 결과 */
+        public boolean throttled() {
+            return called == 0 && rateLimited > 0;
+        }
+
+        /** 일부라도 한도로 건너뜀 → 완전한 결과가 아니므로 캐시하지 않음 */
+        public boolean partial() {
+            return rateLimited > 0;
+        }
+
+        public Result withHits(List<SearchResult> hits) {
+            return new Result(hits, rateLimited, called);
+        }
+    }
+
+    public SearchFanout(List<SearchAdapter> adapters,
+                        @Qualifier("searchExecutor") ExecutorService executor,
+                        Resilience resilience,
+                        RateLimiters rateLimiters,
+                        VerificationMetrics metrics,
+                        Environment env,
+                        @Value("${cleannews.search.fanout.enabled:true}") boolean parallel,
+                        @Value("${cleannews.search.fanout.timeoutMs:3000}") long defaultTimeoutMs) {
+        this.adapters = adapters;
+        this.executor = executor;
+        this.resilience = resilience;
+        this.rateLimiters = rateLimiters;
+        this.metrics = metrics;
+        this.parallel = parallel;
+        // 어댑터별 개별 데드라인: cleannews.search.fanout.adapterTimeoutMs.<name>
+        for (SearchAdapter a : adapters) {
+            timeoutMs.put(a.name(), env.getProperty(
+                    "cleannews.search.fanout.adapterTimeoutMs." + a.name(), Long.class, defaultTimeoutMs));
+        }
+    }
+
+    /** 모든 어댑터 결과를 어댑터 순서대로 합쳐 반환 (dedupe 전). 어댑터 데드라인은 요청 데드라인을 넘지 않음 */
+    public Result searchAll(String query, int limit, VerificationListener listener, Deadline deadline) {
+        if (!parallel || adapters.size() <= 1) return searchSequential(query, limit, listener, deadline);
+
+        long start = System.nanoTime();
+        int n = adapters.size();
+        long[] deadlines = new long[n];
+        List<Future<List<SearchResult>>> futures = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            SearchAdapter a = adapters.get(i);
+            Guard g = resilience.guard(a.name());
+            // 모든 어댑터가 같은 시점에 출발했으므로 데드라인은 start 기준
+            long adapterDeadline = deadline.earliest(
+                    start + TimeUnit.MILLISECONDS.toNanos(g.timeoutMs(timeoutMs.get(a.name()))));
+            deadlines[i] = adapterDeadline;
+            futures.add(executor.submit(() -> call(a, g, query, limit, adapterDeadline, listener)));
+        }
+
+        List<SearchResult> all = new ArrayList<>();
+        int rateLimited = 0, called = 0;
+        for (int i = 0; i < n; i++) {
+            SearchAdapter a = adapters.get(i);
+            Future<List<SearchResult>> f = futures.get(i);
+            try {
+                List<SearchResult> r = f.get(Math.max(0L, deadlines[i] - System.nanoTime()), TimeUnit.NANOSECONDS);
+                called++;
+                if (r != null) all.addAll(r);
+            } catch (TimeoutException e) {
+                called++;
+                f.cancel(true);
+                log.atInfo().addKeyValue("adapter", a.name())
+                        .addKeyValue("timeoutMs", TimeUnit.NANOSECONDS.toMillis(deadlines[i] - start))
+                        .log("adapter.timeout");
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof CallNotPermittedException) continue; // 브레이커 OPEN → 조용히 skip
+                if (e.getCause() instanceof RateLimitedException) {
+                    rateLimited++;
+                    continue;
+                }
+                called++;
+                log.atWarn().addKeyValue("adapter", a.name()).addKeyValue("error", e.getCause().getMessage())
+                        .log("adapter.error");
+            } catch (CancellationException ignored) {
+            } catch (InterruptedException e) {
+                // 상위(폴백 경합 등)에서 취소됨 → 남은 호출도 정리
+                futures.forEach(x -> x.cancel(true));
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return new Result(all, rateLimited, called);
+    }
+
+    private Result searchSequential(String query, int limit, VerificationListener listener, Deadline deadline) {
+        List<SearchResult> all = new ArrayList<>();
+        int rateLimited = 0, called = 0;
+        for (SearchAdapter a : adapters) {
+            if (deadline.expired()) break;
+            Guard g = resilience.guard(a.name());
+            long adapterDeadline = deadline.earliest(
+                    System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(g.timeoutMs(timeoutMs.get(a.name()))));
+            try {
+                all.addAll(call(a, g, query, limit, adapterDeadline, listener));
+                called++;
+            } catch (CallNotPermittedException ignored) {
+            } catch (RateLimitedException e) {
+                rateLimited++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                called++;
+                log.atWarn().addKeyValue("adapter", a.name()).addKeyValue("error", e.getMessage())
+                        .log("adapter.error");
+            }
+        }
+        return new Result(all, rateLimited, called);
+    }
+
+    /**
+     * 호출 한도 → 브레이커/재시도 적용 어댑터 호출 + 도착 알림
+     * @throws RateLimitedException 호출 한도/쿼터 초과 (호출하지 않음)
+     */
+    private List<SearchResult> call(SearchAdapter a, Guard g, String query, int limit, long deadline,
+                                    VerificationListener listener) throws Exception {
+        // 브레이커가 열려 있으면 호출 한도 토큰/일일 쿼터를 쓰기 전에 건너뜀
+        if (!g.breaker().isCallPermitted()) {
+            metrics.adapterSkipped(a.name(), "breaker_open");
+            throw new CallNotPermittedException(a.name());
+        }
+        if (!rateLimiters.acquire(a.name(), deadline)) {
+            // 한도 초과를 빈 결과로 흘려보내지 않음(브레이커/지연 통계에도 넣지 않음)
+            log.atInfo().addKeyValue("adapter", a.name()).log("adapter.rate_limited");
+            metrics.adapterSkipped(a.name(), "rate_limited");
+            throw new RateLimitedException(a.name());
+        }
+        Resilience.CallPermit permit = new Resilience.CallPermit() {
+            @Override
+            public boolean acquire(long d) throws InterruptedException {
+                return rateLimiters.acquire(a.name(), d);
+            }
+
+            @Override
+            public void refund() {
+                rateLimiters.refund(a.name());
+            }
+        };
+        Callable<List<SearchResult>> search = () -> a.search(query, limit);
+        OutboundCallEvent event = OutboundCallEvent.start(a.name(), query.length());
+        long start = System.nanoTime();
+        List<SearchResult> r;
+        try {
+            r = g.hedging()
+                    ? resilience.hedged(g, search, deadline, permit)
+                    : resilience.attempt(g, search, deadline, permit);
+        } catch (CallNotPermittedException e) {
+            metrics.adapterSkipped(a.name(), "breaker_open");
+            event.finish(0, "skipped", e);
+            throw e;
+        } catch (Exception e) {
+            metrics.adapterCall(a.name(), "error", System.nanoTime() - start, -1);
+            event.finish(0, "error", e);
+            throw e;
+        }
+        metrics.adapterCall(a.name(), "success", System.nanoTime() - start, r.size());
+        event.finish(r.size(), "success");
+        VerificationListener.safely(() -> listener.onAdapterHits(a.name(), query, r));
+        return r;
+    }
+}
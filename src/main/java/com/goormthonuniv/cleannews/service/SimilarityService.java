@@ -1,5 +1,9 @@
 package com.goormthonuniv.cleannews.service;
 
+import com.goormthonuniv.cleannews.util.AnalyzedDocument;
+import com.goormthonuniv.cleannews.util.SparseVector;
+import com.goormthonuniv.cleannews.util.TextAnalyzer;
+import com.goormthonuniv.cleannews.util.TokenDictionary;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
@@ -7,32 +11,35 @@ import java.util.*;
 @Service
 public class SimilarityService {
 
-    // 간단한 TF-Cosine
+    // 간단한 TF-Cosine (공백 분리 2자 이상 토큰)
     public double cosine(String a, String b) {
         if (a == null || b == null || a.isBlank() || b.isBlank()) return 0.0;
-        Map<String, Integer> va = tf(a);
-        Map<String, Integer> vb = tf(b);
-        Set<String> union = new HashSet<>(va.keySet());
-        union.addAll(vb.keySet());
-        double dot = 0, na = 0, nb = 0;
-        for (String k : union) {
-            int xa = va.getOrDefault(k, 0);
-            int xb = vb.getOrDefault(k, 0);
-            dot += (double) xa * xb;
-            na  += (double) xa * xa;
-            nb  += (double) xb * xb;
+        TokenDictionary dict = new TokenDictionary();
+        return cosine(TextAnalyzer.terms(a, dict), TextAnalyzer.terms(b, dict));
+    }
+
+    /** 같은 사전으로 분석된 두 문서의 TF-Cosine (희소 벡터 병합 조인, 할당 없음) */
+    public double cosine(AnalyzedDocument a, AnalyzedDocument b) {
+        requireSameDictionary(a, b);
+        return a.vector().cosine(b.vector());
+    }
+
+    /** 주장 1건 vs 근거 N건 (주장 벡터/norm 은 한 번만 사용). 결과는 evidences 순서 */
+    public double[] cosine(AnalyzedDocument claim, List<AnalyzedDocument> evidences) {
+        SparseVector v = claim.vector();
+        double[] out = new double[evidences.size()];
+        for (int i = 0; i < out.length; i++) {
+            AnalyzedDocument e = evidences.get(i);
+            requireSameDictionary(claim, e);
+            out[i] = v.cosine(e.vector());
         }
-        if (na == 0 || nb == 0) return 0.0;
-        return dot / (Math.sqrt(na) * Math.sqrt(nb));
+        return out;
     }
 
-    private Map<String, Integer> tf(String text) {
-        Map<String, Integer> m = new HashMap<>();
-        for (String t : text.split("\\s+")) {
-            if (t.length() < 2) continue;
-            m.merge(t, 1, Integer::sum);
+    private static void requireSameDictionary(AnalyzedDocument a, AnalyzedDocument b) {
+        if (a.dictionary() != b.dictionary()) {
+            throw new IllegalArgumentException("documents must share a token dictionary");
         }
-        return m;
     }
 
     // 매우 간단한 도메인 신뢰도(데모)
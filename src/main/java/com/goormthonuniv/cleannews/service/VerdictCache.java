@@ -0,0 +1,169 @@
+package com.goormthonuniv.cleannews.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.goormthonuniv.cleannews.dto.FeedVerificationRequest;
+import com.goormthonuniv.cleannews.dto.VerificationResponse;
+import com.goormthonuniv.cleannews.util.TextUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * 최종 판정(VerificationResponse) 캐시.
+ * - 키: 정규화 본문 + 정규화 제목 + sourceUrl 호스트 + 언어 → SHA-256 fingerprint
+ * - 동일 요청이 동시에 들어오면 single-flight: 첫 요청만 계산하고 나머지는 같은 결과를 기다림.
+ *   단, 진행 중 계산의 데드라인이 내 데드라인보다 이르면 합류하지 않고 따로 계산(짧은 예산의 degraded 판정이
+ *   긴 예산 요청에 번지지 않도록), 합류했더라도 공유 결과가 degraded 이고 내 예산이 남아 있으면 다시 계산
+ * - 근거(evidences)가 없는 응답(오류/검색 실패 등)은 캐시에 남기지 않음
+ */
+@Component
+public class VerdictCache {
+
+    private final boolean enabled;
+    private final AsyncCache<String, VerificationResponse> cache;
+
+    public VerdictCache(@Value("${cleannews.cache.verdict.enabled:true}") boolean enabled,
+                        @Value("${cleannews.cache.verdict.ttlMinutes:30}") long ttlMinutes,
+                        @Value("${cleannews.cache.verdict.maxSize:10000}") long maxSize) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .maximumSize(maxSize)
+                .buildAsync();
+    }
+
+    /** 캐시 hit 이면 즉시, 같은 키 계산이 진행 중이면(예산이 충분할 때) 그 결과를, 아니면 loader 로 계산(호출 스레드) */
+    public VerificationResponse get(FeedVerificationRequest req, Deadline deadline, Supplier<VerificationResponse> loader) {
+        return await(getAsync(req, deadline, () -> CompletableFuture.completedFuture(loader.get())));
+    }
+
+    /** 비동기 버전: loader 가 돌려준 future 를 같은 키·같거나 긴 예산의 동시 요청들이 공유 */
+    public CompletableFuture<VerificationResponse> getAsync(FeedVerificationRequest req, Deadline deadline,
+                                                            Supplier<CompletableFuture<VerificationResponse>> loader) {
+        if (!enabled) return load(loader);
+
+        String key = fingerprint(req);
+        Flight mine = new Flight(deadline.atNanos());
+        CompletableFuture<VerificationResponse> prior = cache.asMap().putIfAbsent(key, mine);
+        if (prior != null) {
+            if (!canJoin(prior, deadline)) return loadAside(key, loader);
+            // 호출측 cancel 이 공유 future 에 번지지 않도록 복사본
+            return prior.copy().thenCompose(res -> res != null && Boolean.TRUE.equals(res.degraded()) && !deadline.expired()
+                    ? loadAside(key, loader)
+                    : CompletableFuture.completedFuture(res));
+        }
+
+        load(loader).whenComplete((res, err) -> {
+            if (err != null || !isCacheable(res)) cache.asMap().remove(key, mine);
+            if (err != null) mine.completeExceptionally(err);
+            else mine.complete(res);
+        });
+        return mine.copy();
+    }
+
+    /** 완료된 판정이거나, 진행 중 계산의 데드라인이 내 데드라인보다 이르지 않을 때만 합류 */
+    private static boolean canJoin(CompletableFuture<VerificationResponse> prior, Deadline deadline) {
+        if (prior.isDone() || !(prior instanceof Flight flight)) return true;
+        return flight.deadlineNanos - deadline.atNanos() >= 0;
+    }
+
+    /** 공유 계산과 별도로 계산, 재사용 가능한 결과면 캐시 항목을 이것으로 교체 */
+    private CompletableFuture<VerificationResponse> loadAside(String key,
+                                                              Supplier<CompletableFuture<VerificationResponse>> loader) {
+        return load(loader).thenApply(res -> {
+            if (isCacheable(res)) cache.put(key, CompletableFuture.completedFuture(res));
+            return res;
+        });
+    }
+
+    /** 진행 중 계산 (계산을 시작한 요청의 데드라인을 함께 보관 → 합류 판단에 사용) */
+    private static final class Flight extends CompletableFuture<VerificationResponse> {
+        final long deadlineNanos;
+
+        Flight(long deadlineNanos) {
+            this.deadlineNanos = deadlineNanos;
+        }
+    }
+
+    /** 완료된 판정을 직접 저장 (예산을 넘겨 끝난 계산 결과 등). 재사용할 수 없는 응답은 무시 */
+    public void put(FeedVerificationRequest req, VerificationResponse res) {
+        if (!enabled || !isCacheable(res)) return;
+        cache.put(fingerprint(req), CompletableFuture.completedFuture(res));
+    }
+
+    /** 이미 완료된 판정만 즉시 반환 (진행 중/없음이면 null) — 과부하 시 캐시 전용 응답용 */
+    public VerificationResponse peek(FeedVerificationRequest req) {
+        if (!enabled) return null;
+        CompletableFuture<VerificationResponse> f = cache.getIfPresent(fingerprint(req));
+        return f != null && f.isDone() && !f.isCompletedExceptionally() ? f.join() : null;
+    }
+
+    /** 완료되었거나 진행 중인 판정이 있는지 */
+    public boolean contains(FeedVerificationRequest req) {
+        return enabled && cache.asMap().containsKey(fingerprint(req));
+    }
+
+    static boolean isCacheable(VerificationResponse res) {
+        // 시간 예산 부족(degraded) 판정은 재사용하지 않음
+        return res != null && !Boolean.TRUE.equals(res.degraded())
+                && res.evidences() != null && !res.evidences().isEmpty();
+    }
+
+    /** 요청의 정규 fingerprint (본문/제목 정규화, 호스트/언어 소문자화) */
+    public static String fingerprint(FeedVerificationRequest req) {
+        String canonical = String.join("\u0001",
+                TextUtils.normalize(req.text()),
+                TextUtils.normalize(req.title()),
+                host(req.sourceUrl()),
+                req.language() == null ? "" : req.language().strip().toLowerCase(Locale.ROOT));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // ===== helpers =====
+
+    private static CompletableFuture<VerificationResponse> load(Supplier<CompletableFuture<VerificationResponse>> loader) {
+        try {
+            return loader.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static VerificationResponse await(CompletableFuture<VerificationResponse> f) {
+        try {
+            return f.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        }
+    }
+
+    private static String host(String url) {
+        if (url == null || url.isBlank()) return "";
+        try {
+            String h = URI.create(url.strip()).getHost();
+            if (h == null) return "";
+            h = h.toLowerCase(Locale.ROOT);
+            return h.startsWith("www.") ? h.substring(4) : h;
+        } catch (Exception e) {
+            return "";
+        }
+    }
+}
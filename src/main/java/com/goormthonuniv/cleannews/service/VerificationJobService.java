@@ -0,0 +1,128 @@
+package com.goormthonuniv.cleannews.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.goormthonuniv.cleannews.dto.FeedVerificationRequest;
+import com.goormthonuniv.cleannews.dto.VerificationJob;
+import com.goormthonuniv.cleannews.http.OutboundHttp;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 장시간 검증(LLM 모드 등)용 job 실행기.
+ * - submit: job id 즉시 발급, jobExecutor(워커 수/큐 깊이 제한)에서 실행. 큐가 차면 RejectedExecutionException
+ * - 결과는 TTL/크기 제한이 있는 store 에 보관 → GET 으로 조회
+ * - callbackUrl 이 있으면 완료(DONE/FAILED) 시 job 을 그대로 POST (실패해도 결과는 store 에 남음).
+ *   전송 직전에 다시 검사해 얻은 주소로만 접속 (검사 후 DNS 가 바뀌어도 그 주소로는 가지 않음)
+ * - 대화형 요청 예산(cleannews.deadline.*) 대신 job 예산(cleannews.jobs.deadlineMs)으로 실행
+ */
+@Slf4j
+@Service
+public class VerificationJobService {
+
+    private final VerificationOrchestrator orchestrator;
+    private final ExecutorService jobExecutor;
+    private final OutboundHttp http;
+    private final ObjectMapper json;
+    private final CallbackUrlPolicy callbackPolicy;
+    private final Cache<String, VerificationJob> jobs;
+    private final long deadlineMs;
+
+    @Autowired
+    public VerificationJobService(VerificationOrchestrator orchestrator,
+                                  @Qualifier("jobExecutor") ExecutorService jobExecutor,
+                                  OutboundHttp http,
+                                  ObjectMapper json,
+                                  CallbackUrlPolicy callbackPolicy,
+                                  @Value("${cleannews.jobs.ttlMinutes:60}") long ttlMinutes,
+                                  @Value("${cleannews.jobs.maxSize:10000}") long maxSize,
+                                  @Value("${cleannews.jobs.deadlineMs:300000}") long deadlineMs) {
+        this(orchestrator, jobExecutor, http, json, callbackPolicy, ttlMinutes, maxSize, deadlineMs, Ticker.systemTicker());
+    }
+
+    /** ticker: 결과 TTL 을 재는 시계 (테스트용) */
+    VerificationJobService(VerificationOrchestrator orchestrator, ExecutorService jobExecutor, OutboundHttp http,
+                           ObjectMapper json, CallbackUrlPolicy callbackPolicy,
+                           long ttlMinutes, long maxSize, long deadlineMs, Ticker ticker) {
+        this.orchestrator = orchestrator;
+        this.jobExecutor = jobExecutor;
+        this.http = http;
+        this.json = json;
+        this.callbackPolicy = callbackPolicy;
+        this.jobs = Caffeine.newBuilder()
+                .ticker(ticker)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .maximumSize(maxSize)
+                .build();
+        this.deadlineMs = deadlineMs;
+    }
+
+    /** job 등록 후 즉시 반환 (QUEUED) */
+    public VerificationJob submit(FeedVerificationRequest req, String callbackUrl) {
+        VerificationJob job = new VerificationJob(UUID.randomUUID().toString(), "QUEUED",
+                OffsetDateTime.now(), null, callbackUrl, null, null);
+        jobs.put(job.id(), job);
+        try {
+            jobExecutor.execute(() -> run(job, req));
+        } catch (RejectedExecutionException e) {
+            jobs.invalidate(job.id());
+            throw e;
+        }
+        return job;
+    }
+
+    /** 없거나 TTL 만료면 null */
+    public VerificationJob find(String id) {
+        return jobs.getIfPresent(id);
+    }
+
+    /** callbackUrl 은 공인 주소로 해석되는(설정 시 허용 목록의) http(s) 절대 URL 만 허용 */
+    public boolean isValidCallback(String url) {
+        return callbackPolicy.isAllowed(url);
+    }
+
+    private void run(VerificationJob job, FeedVerificationRequest req) {
+        jobs.put(job.id(), job.withStatus("RUNNING"));
+        VerificationJob finished;
+        try {
+            finished = job.done(orchestrator.verify(req, Deadline.afterMs(deadlineMs)));
+        } catch (Exception e) {
+            finished = job.failed(e.getMessage());
+        }
+        jobs.put(job.id(), finished);
+        log.atInfo().addKeyValue("jobId", job.id()).addKeyValue("status", finished.status()).log("job.finished");
+        if (finished.callbackUrl() != null) notifyCallback(finished);
+    }
+
+    private void notifyCallback(VerificationJob job) {
+        // 등록 후 DNS 가 내부 주소로 바뀌었을 수 있으므로 전송 직전에 다시 검사하고, 검사한 주소로만 접속
+        InetAddress address = callbackPolicy.resolve(job.callbackUrl());
+        if (address == null) {
+            log.atWarn().addKeyValue("jobId", job.id()).log("job.callback_rejected");
+            return;
+        }
+        try {
+            int status = http.postPinned("webhook", URI.create(job.callbackUrl()), address,
+                    MediaType.APPLICATION_JSON_VALUE, json.writeValueAsBytes(job));
+            if (status >= 300) {
+                log.atWarn().addKeyValue("jobId", job.id()).addKeyValue("status", status).log("job.callback_error");
+            }
+        } catch (Exception e) {
+            log.atWarn().addKeyValue("jobId", job.id()).addKeyValue("error", e.getMessage()).log("job.callback_error");
+        }
+    }
+}
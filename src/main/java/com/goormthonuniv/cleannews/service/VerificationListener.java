@@ -0,0 +1,41 @@
+package com.goormthonuniv.cleannews.service;
+
+import com.goormthonuniv.cleannews.dto.Evidence;
+import com.goormthonuniv.cleannews.search.SearchResult;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * 검증 파이프라인 중간 결과 알림 (SSE 진행 스트리밍 등).
+ * 콜백은 검색 워커 스레드에서도 호출될 수 있으므로 구현은 thread-safe 해야 하고, 예외는 무시된다.
+ */
+public interface VerificationListener {
+
+    VerificationListener NONE = new VerificationListener() {};
+
+    /** 판정 캐시/유사 게시물 hit 가 아니어서 파이프라인 실행 시작 (모드 무관, 이후 단계 이벤트보다 먼저) */
+    default void onPipeline() {}
+
+    /** 키워드 추출/1차 쿼리 구성 완료 */
+    default void onKeywords(List<String> keywords, String query) {}
+
+    /** 어댑터 하나의 응답 도착 (완료 순서대로) */
+    default void onAdapterHits(String adapter, String query, List<SearchResult> hits) {}
+
+    /** 1차 검색(또는 폴백 승자) 결과 확정 */
+    default void onSearch(String query, List<SearchResult> hits, boolean fallback) {}
+
+    /** 유사도 순 근거 확정 (LLM 보정 전) */
+    default void onEvidences(List<Evidence> evidences) {}
+
+    /** 콜백 호출 (listener 예외는 파이프라인에 영향 주지 않음) */
+    static void safely(Runnable event) {
+        try {
+            event.run();
+        } catch (Exception e) {
+            LoggerFactory.getLogger(VerificationListener.class).atWarn()
+                    .addKeyValue("error", e.getMessage()).log("listener.error");
+        }
+    }
+}
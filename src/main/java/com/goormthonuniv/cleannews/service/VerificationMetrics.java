@@ -0,0 +1,122 @@
+package com.goormthonuniv.cleannews.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.goormthonuniv.cleannews.jfr.StageEvent;
+import com.goormthonuniv.cleannews.logging.CorrelationIdFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 검증 파이프라인 메트릭.
+ * - cleannews.verify.stage{stage}: 단계별 소요 시간 (normalize, keywords, search_primary, search_fallback,
+ *   fallback_query, score, llm_judge, llm_verifier)
+ * - cleannews.search.adapter{adapter,outcome}: 어댑터 호출 지연 히스토그램, cleannews.search.adapter.hits{adapter}: 결과 건수
+ * - cleannews.search.adapter.skipped{adapter,reason}: 호출 한도/브레이커로 건너뛴 횟수
+ * - cleannews.search.fallback.depth{outcome}: 폴백에서 시도한 후보 수 분포
+ * - cache.gets/cache.evictions/cache.size{cache=searchCache}: Caffeine 통계 (recordStats 필요)
+ * 단계 시간은 JFR cleannews.Stage 이벤트로도 남긴다 (녹화 중일 때만 비용 발생).
+ */
+@Component
+public class VerificationMetrics {
+
+    private final MeterRegistry registry;
+    private final Map<String, Timer> stages = new ConcurrentHashMap<>();
+    private final Map<String, Timer> adapterTimers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> adapterHits = new ConcurrentHashMap<>();
+
+    public VerificationMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /** 진행 중인 단계 측정. end() 에서 타이머 + JFR 이벤트 기록 */
+    public final class Span {
+        private final String stage;
+        private final long start = System.nanoTime();
+        private final StageEvent event = new StageEvent();
+
+        private Span(String stage) {
+            this.stage = stage;
+            // 요청 id 는 시작 스레드에서: end() 는 MDC 가 없는 완료 스레드에서 불릴 수 있음
+            if (event.isEnabled()) event.requestId = MDC.get(CorrelationIdFilter.MDC_KEY);
+            event.begin();
+        }
+
+        public void end() {
+            stageTimer(stage).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            event.end();
+            if (event.shouldCommit()) {
+                event.stage = stage;
+                event.commit();
+            }
+        }
+    }
+
+    public Span start(String stage) {
+        return new Span(stage);
+    }
+
+    public <T> T stage(String stage, Supplier<T> body) {
+        Span span = start(stage);
+        try {
+            return body.get();
+        } finally {
+            span.end();
+        }
+    }
+
+    public Timer stageTimer(String stage) {
+        return stages.computeIfAbsent(stage, s -> Timer.builder("cleannews.verify.stage")
+                .tag("stage", s)
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+
+    /** outcome: success | error */
+    public void adapterCall(String adapter, String outcome, long nanos, int hits) {
+        adapterTimers.computeIfAbsent(adapter + '|' + outcome, k -> Timer.builder("cleannews.search.adapter")
+                        .tag("adapter", adapter)
+                        .tag("outcome", outcome)
+                        .publishPercentileHistogram()
+                        .register(registry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+        if (hits >= 0) {
+            adapterHits.computeIfAbsent(adapter, a -> DistributionSummary.builder("cleannews.search.adapter.hits")
+                            .tag("adapter", a)
+                            .register(registry))
+                    .record(hits);
+        }
+    }
+
+    /** reason: rate_limited | breaker_open */
+    public void adapterSkipped(String adapter, String reason) {
+        Counter.builder("cleannews.search.adapter.skipped")
+                .tag("adapter", adapter)
+                .tag("reason", reason)
+                .register(registry)
+                .increment();
+    }
+
+    /** Caffeine 캐시 통계를 cache.* 메트릭으로 노출 */
+    public void monitor(Cache<?, ?> cache, String name) {
+        CaffeineCacheMetrics.monitor(registry, cache, name);
+    }
+
+    /** 폴백에서 실제 시도한 후보 수 (outcome: hit | miss) */
+    public void fallbackDepth(int attempted, boolean hit) {
+        DistributionSummary.builder("cleannews.search.fallback.depth")
+                .tag("outcome", hit ? "hit" : "miss")
+                .serviceLevelObjectives(1, 2, 4, 8, 16, 24)
+                .register(registry)
+                .record(attempted);
+    }
+}
@@ -2,16 +2,27 @@ package com.goormthonuniv.cleannews.service;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
 import com.goormthonuniv.cleannews.dto.Evidence;
 import com.goormthonuniv.cleannews.dto.FeedVerificationRequest;
 import com.goormthonuniv.cleannews.dto.VerificationResponse;
+import com.goormthonuniv.cleannews.jfr.OutboundCallEvent;
+import com.goormthonuniv.cleannews.jfr.SearchEvent;
 import com.goormthonuniv.cleannews.llm.LlmJudge;
 import com.goormthonuniv.cleannews.llm.OpenAiVerifier;
-import com.goormthonuniv.cleannews.search.SearchAdapter;
+import com.goormthonuniv.cleannews.resilience.CallNotPermittedException;
+import com.goormthonuniv.cleannews.resilience.OverloadedException;
+import com.goormthonuniv.cleannews.resilience.Resilience;
 import com.goormthonuniv.cleannews.search.SearchResult;
-import com.goormthonuniv.cleannews.util.TextUtils;
+import com.goormthonuniv.cleannews.util.AhoCorasick;
+import com.goormthonuniv.cleannews.util.AnalyzedDocument;
+import com.goormthonuniv.cleannews.util.TextAnalyzer;
+import com.goormthonuniv.cleannews.util.TokenDictionary;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -19,8 +30,17 @@ import java.net.URI;
 import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class VerificationOrchestrator {
@@ -32,41 +52,280 @@ public class VerificationOrchestrator {
     @Value("${cleannews.mode:hybrid}")
     private String mode;
 
+    // ===== 시간 예산 =====
+    // 요청 deadlineMs(또는 X-Deadline-Ms 헤더)가 없으면 defaultMs, 어떤 경우에도 maxMs 이하.
+    // 남은 예산이 단계별 최소치보다 적으면 그 단계를 건너뛰고 degraded 로 표시
+    @Value("${cleannews.deadline.defaultMs:20000}")
+    private long defaultDeadlineMs;
+    @Value("${cleannews.deadline.maxMs:55000}")
+    private long maxDeadlineMs;
+    @Value("${cleannews.deadline.minSearchMs:300}")
+    private long minSearchMs;
+    @Value("${cleannews.deadline.minFallbackMs:500}")
+    private long minFallbackMs;
+    @Value("${cleannews.deadline.minLlmMs:1500}")
+    private long minLlmMs;
+
+    // 폴백 "엔티티 + 트리거" 조합에 쓰는 엔티티당 트리거 수 (사전이 커져도 후보 수는 고정)
+    private static final int FALLBACK_TRIGGERS = 8;
+
     // ===== 의존성 =====
-    private final List<SearchAdapter> adapters;
+    private final SearchFanout searchFanout;
+    private final FallbackSearchEngine fallbackEngine;
     private final KeywordService keywordService;
+    private final KeywordDictionaries dictionaries;
     private final SimilarityService similarityService;
     private final ObjectProvider<LlmJudge> llmJudgeProvider;
-    private final OpenAiVerifier openAiVerifier; // LLM-only 경로
+    private final ObjectProvider<OpenAiVerifier> openAiVerifierProvider; // LLM-only 경로 (mode=llm 일 때만 빈 등록)
+    private final VerdictCache verdictCache;
+    private final NearDuplicateIndex nearDuplicates;
+    private final Resilience resilience;
+    private final VerificationMetrics metrics;
+    @Qualifier("verifyExecutor")
+    private final ExecutorService verifyExecutor; // 비동기 파이프라인 단계 실행
 
     // ===== 캐시 =====
-    private final Cache<String, List<SearchResult>> searchCache = Caffeine.newBuilder()
+    // 값은 future: 같은 쿼리 동시 요청은 하나만 검색(single-flight).
+    // Cache.get(key, fn) 은 검색 I/O 동안 해시 bin 락을 잡아 가상 스레드를 pinning 하므로 사용하지 않음
+    // asMap() 경로는 hit/miss 가 집계되지 않으므로 stats counter 에 직접 기록
+    private final ConcurrentStatsCounter searchCacheStats = new ConcurrentStatsCounter();
+    private final Cache<String, CompletableFuture<SearchFanout.Result>> searchCache = Caffeine.newBuilder()
             .expireAfterWrite(Duration.ofMinutes(15))
             .maximumSize(2000)
+            .recordStats(() -> searchCacheStats)
             .build();
 
-    /** 메인 엔트리 */
+    @PostConstruct
+    void registerMetrics() {
+        metrics.monitor(searchCache, "searchCache");
+    }
+
+    /** 메인 엔트리 (동일 요청은 판정 캐시/single-flight, 유사 게시물은 near-duplicate 인덱스로 재사용) */
     public VerificationResponse verify(FeedVerificationRequest req) {
+        return verify(req, deadlineOf(req));
+    }
+
+    /** 시간 예산을 호출자가 정하는 검증 (비동기 job: 대화형 요청 예산 대신 job 예산) */
+    public VerificationResponse verify(FeedVerificationRequest req, Deadline deadline) {
+        return verdictCache.get(req, deadline, () -> {
+            AnalyzedDocument doc = analyze(req);
+            Long sig = nearDuplicates.signature(doc);
+            if (sig != null) {
+                VerificationResponse reused = nearDuplicates.find(sig);
+                if (reused != null) return reused;
+            }
+            VerificationResponse res = doVerify(req, doc, deadline);
+            if (sig != null) nearDuplicates.put(sig, doc, res);
+            return res;
+        });
+    }
+
+    /**
+     * 비동기 엔트리: (analyze) → keywords → search → score → LLM 단계를 CompletableFuture 로 연결.
+     * 각 단계는 verify()와 같은 메서드를 쓰므로 결과는 동일하고, 호출 스레드는 즉시 반환된다.
+     */
+    public CompletableFuture<VerificationResponse> verifyAsync(FeedVerificationRequest req) {
+        return verifyAsync(req, VerificationListener.NONE);
+    }
+
+    /** 단계별 중간 결과를 listener 로 흘려보내는 비동기 검증 (캐시/유사 게시물 hit, 진행 중 요청 합류면 중간 이벤트 없음) */
+    public CompletableFuture<VerificationResponse> verifyAsync(FeedVerificationRequest req, VerificationListener listener) {
+        return verifyAsync(req, null, listener);
+    }
+
+    /** prepared: prefetchPrimaryQueries 가 이미 계산한 분석/1차 쿼리 (null 이면 캐시 로더에서 계산) */
+    public CompletableFuture<VerificationResponse> verifyAsync(FeedVerificationRequest req, Prepared prepared,
+                                                               VerificationListener listener) {
+        Deadline deadline = deadlineOf(req);
+        return verdictCache.getAsync(req, deadline, () -> {
+            AnalyzedDocument doc = prepared != null ? prepared.doc() : analyze(req);
+            Long sig = nearDuplicates.signature(doc);
+            if (sig != null) {
+                VerificationResponse reused = nearDuplicates.find(sig);
+                if (reused != null) return CompletableFuture.completedFuture(reused);
+            }
+            VerificationListener.safely(listener::onPipeline);
+            return doVerifyAsync(req, doc, prepared, listener, deadline).thenApply(res -> {
+                if (sig != null) nearDuplicates.put(sig, doc, res);
+                return res;
+            });
+        }).exceptionally(VerificationOrchestrator::overloadedIfRejected);
+    }
+
+    /** verifyExecutor 대기열 가득 참(AbortPolicy) → 과부하 503 경로. 그 밖의 실패는 그대로 */
+    private static VerificationResponse overloadedIfRejected(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof RejectedExecutionException rejected) throw new OverloadedException(rejected);
+        throw e instanceof CompletionException ce ? ce : new CompletionException(cause);
+    }
 
+    /** 외부 호출 없이 판정 캐시/유사 게시물 인덱스에서만 찾음 (과부하 시 load shedding 용). 없으면 null */
+    public VerificationResponse cachedOnly(FeedVerificationRequest req) {
+        VerificationResponse hit = verdictCache.peek(req);
+        if (hit != null) return hit;
+        Long sig = nearDuplicates.signature(req);
+        return sig != null ? nearDuplicates.find(sig) : null;
+    }
+
+    /** 배치 선검색 때 계산한 입력 분석과 1차 쿼리 (verifyAsync 에 넘기면 다시 계산하지 않음) */
+    public record Prepared(AnalyzedDocument doc, List<String> keywords, String query) {}
+
+    /**
+     * 배치용: 여러 요청의 1차 쿼리를 미리 계산하고, 중복을 제거한 쿼리들의 검색을 동시에 시작.
+     * 이후 각 파이프라인의 1차 검색은 searchCache 의 같은 future 에 합류한다.
+     * @return 요청별 분석/쿼리 (판정 캐시 hit 예정이거나 llm 모드면 없음)
+     */
+    public Map<FeedVerificationRequest, Prepared> prefetchPrimaryQueries(Collection<FeedVerificationRequest> reqs) {
+        if ("llm".equalsIgnoreCase(mode)) return Map.of();
+        Map<FeedVerificationRequest, Prepared> prepared = new LinkedHashMap<>();
+        Map<String, Deadline> queries = new LinkedHashMap<>();
+        for (FeedVerificationRequest req : reqs) {
+            if (verdictCache.contains(req)) continue; // 판정 캐시 hit 예정 → 검색 불필요
+            Deadline deadline = deadlineOf(req);
+            Pipeline p = keywordStage(new Pipeline(req, analyze(req), VerificationListener.NONE, deadline));
+            prepared.put(req, new Prepared(p.doc, p.keywords, p.query));
+            queries.putIfAbsent(p.query, deadline);
+        }
+        queries.forEach((q, deadline) -> {
+            if (!searchCache.asMap().containsKey(q)) {
+                try {
+                    CompletableFuture.runAsync(() -> cachedSearch(q, VerificationListener.NONE, deadline), verifyExecutor);
+                } catch (RejectedExecutionException e) {
+                    // 선검색은 최적화일 뿐 — 대기열이 차면 생략 (각 파이프라인이 직접 검색하거나 503)
+                }
+            }
+        });
+        return prepared;
+    }
+
+    private VerificationResponse doVerify(FeedVerificationRequest req, AnalyzedDocument doc, Deadline deadline) {
         // ---- LLM-only 모드: 검색 어댑터 사용하지 않고 GPT가 직접 서칭/검증 ----
         if ("llm".equalsIgnoreCase(mode)) {
-            return openAiVerifier.verify(req);
+            return llmOnly(req, doc, deadline).join();
         }
-
         // ---- hybrid(기존) 경로 ----
-        // 1) 입력 정규화 (final로 딱 한 번만 할당)
-        final String normalized = normalizeInput(req);
+        Pipeline p = new Pipeline(req, doc, VerificationListener.NONE, deadline);
+        keywordStage(p);
+        searchStage(p);
+        scoreStage(p);
+        judgeStage(p);
+        return assemble(p);
+    }
+
+    private CompletableFuture<VerificationResponse> doVerifyAsync(FeedVerificationRequest req, AnalyzedDocument doc,
+                                                                  Prepared prepared, VerificationListener listener,
+                                                                  Deadline deadline) {
+        if ("llm".equalsIgnoreCase(mode)) {
+            return llmOnly(req, doc, deadline);
+        }
+        Pipeline p = new Pipeline(req, doc, listener, deadline);
+        if (prepared != null) {
+            p.keywords = prepared.keywords();
+            p.query = prepared.query();
+        }
+        return CompletableFuture.supplyAsync(() -> keywordStage(p), verifyExecutor)
+                .thenApplyAsync(this::searchStage, verifyExecutor)   // I/O
+                .thenApply(this::scoreStage)
+                .thenApplyAsync(this::judgeStage, verifyExecutor)    // I/O
+                .thenApply(this::assemble);
+    }
+
+    /**
+     * LLM-only 경로: 예산 안에 끝나지 않으면 UNSURE degraded 응답.
+     * 진행 중 호출은 끝까지 돌고, 늦게 도착한 결과는 판정 캐시/유사 게시물 인덱스에 넣어 재시도가 재사용(비용 낭비 방지)
+     */
+    private CompletableFuture<VerificationResponse> llmOnly(FeedVerificationRequest req, AnalyzedDocument doc, Deadline deadline) {
+        CompletableFuture<VerificationResponse> call = CompletableFuture.supplyAsync(() -> metrics.stage("llm_verifier", () -> {
+                    OutboundCallEvent event = OutboundCallEvent.start("openai_verifier", req.text() == null ? 0 : req.text().length());
+                    try {
+                        VerificationResponse res = openAiVerifierProvider.getObject().verify(req);
+                        event.finish(res.evidences() == null ? 0 : res.evidences().size(), "success");
+                        return res;
+                    } catch (RuntimeException e) {
+                        event.finish(0, "error", e);
+                        throw e;
+                    }
+                }), verifyExecutor);
+        CompletableFuture<VerificationResponse> timely = call.copy()
+                .completeOnTimeout(null, deadline.remainingNanos(), TimeUnit.NANOSECONDS);
+        timely.thenAccept(res -> {
+            if (res == null) call.thenAccept(late -> keepLate(req, doc, late));
+        });
+        return timely.thenApply(res -> res != null ? res : insufficient(doc.claim()).withSkipped(List.of("llm")));
+    }
+
+    /** 예산을 넘겨 끝난 판정 보관 (재사용 불가 응답은 각 저장소가 거름) */
+    private void keepLate(FeedVerificationRequest req, AnalyzedDocument doc, VerificationResponse res) {
+        verdictCache.put(req, res);
+        Long sig = nearDuplicates.signature(doc);
+        if (sig != null) nearDuplicates.put(sig, doc, res);
+        log.atInfo().addKeyValue("verdict", res.verdict()).log("llm.late_result_kept");
+    }
+
+    // ===================== 파이프라인 단계 =====================
+
+    /** 단계 간 전달 상태 (앞 단계가 채운 값을 뒤 단계가 사용) */
+    private static final class Pipeline {
+        final FeedVerificationRequest req;
+        final AnalyzedDocument doc;     // 요청 텍스트 1회 분석 결과 (키워드/유사도 공유)
+        final String normalized;        // 판정 대상 본문 정규화 (doc.claim())
+        final VerificationListener listener;
+        final Deadline deadline;
+        final List<String> skipped = new ArrayList<>(); // 예산 부족/호출 한도로 건너뛴 단계
+        List<String> keywords;
+        String query;
+        List<SearchResult> hits;
+        List<Evidence> evidences;
+        LlmJudge judge;
+        double llmScore;
+
+        Pipeline(FeedVerificationRequest req, AnalyzedDocument doc, VerificationListener listener, Deadline deadline) {
+            this.req = req;
+            this.doc = doc;
+            this.normalized = doc.claim();
+            this.listener = listener;
+            this.deadline = deadline;
+        }
+    }
+
+    /** 1) 입력 분석(정규화 + 토큰 + 엔티티) — 캐시 로더에서 1회, near-duplicate 서명과 파이프라인이 공유 */
+    private AnalyzedDocument analyze(FeedVerificationRequest req) {
+        return metrics.stage("normalize", () -> TextAnalyzer.analyze(req.title(), req.text(), req.sourceUrl()));
+    }
 
-        // 2) 키워드 부스트 & 쿼리 구성
-        var keywords = keywordService.boostedKeywords(req.title(), req.text(), req.sourceUrl(), 12);
-        String query = keywordService.buildQuery(keywords);
+    /** 2) 키워드 부스트 & 쿼리 구성 (배치 선검색에서 이미 구성했으면 알림만) */
+    private Pipeline keywordStage(Pipeline p) {
+        if (p.query == null) {
+            p.keywords = metrics.stage("keywords", () -> keywordService.boostedKeywords(p.doc, p.req.sourceUrl(), 12));
+            p.query = keywordService.buildQuery(p.keywords);
+        }
+        VerificationListener.safely(() -> p.listener.onKeywords(p.keywords, p.query));
+        return p;
+    }
 
-        // 3) 1차 검색
-        List<SearchResult> hits = searchCache.get(query, q -> runSearch(q, 8));
-        System.out.printf("[CleanNews] query=\"%s\" hits=%d%n", query, hits == null ? 0 : hits.size());
+    /** 3) 1차 검색 + 4) 폴백 재검색 */
+    private Pipeline searchStage(Pipeline p) {
+        FeedVerificationRequest req = p.req;
+        List<String> keywords = p.keywords;
 
-        // 4) 폴백 재검색
-        if (hits == null || hits.isEmpty()) {
+        if (p.deadline.remainingMs() < minSearchMs) {
+            p.skipped.add("search");
+            p.hits = List.of();
+            return p;
+        }
+        SearchFanout.Result searched = metrics.stage("search_primary", () -> cachedSearch(p.query, p.listener, p.deadline));
+        List<SearchResult> hits = searched == null ? null : searched.hits();
+        // 진행 중인 동일 검색을 예산 안에 못 기다림, 또는 모든 어댑터가 호출 한도로 건너뜀
+        boolean throttled = searched != null && searched.throttled();
+        if (hits == null || throttled) p.skipped.add("search");
+        log.atInfo().addKeyValue("query", p.query).addKeyValue("hits", hits == null ? 0 : hits.size())
+                .log("search.primary");
+        List<SearchResult> primary = hits == null ? List.of() : hits;
+        VerificationListener.safely(() -> p.listener.onSearch(p.query, primary, false));
+
+        if ((hits == null || hits.isEmpty()) && (throttled || p.deadline.remainingMs() < minFallbackMs)) {
+            p.skipped.add("fallback"); // 한도 초과면 폴백 쿼리도 같은 어댑터에서 건너뛰어질 뿐
+        } else if (hits == null || hits.isEmpty()) {
             LinkedHashSet<String> candidates = new LinkedHashSet<>();
 
             if (req.title() != null && !req.title().isBlank()) {
@@ -78,7 +337,7 @@ public class VerificationOrchestrator {
                 candidates.add("\"" + t + "\"");
             }
 
-            List<String> triggers = List.of("이벤트", "프로모션", "공지", "공식", "모집", "무료", "당첨", "체험단");
+            List<String> triggers = fallbackTriggers(p.doc.raw());
             for (String ent : keywords) {
                 if (ent.matches("[a-z0-9_\\.]{2,}") || ent.matches("[가-힣]{2,}")) {
                     for (String tr : triggers) {
@@ -98,59 +357,99 @@ public class VerificationOrchestrator {
             if (keywords.size() >= 2) candidates.add(keywords.get(0) + " " + keywords.get(1));
             if (keywords.size() >= 3) candidates.add(keywords.get(0) + " " + keywords.get(2));
 
-            for (String q2 : candidates) {
-                var more = runSearch(q2, 8);
-                System.out.printf("[CleanNews] fallback query=\"%s\" hits=%d%n", q2, more.size());
-                if (!more.isEmpty()) {
-                    hits = more;
-                    break;
-                }
+            // 우선순위 wave 단위 경합 — 첫 non-empty 결과 채택, 나머지 취소
+            var outcome = metrics.stage("search_fallback", () -> fallbackEngine.race(candidates,
+                    q2 -> metrics.stage("fallback_query", () -> runSearch(q2, 8, p.listener, p.deadline).hits()), p.deadline));
+            metrics.fallbackDepth(outcome.attempted(), !outcome.hits().isEmpty());
+            if (!outcome.hits().isEmpty()) {
+                hits = outcome.hits();
+                VerificationListener.safely(() -> p.listener.onSearch(outcome.query(), outcome.hits(), true));
+            } else if (p.deadline.expired()) {
+                p.skipped.add("fallback"); // 예산 소진으로 후보를 다 못 돌림
             }
         }
+        p.hits = hits == null ? List.of() : hits;
+        return p;
+    }
 
-        // 5) 증거 집계
-        List<Evidence> evidences = (hits == null ? List.<SearchResult>of() : hits).stream()
-                .map(h -> {
-                    String cmp = (safe(h.title()) + " " + safe(h.snippet())).toLowerCase(Locale.ROOT);
-                    double sim = similarityService.cosine(normalized, cmp);
-                    String domain = extractDomain(h.url());
-                    double prior = similarityService.trustPrior(domain);
-                    return new Evidence(h.source(), domain, h.title(), h.url(), h.snippet(), h.publishedAt(), sim, prior);
-                })
-                .sorted(Comparator.comparingDouble(Evidence::similarity).reversed())
-                .limit(6)
-                .toList();
+    /** 5) 증거 집계 */
+    private Pipeline scoreStage(Pipeline p) {
+        p.evidences = metrics.stage("score", () -> {
+            // 주장(정규화 본문)과 근거(제목 + 스니펫 소문자)를 같은 사전의 공백 분리 토큰으로 → 주장 벡터 1개와 N건을 한 번에 비교
+            TokenDictionary dict = new TokenDictionary();
+            AnalyzedDocument claim = TextAnalyzer.terms(p.normalized, dict);
+            List<AnalyzedDocument> docs = p.hits.stream()
+                    .map(h -> TextAnalyzer.terms((safe(h.title()) + " " + safe(h.snippet())).toLowerCase(Locale.ROOT), dict))
+                    .toList();
+            double[] sims = similarityService.cosine(claim, docs);
+            return IntStream.range(0, sims.length)
+                    .mapToObj(i -> {
+                        SearchResult h = p.hits.get(i);
+                        String domain = extractDomain(h.url());
+                        double prior = similarityService.trustPrior(domain);
+                        return new Evidence(h.source(), domain, h.title(), h.url(), h.snippet(), h.publishedAt(), sims[i], prior);
+                    })
+                    .sorted(Comparator.comparingDouble(Evidence::similarity).reversed())
+                    .limit(6)
+                    .toList();
+        });
+        VerificationListener.safely(() -> p.listener.onEvidences(p.evidences));
+        return p;
+    }
 
-        if (evidences.isEmpty()) {
-            return new VerificationResponse(
-                    "UNSURE",
-                    30,
-                    "• 레퍼런스 검색 결과가 부족합니다(검색 엔진/쿼리/설정 확인 필요).",
-                    "관련 레퍼런스를 충분히 찾지 못했습니다.",
-                    normalized,
-                    List.of()
-            );
+    /** 6) (선택) LLM 보정 — 근거가 없으면 생략 */
+    private Pipeline judgeStage(Pipeline p) {
+        if (p.evidences.isEmpty()) return p;
+        p.judge = llmJudgeProvider.getIfAvailable();
+        if (p.judge != null && p.deadline.remainingMs() < minLlmMs) {
+            p.judge = null;
+            p.skipped.add("llm");
         }
-
-        // 6) (선택) LLM 보정
-        double llmScore = 0.0;
-        LlmJudge judge = llmJudgeProvider.getIfAvailable();
-        if (judge != null) {
-            String merged = evidences.stream()
+        if (p.judge != null) {
+            String merged = p.evidences.stream()
                     .map(e -> "- " + e.title() + " :: " + e.snippet())
                     .collect(Collectors.joining("\n"));
+            LlmJudge judge = p.judge;
+            VerificationMetrics.Span span = metrics.start("llm_judge");
+            OutboundCallEvent call = OutboundCallEvent.start("llm_judge", p.normalized.length());
+            String outcome = "error";
+            Exception error = null;
             try {
-                llmScore = judge.judge(normalized, merged); // -1.0 ~ 1.0
+                // 브레이커 + 관측 p99 기반 timeout (느린 LLM 이 모든 요청 지연을 끌어올리지 않도록)
+                p.llmScore = resilience.call("llm_judge", () -> judge.judge(p.normalized, merged),
+                        p.deadline.atNanos()); // -1.0 ~ 1.0
+                outcome = "success";
+            } catch (CallNotPermittedException e) {
+                p.judge = null; // 브레이커 OPEN → LLM 보정 생략
+                outcome = "skipped";
+                error = e;
             } catch (Exception e) {
-                System.out.println("[CleanNews] LLM judge error: " + e.getMessage());
+                log.atWarn().addKeyValue("error", e.getMessage()).log("llm.judge_error");
+                error = e;
+            } finally {
+                call.finish(p.evidences.size(), outcome, error);
+                span.end();
             }
         }
+        return p;
+    }
+
+    /** 7) 점수화 및 판정 */
+    private VerificationResponse assemble(Pipeline p) {
+        VerificationResponse res = score(p);
+        return p.skipped.isEmpty() ? res : res.withSkipped(p.skipped);
+    }
+
+    private VerificationResponse score(Pipeline p) {
+        List<Evidence> evidences = p.evidences;
+        if (evidences.isEmpty()) {
+            return insufficient(p.normalized);
+        }
 
-        // 7) 점수화 및 판정
         double simAvg   = evidences.stream().limit(3).mapToDouble(Evidence::similarity).average().orElse(0);
         double priorAvg = evidences.stream().limit(3).mapToDouble(Evidence::trustPrior).average().orElse(0.5);
 
-        double llmTerm = (judge != null) ? ((llmScore + 1.0) / 2.0) * 0.3 : 0.0;
+        double llmTerm = (p.judge != null) ? ((p.llmScore + 1.0) / 2.0) * 0.3 : 0.0;
         double raw = (simAvg * 0.7) + (priorAvg * 0.2) + llmTerm;
         raw = Math.max(0.0, Math.min(1.0, raw));
         int confidence = (int) Math.round(raw * 100);
@@ -163,44 +462,89 @@ public class VerificationOrchestrator {
                 • 유사도 평균: %.2f
                 • 출처 신뢰도 평균: %.2f
                 • LLM 보정 사용: %s
-                """.formatted(String.join(", ", keywords),
-                simAvg, priorAvg, (judge != null ? "yes" : "no")).strip();
+                """.formatted(String.join(", ", p.keywords),
+                simAvg, priorAvg, (p.judge != null ? "yes" : "no")).strip();
 
         String consensus = makeConsensusSummary(evidences);
 
-        return new VerificationResponse(verdict, confidence, rationale, consensus, normalized, evidences);
+        return new VerificationResponse(verdict, confidence, rationale, consensus, p.normalized, evidences);
     }
 
     // ===================== 내부 유틸 =====================
 
-    /** 입력 텍스트를 한 번만 정규화하여 final 변수로 사용할 수 있게 반환 */
-    private static String normalizeInput(FeedVerificationRequest req) {
-        String first = TextUtils.normalize(Objects.toString(req.text(), ""));
-        if (!first.isBlank()) return first;
+    /** 폴백 조합용 트리거: 원문에 나온 것 먼저(사전 1회 순회), 나머지는 사전 순서로 채워 최대 FALLBACK_TRIGGERS 개 */
+    private List<String> fallbackTriggers(String raw) {
+        AhoCorasick dict = dictionaries.triggers();
+        LinkedHashSet<String> out = new LinkedHashSet<>(dict.matches(raw));
+        for (int id = 0; id < dict.size() && out.size() < FALLBACK_TRIGGERS; id++) out.add(dict.pattern(id));
+        return out.stream().limit(FALLBACK_TRIGGERS).toList();
+    }
 
-        String fallback = TextUtils.normalize(
-                (req.title() != null ? req.title() + " " : "") +
-                        (req.sourceUrl() != null ? req.sourceUrl() : "")
+    private static VerificationResponse insufficient(String normalized) {
+        return new VerificationResponse(
+                "UNSURE",
+                30,
+                "• 레퍼런스 검색 결과가 부족합니다(검색 엔진/쿼리/설정 확인 필요).",
+                "관련 레퍼런스를 충분히 찾지 못했습니다.",
+                normalized,
+                List.of()
         );
-        return fallback;
     }
 
-    /** 다중 어댑터 검색 + dedupe + 최신/간결 우선 정렬 */
-    private List<SearchResult> runSearch(String query, int limit) {
-        if (query == null || query.isBlank()) return List.of();
-        List<SearchResult> all = new ArrayList<>();
-        for (SearchAdapter a : adapters) {
+    /** 요청 시간 예산: 요청 값(없으면 서버 기본값)을 maxMs 로 제한 */
+    private Deadline deadlineOf(FeedVerificationRequest req) {
+        long ms = req.deadlineMs() != null ? req.deadlineMs() : defaultDeadlineMs;
+        return Deadline.afterMs(Math.min(ms, maxDeadlineMs));
+    }
+
+    /**
+     * 1차 검색 캐시 조회 — 없으면 이 스레드에서 검색하고, 진행 중이면 그 결과를 기다림.
+     * @return 진행 중인 검색을 남은 예산 안에 기다리지 못하면 null
+     */
+    private SearchFanout.Result cachedSearch(String query, VerificationListener listener, Deadline deadline) {
+        CompletableFuture<SearchFanout.Result> mine = new CompletableFuture<>();
+        CompletableFuture<SearchFanout.Result> prior = searchCache.asMap().putIfAbsent(query, mine);
+        if (prior != null) {
+            searchCacheStats.recordHits(1);
+            SearchEvent event = SearchEvent.start(query.length(), true);
             try {
-                all.addAll(a.search(query, limit));
-            } catch (Exception e) {
-                System.out.printf("[CleanNews] adapter=%s error=%s%n", a.name(), e.getMessage());
+                SearchFanout.Result res = prior.get(deadline.remainingNanos(), TimeUnit.NANOSECONDS);
+                event.finish(res == null ? 0 : res.hits().size());
+                return res;
+            } catch (TimeoutException e) {
+                return null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            } catch (ExecutionException e) {
+                throw new CompletionException(e.getCause());
             }
         }
+        searchCacheStats.recordMisses(1);
+        SearchEvent event = SearchEvent.start(query.length(), false);
+        try {
+            SearchFanout.Result res = runSearch(query, 8, listener, deadline);
+            event.finish(res.hits().size());
+            // 예산이 바닥난 채 끝났거나 호출 한도로 어댑터를 건너뛴 검색은 잘린 결과 → 지금 기다리는 요청에만 쓰고 캐시하지 않음
+            if (deadline.expired() || res.partial()) searchCache.asMap().remove(query, mine);
+            mine.complete(res);
+            return res;
+        } catch (RuntimeException e) {
+            searchCache.asMap().remove(query, mine);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /** 다중 어댑터 검색(병렬 fan-out) + dedupe + 최신/간결 우선 정렬 */
+    private SearchFanout.Result runSearch(String query, int limit, VerificationListener listener, Deadline deadline) {
+        if (query == null || query.isBlank()) return new SearchFanout.Result(List.of(), 0, 0);
+        SearchFanout.Result all = searchFanout.searchAll(query, limit, listener, deadline);
         Map<String, SearchResult> map = new LinkedHashMap<>();
-        for (SearchResult r : all) {
+        for (SearchResult r : all.hits()) {
             map.putIfAbsent(safe(r.url()), r);
         }
-        return map.values().stream()
+        return all.withHits(map.values().stream()
                 .sorted((x, y) -> {
                     OffsetDateTime dx = x.publishedAt();
                     OffsetDateTime dy = y.publishedAt();
@@ -210,7 +554,7 @@ public class VerificationOrchestrator {
                     return Integer.compare(safeLen(x.title()), safeLen(y.title()));
                 })
                 .limit(limit)
-                .toList();
+                .toList());
     }
 
     private static String extractDomain(String url) {
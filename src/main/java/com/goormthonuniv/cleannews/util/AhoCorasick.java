@@ -0,0 +1,180 @@
+package com.goormthonuniv.cleannews.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 다중 패턴 부분 문자열 검색기 (Aho-Corasick). 사전 단어마다 text.contains 를 돌리던 루프를
+ * 텍스트 1회 순회로 대체 → 비용이 사전 크기와 무관(텍스트 길이 + 매칭 수).
+ * - 패턴 id 는 compile 에 넘긴 순서(사전 순서). 같은 패턴이 여러 번 있으면 앞의 id 만 보고
+ * - ignoreCase: 패턴과 텍스트를 char 단위 Character.toLowerCase 로 비교
+ * - 빈 패턴은 무시 (매칭되지 않음)
+ * 생성 후 불변 → 여러 스레드가 공유해도 안전.
+ */
+public final class AhoCorasick {
+
+    private final String[] patterns;
+    private final boolean ignoreCase;
+    // 상태별 전이: keys[s] 는 정렬된 문자, targets[s] 는 같은 순서의 다음 상태
+    private final char[][] keys;
+    private final int[][] targets;
+    private final int[] fail;
+    private final int[] out;      // 이 상태에서 끝나는 패턴 id, 없으면 -1
+    private final int[] outLink;  // 실패 경로상 가장 가까운 출력 상태, 없으면 0(루트)
+
+    private AhoCorasick(List<String> patterns, boolean ignoreCase) {
+        this.patterns = patterns.toArray(String[]::new);
+        this.ignoreCase = ignoreCase;
+
+        // 1) 트라이
+        List<Map<Character, Integer>> trie = new ArrayList<>();
+        List<Integer> outs = new ArrayList<>();
+        trie.add(new HashMap<>());
+        outs.add(-1);
+        for (int id = 0; id < this.patterns.length; id++) {
+            String p = this.patterns[id];
+            if (p == null || p.isEmpty()) continue;
+            int s = 0;
+            for (int i = 0; i < p.length(); i++) {
+                char c = fold(p.charAt(i));
+                Integer next = trie.get(s).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(s).put(c, next);
+                    trie.add(new HashMap<>());
+                    outs.add(-1);
+                }
+                s = next;
+            }
+            if (outs.get(s) < 0) outs.set(s, id);
+        }
+
+        int n = trie.size();
+        this.keys = new char[n][];
+        this.targets = new int[n][];
+        this.fail = new int[n];
+        this.out = new int[n];
+        this.outLink = new int[n];
+        for (int s = 0; s < n; s++) {
+            var edges = new ArrayList<>(trie.get(s).entrySet());
+            edges.sort(Map.Entry.comparingByKey());
+            keys[s] = new char[edges.size()];
+            targets[s] = new int[edges.size()];
+            for (int i = 0; i < edges.size(); i++) {
+                keys[s][i] = edges.get(i).getKey();
+                targets[s][i] = edges.get(i).getValue();
+            }
+            out[s] = outs.get(s);
+        }
+
+        // 2) 실패 링크 (BFS, 얕은 상태부터)
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[0]) queue.add(child);
+        while (!queue.isEmpty()) {
+            int s = queue.poll();
+            outLink[s] = out[fail[s]] >= 0 ? fail[s] : outLink[fail[s]];
+            for (int i = 0; i < keys[s].length; i++) {
+                char c = keys[s][i];
+                int child = targets[s][i];
+                int f = fail[s];
+                int next;
+                while ((next = step(f, c)) < 0 && f != 0) f = fail[f];
+                fail[child] = next < 0 ? 0 : next;
+                queue.add(child);
+            }
+        }
+    }
+
+    public static AhoCorasick compile(Collection<String> patterns) {
+        return compile(patterns, false);
+    }
+
+    public static AhoCorasick compile(Collection<String> patterns, boolean ignoreCase) {
+        return new AhoCorasick(List.copyOf(patterns), ignoreCase);
+    }
+
+    /** 패턴 수 (빈 패턴/중복 포함, id 범위) */
+    public int size() {
+        return patterns.length;
+    }
+
+    public String pattern(int id) {
+        return patterns[id];
+    }
+
+    /** 패턴이 하나라도 나오면 true (첫 매칭에서 중단) */
+    public boolean containsAny(CharSequence text) {
+        int s = 0;
+        for (int i = 0; i < text.length(); i++) {
+            s = next(s, text.charAt(i));
+            if (out[s] >= 0 || outLink[s] != 0) return true;
+        }
+        return false;
+    }
+
+    /** 텍스트에 나온 패턴 id (중복 제거, 사전 순서 오름차순) */
+    public int[] matchIds(CharSequence text) {
+        int[] hits = new int[8];
+        int count = 0;
+        int s = 0;
+        for (int i = 0; i < text.length(); i++) {
+            s = next(s, text.charAt(i));
+            for (int o = out[s] >= 0 ? s : outLink[s]; o != 0; o = outLink[o]) {
+                if (count == hits.length) hits = Arrays.copyOf(hits, count * 2);
+                hits[count++] = out[o];
+            }
+        }
+        if (count == 0) return new int[0];
+        Arrays.sort(hits, 0, count);
+        int unique = 1;
+        for (int i = 1; i < count; i++) {
+            if (hits[i] != hits[unique - 1]) hits[unique++] = hits[i];
+        }
+        return Arrays.copyOf(hits, unique);
+    }
+
+    /** 텍스트에 나온 패턴 (중복 제거, 사전 순서) */
+    public List<String> matches(CharSequence text) {
+        int[] ids = matchIds(text);
+        List<String> found = new ArrayList<>(ids.length);
+        for (int id : ids) found.add(patterns[id]);
+        return found;
+    }
+
+    /** 텍스트에 나온 패턴 중 사전 순서가 가장 앞선 id, 없으면 -1 (사전 순서대로 contains 를 돌려 처음 걸린 것과 같음) */
+    public int firstMatch(CharSequence text) {
+        int best = -1;
+        int s = 0;
+        for (int i = 0; i < text.length(); i++) {
+            s = next(s, text.charAt(i));
+            for (int o = out[s] >= 0 ? s : outLink[s]; o != 0; o = outLink[o]) {
+                if (best < 0 || out[o] < best) best = out[o];
+            }
+            if (best == 0) break;
+        }
+        return best;
+    }
+
+    // ===== helpers =====
+
+    private int next(int s, char raw) {
+        char c = fold(raw);
+        int next;
+        while ((next = step(s, c)) < 0 && s != 0) s = fail[s];
+        return next < 0 ? 0 : next;
+    }
+
+    private int step(int s, char c) {
+        int i = Arrays.binarySearch(keys[s], c);
+        return i >= 0 ? targets[s][i] : -1;
+    }
+
+    private char fold(char c) {
+        return ignoreCase ? Character.toLowerCase(c) : c;
+    }
+}
@@ -0,0 +1,72 @@
+package com.goormthonuniv.cleannews.util;
+
+import java.util.List;
+
+/**
+ * TextAnalyzer 분석 결과 (불변). 요청마다 한 번 만들어 키워드/유사도/near-duplicate 단계가 공유한다.
+ * - normalized: TextUtils.normalize(제목 + " " + 본문)
+ * - claim: 판정 대상 본문 정규화 (본문이 비면 제목 + 원문 URL) — 응답 normalizedText / LLM 입력
+ * - 토큰: normalized 의 [a-z0-9가-힣]{2,} 연속 구간 (TextAnalyzer.terms 는 공백 분리 조각), 사전(TokenDictionary) id 로 보관
+ * - 고유 토큰(term)은 첫 등장 순서, 빈도(tf)는 같은 순서의 배열
+ * - handles / hashtags / quoted: 원문에서 추출(@, # 제외 / 따옴표·괄호 안 구절은 앞뒤 공백 제거)
+ * 배열은 복사 없이 인덱스 접근자로만 노출.
+ */
+public final class AnalyzedDocument {
+
+    private final String raw;
+    private final String normalized;
+    private final String claim;
+    private final TokenDictionary dictionary;
+    private final int[] tokens;
+    private final int[] termIds;
+    private final int[] termFreqs;
+    private final SparseVector vector; // id 순 정렬 TF 벡터 (유사도/freq 조회)
+    private final List<String> handles;
+    private final List<String> hashtags;
+    private final List<String> quoted;
+
+    AnalyzedDocument(String raw, String normalized, String claim, TokenDictionary dictionary,
+                     int[] tokens, int[] termIds, int[] termFreqs,
+                     List<String> handles, List<String> hashtags, List<String> quoted) {
+        this.raw = raw;
+        this.normalized = normalized;
+        this.claim = claim;
+        this.dictionary = dictionary;
+        this.tokens = tokens;
+        this.termIds = termIds;
+        this.termFreqs = termFreqs;
+        this.handles = List.copyOf(handles);
+        this.hashtags = List.copyOf(hashtags);
+        this.quoted = List.copyOf(quoted);
+        this.vector = SparseVector.of(termIds, termFreqs, termIds.length);
+    }
+
+    /** 분석 원문 (제목 + " " + 본문) */
+    public String raw() { return raw; }
+    public String normalized() { return normalized; }
+    public String claim() { return claim; }
+    public TokenDictionary dictionary() { return dictionary; }
+
+    public List<String> handles() { return handles; }
+    public List<String> hashtags() { return hashtags; }
+    public List<String> quoted() { return quoted; }
+
+    /** 토큰 수 (중복 포함, 등장 순) */
+    public int tokenCount() { return tokens.length; }
+    public int token(int i) { return tokens[i]; }
+
+    /** 고유 토큰 수 */
+    public int termCount() { return termIds.length; }
+    /** i 번째(첫 등장 순) 고유 토큰 id */
+    public int termId(int i) { return termIds[i]; }
+    public int termFreq(int i) { return termFreqs[i]; }
+    public String term(int i) { return dictionary.term(termIds[i]); }
+
+    /** 토큰 id 의 빈도, 없으면 0 */
+    public int freq(int id) {
+        return vector.weightOf(id);
+    }
+
+    /** TF 희소 벡터 (분석 시 1회 생성, norm 포함) */
+    public SparseVector vector() { return vector; }
+}
@@ -0,0 +1,72 @@
+package com.goormthonuniv.cleannews.util;
+
+import java.util.Arrays;
+
+/**
+ * 희소 TF 벡터 (불변): TokenDictionary id 오름차순 int[] + 같은 순서의 빈도 int[] + 미리 계산한 L2 norm.
+ * - AnalyzedDocument 가 분석 시 1회 생성 → 주장 벡터는 요청당 한 번만 만들어짐
+ * - dot/cosine 은 두 id 배열의 병합 조인 (할당 없음, O(|a| + |b|))
+ * - 같은 사전에서 나온 벡터끼리만 의미가 있음 (사전 일치 확인은 호출 측 책임)
+ */
+public final class SparseVector {
+
+    static final SparseVector EMPTY = new SparseVector(new int[0], new int[0]);
+
+    private final int[] ids;
+    private final int[] weights;
+    private final double norm;
+
+    private SparseVector(int[] ids, int[] weights) {
+        this.ids = ids;
+        this.weights = weights;
+        long sq = 0;
+        for (int w : weights) sq += (long) w * w;
+        this.norm = Math.sqrt(sq);
+    }
+
+    /** (id, 빈도) 쌍 → id 순 정렬 벡터. id 는 서로 달라야 하고 빈도는 양수 */
+    static SparseVector of(int[] ids, int[] weights, int count) {
+        if (count == 0) return EMPTY;
+        long[] packed = new long[count];
+        for (int i = 0; i < count; i++) packed[i] = ((long) ids[i] << 32) | weights[i];
+        Arrays.sort(packed);
+        int[] sortedIds = new int[count];
+        int[] sortedWeights = new int[count];
+        for (int i = 0; i < count; i++) {
+            sortedIds[i] = (int) (packed[i] >>> 32);
+            sortedWeights[i] = (int) packed[i];
+        }
+        return new SparseVector(sortedIds, sortedWeights);
+    }
+
+    /** 0 이 아닌 성분 수 */
+    public int size() { return ids.length; }
+    public int id(int i) { return ids[i]; }
+    public int weight(int i) { return weights[i]; }
+    public double norm() { return norm; }
+
+    /** id 의 가중치, 없으면 0 */
+    public int weightOf(int id) {
+        int i = Arrays.binarySearch(ids, id);
+        return i >= 0 ? weights[i] : 0;
+    }
+
+    public long dot(SparseVector o) {
+        int[] a = ids, b = o.ids;
+        int i = 0, j = 0;
+        long dot = 0;
+        while (i < a.length && j < b.length) {
+            int x = a[i], y = b[j];
+            if (x == y) dot += (long) weights[i++] * o.weights[j++];
+            else if (x < y) i++;
+            else j++;
+        }
+        return dot;
+    }
+
+    /** 코사인 유사도, 한쪽이라도 빈 벡터면 0 */
+    public double cosine(SparseVector o) {
+        if (norm == 0 || o.norm == 0) return 0.0;
+        return dot(o) / (norm * o.norm);
+    }
+}
@@ -0,0 +1,167 @@
+package com.goormthonuniv.cleannews.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 요청 텍스트 1회 분석기 → AnalyzedDocument.
+ * 기존에는 정규화(정규식 4회), 엔티티(HANDLE/HASHTAG/QUOTED 정규식), topKeywords(TOKEN 정규식),
+ * 유사도(split, 근거마다 주장도 다시)가 같은 텍스트를 각자 다시 훑었다. 여기서는 정규식 없이
+ * 원문 1회(엔티티) + 정규화 1회 + 정규화 결과 1회(토큰) 선형 스캔으로 끝내고 결과를 공유한다.
+ * 추출 규칙은 기존 정규식과 같다.
+ * - handle: @[A-Za-z0-9_.]+   - hashtag: #[A-Za-z0-9_가-힣]+
+ * - quoted: ‘…’ | "…" | (…)  (내용 1자 이상, 겹치지 않게 왼쪽부터)
+ * - token: 정규화 텍스트의 [a-z0-9가-힣]{2,}
+ * - terms (유사도용): 주어진 텍스트를 \s+ 로 나눈 2자 이상 조각 그대로 — 예전 TF-Cosine 과 같은 토큰
+ */
+public final class TextAnalyzer {
+
+    private static final List<String> NONE = List.of();
+
+    private TextAnalyzer() {}
+
+    /** 검증 요청 분석 (제목 + 본문 + 원문 URL). 새 사전으로 시작 → 주장 토큰이 작은 id */
+    public static AnalyzedDocument analyze(String title, String text, String sourceUrl) {
+        return analyze(title, text, sourceUrl, new TokenDictionary());
+    }
+
+    public static AnalyzedDocument analyze(String title, String text, String sourceUrl, TokenDictionary dictionary) {
+        String raw = (title == null ? "" : title) + " " + (text == null ? "" : text);
+        String normalized = TextUtils.normalize(raw);
+        String claim = claimOf(title, text, sourceUrl, normalized);
+
+        List<String> handles = new ArrayList<>();
+        List<String> hashtags = new ArrayList<>();
+        List<String> quoted = new ArrayList<>();
+        scanEntities(raw, handles, hashtags, quoted);
+        return tokenize(raw, normalized, claim, dictionary, handles, hashtags, quoted, false);
+    }
+
+    /** 근거 문서(검색 결과 제목 + 스니펫 등) 분석: 정규화 + 토큰만, 주장 문서와 같은 사전 사용 */
+    public static AnalyzedDocument analyze(String text, TokenDictionary dictionary) {
+        String raw = text == null ? "" : text;
+        String normalized = TextUtils.normalize(raw);
+        return tokenize(raw, normalized, normalized, dictionary, NONE, NONE, NONE, false);
+    }
+
+    /**
+     * 유사도 비교용 공백 분리 분석: 정규화 없이 text.split("\\s+") 의 2자 이상 조각을 토큰으로.
+     * 판정 점수(근거 similarity)가 바뀌지 않도록 예전 SimilarityService.tf 와 같은 토큰을 만든다.
+     */
+    public static AnalyzedDocument terms(String text, TokenDictionary dictionary) {
+        String raw = text == null ? "" : text;
+        return tokenize(raw, raw, raw, dictionary, NONE, NONE, NONE, true);
+    }
+
+    /** 판정 대상: 본문 정규화, 비어 있으면 제목 + 원문 URL 정규화 */
+    private static String claimOf(String title, String text, String sourceUrl, String normalizedMix) {
+        // 제목이 비어 있으면 normalize(" " + 본문) == normalize(본문) → 다시 정규화하지 않음
+        String body = (title == null || title.isBlank()) ? normalizedMix : TextUtils.normalize(text);
+        if (!body.isBlank()) return body;
+        return TextUtils.normalize((title != null ? title + " " : "") + (sourceUrl != null ? sourceUrl : ""));
+    }
+
+    // ===================== 스캔 =====================
+
+    private static void scanEntities(String s, List<String> handles, List<String> hashtags, List<String> quoted) {
+        int n = s.length();
+        int quotedFrom = 0; // 직전 인용 구절 끝 다음 (겹치는 매칭 방지)
+        boolean noCurly = false, noDouble = false, noParen = false; // 닫는 문자가 더 없으면 이후 시도 생략
+        for (int i = 0; i < n; i++) {
+            char c = s.charAt(i);
+            if (c == '@' || c == '#') {
+                int j = i + 1;
+                while (j < n && (c == '@' ? isHandleChar(s.charAt(j)) : isHashtagChar(s.charAt(j)))) j++;
+                if (j > i + 1) {
+                    (c == '@' ? handles : hashtags).add(s.substring(i + 1, j));
+                    // 같은 종류는 매칭 끝까지 건너뜀 (@/# 는 서로의 문자 집합에 없으므로 i 만 옮기면 됨)
+                    // 단, 인용 구절 여는 문자는 handle/hashtag 문자 집합에 없으므로 놓치지 않음
+                    i = j - 1;
+                }
+                continue;
+            }
+            if (i < quotedFrom) continue;
+            char close;
+            if (c == '‘' && !noCurly) close = '’';
+            else if (c == '"' && !noDouble) close = '"';
+            else if (c == '(' && !noParen) close = ')';
+            else continue;
+            int end = s.indexOf(close, i + 1);
+            if (end < 0) {
+                if (close == '’') noCurly = true;
+                else if (close == '"') noDouble = true;
+                else noParen = true;
+                continue;
+            }
+            if (end == i + 1) continue; // 빈 구절
+            String g = s.substring(i + 1, end).strip();
+            if (!g.isEmpty()) quoted.add(g);
+            quotedFrom = end + 1;
+        }
+    }
+
+    /** whitespaceTerms: 공백이 아닌 연속 구간(terms), 아니면 [a-z0-9가-힣] 연속 구간 */
+    private static AnalyzedDocument tokenize(String raw, String normalized, String claim, TokenDictionary dict,
+                                             List<String> handles, List<String> hashtags, List<String> quoted,
+                                             boolean whitespaceTerms) {
+        int n = normalized.length();
+        int[] tokens = new int[Math.max(4, n / 4)];
+        int count = 0;
+        int i = 0;
+        while (i < n) {
+            if (!isTokenChar(normalized.charAt(i), whitespaceTerms)) {
+                i++;
+                continue;
+            }
+            int j = i + 1;
+            while (j < n && isTokenChar(normalized.charAt(j), whitespaceTerms)) j++;
+            if (j - i >= 2) {
+                if (count == tokens.length) tokens = Arrays.copyOf(tokens, count * 2);
+                tokens[count++] = dict.id(normalized.substring(i, j));
+            }
+            i = j;
+        }
+        tokens = Arrays.copyOf(tokens, count);
+
+        // 고유 토큰(첫 등장 순) + 빈도
+        int[] termIds = new int[count];
+        int[] termFreqs = new int[count];
+        int terms = 0;
+        int epoch = dict.beginDocument();
+        for (int k = 0; k < count; k++) {
+            int id = tokens[k];
+            int s = dict.slotOf(id, epoch);
+            if (s < 0) {
+                dict.assignSlot(id, epoch, terms);
+                termIds[terms] = id;
+                termFreqs[terms++] = 1;
+            } else {
+                termFreqs[s]++;
+            }
+        }
+        return new AnalyzedDocument(raw, normalized, claim, dict, tokens,
+                Arrays.copyOf(termIds, terms), Arrays.copyOf(termFreqs, terms), handles, hashtags, quoted);
+    }
+
+    private static boolean isHandleChar(char c) {
+        return isAsciiAlnum(c) || c == '_' || c == '.';
+    }
+
+    private static boolean isHashtagChar(char c) {
+        return isAsciiAlnum(c) || c == '_' || isHangulSyllable(c);
+    }
+
+    private static boolean isTokenChar(char c, boolean whitespaceTerms) {
+        if (whitespaceTerms) return !TextUtils.isRegexSpace(c);
+        return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || isHangulSyllable(c);
+    }
+
+    private static boolean isAsciiAlnum(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    static boolean isHangulSyllable(char c) {
+        return c >= '가' && c <= '힣';
+    }
+}
@@ -1,25 +1,62 @@
 package com.goormthonuniv.cleannews.util;
 
 import java.util.*;
-import java.util.regex.Pattern;
 
 public final class TextUtils {
-    private static final Pattern URL = Pattern.compile("(https?://\\S+)");
-    private static final Pattern EMOJI = Pattern.compile("[\\p{So}\\p{Cn}]+"); // 대충 이모지/기타 통제
     private static final int MAX_LEN = 1200; // 본문 1.2k chars 트렁케이트
 
     private TextUtils() {}
 
+    /**
+     * URL(https?://\S+)·기호/미할당 문자(\p{So}\p{Cn}, 대충 이모지/기타 통제)·공백 연속을 공백 1칸으로 접고 소문자화.
+     * 예전 정규식 4단계(URL → 이모지 → \s+ → 소문자)와 같은 결과를 정규식 없이 한 번의 순회로 만든다.
+     */
     public static String normalize(String text) {
         if (text == null) return "";
         String t = text.strip();
-        t = URL.matcher(t).replaceAll(" ");
-        t = EMOJI.matcher(t).replaceAll(" ");
-        t = t.replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
-        if (t.length() > MAX_LEN) {
-            t = t.substring(0, MAX_LEN);
+        int n = t.length();
+        StringBuilder sb = new StringBuilder(n);
+        boolean space = false; // 직전 출력이 접힌 공백
+        int i = 0;
+        while (i < n) {
+            int end = urlEnd(t, i);
+            if (end > i) {
+                i = end;
+            } else {
+                int cp = t.codePointAt(i);
+                i += Character.charCount(cp);
+                int type = Character.getType(cp);
+                if (!isRegexSpace(cp) && type != Character.OTHER_SYMBOL && type != Character.UNASSIGNED) {
+                    sb.appendCodePoint(cp);
+                    space = false;
+                    continue;
+                }
+            }
+            if (!space) sb.append(' ');
+            space = true;
         }
-        return t;
+        String out = sb.toString().toLowerCase(Locale.ROOT);
+        if (out.length() > MAX_LEN) {
+            out = out.substring(0, MAX_LEN);
+        }
+        return out;
+    }
+
+    /** i 에서 https?://\S+ 가 시작하면 그 끝, 아니면 i */
+    private static int urlEnd(String t, int i) {
+        if (t.charAt(i) != 'h' || !t.startsWith("http", i)) return i;
+        int j = i + 4;
+        if (j < t.length() && t.charAt(j) == 's') j++;
+        if (!t.startsWith("://", j)) return i;
+        j += 3;
+        int start = j;
+        while (j < t.length() && !isRegexSpace(t.charAt(j))) j++;
+        return j > start ? j : i;
+    }
+
+    /** 정규식 \s (UNICODE_CHARACTER_CLASS 없이): [ \t\n\x0B\f\r] */
+    static boolean isRegexSpace(int c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
     }
 
     public static Set<String> stopwords() {
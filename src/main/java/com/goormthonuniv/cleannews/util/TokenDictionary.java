@@ -0,0 +1,66 @@
+package com.goormthonuniv.cleannews.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 단위 토큰 id 사전. 주장(게시물)과 근거(검색 결과) 문서가 같은 사전을 쓰면 토큰 비교가 int 비교가 된다.
+ * - id 는 처음 본 순서대로 0부터 부여 (주장 문서를 먼저 분석하면 주장 토큰이 작은 id)
+ * - 요청 하나의 파이프라인 안에서만 사용 (단계 간 전달은 CompletableFuture 가 happens-before 보장, 동시 접근 없음)
+ * - 요청이 끝나면 버려지므로 외부 어휘가 전역으로 쌓이지 않음
+ */
+public final class TokenDictionary {
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> terms = new ArrayList<>();
+
+    // 문서 하나의 빈도 집계용 스크래치 (id → 이번 문서에서의 슬롯). epoch 로 초기화 없이 재사용
+    private int[] seenEpoch = new int[64];
+    private int[] slot = new int[64];
+    private int epoch;
+
+    public int id(String term) {
+        Integer id = ids.get(term);
+        if (id != null) return id;
+        int next = terms.size();
+        ids.put(term, next);
+        terms.add(term);
+        return next;
+    }
+
+    public String term(int id) {
+        return terms.get(id);
+    }
+
+    public int size() {
+        return terms.size();
+    }
+
+    // ===== TextAnalyzer 전용 =====
+
+    /** 새 문서 집계 시작 */
+    int beginDocument() {
+        if (seenEpoch.length < terms.size()) grow(terms.size());
+        return ++epoch;
+    }
+
+    /** 이번 문서에서 id 의 슬롯, 처음이면 -1 */
+    int slotOf(int id, int docEpoch) {
+        return id < seenEpoch.length && seenEpoch[id] == docEpoch ? slot[id] : -1;
+    }
+
+    void assignSlot(int id, int docEpoch, int s) {
+        if (id >= seenEpoch.length) grow(id + 1);
+        seenEpoch[id] = docEpoch;
+        slot[id] = s;
+    }
+
+    private void grow(int min) {
+        int n = Math.max(min, seenEpoch.length * 2);
+        seenEpoch = Arrays.copyOf(seenEpoch, n);
+        slot = Arrays.copyOf(slot, n);
+    }
+}
@@ -1,5 +1,7 @@
 package com.goormthonuniv.cleannews.verify;
 
+import com.goormthonuniv.cleannews.util.AhoCorasick;
+
 import java.text.Normalizer;
 import java.util.*;
 import java.util.regex.Pattern;
@@ -43,6 +45,10 @@ public final class SearchQueryBuilder {
     private static final List<String> TICKET_KO = List.of("예매","티켓","티켓오픈","공지","안내","라인업","공식","콘서트","공연","일정","좌석","가격");
     private static final List<String> TICKET_EN = List.of("ticket","tickets","ticketing","on sale","lineup","official","concert","show","notice","announcement","schedule","venue","seating","price","booking");
 
+    /** 공연/예매 문맥 신호 (대소문자 무시, 텍스트 1회 순회) */
+    private static final AhoCorasick TICKETING_SIGNALS = AhoCorasick.compile(
+            List.of("예매","티켓","티켓오픈","공연","콘서트","라인업","NOL","인터파크","멜론티켓","예스24"), true);
+
     private SearchQueryBuilder() {}
 
     /** 메인 엔트리 */
@@ -105,8 +111,7 @@ public final class SearchQueryBuilder {
         }
 
         // 4-5 공연성 문맥이면 예매처/공지 site 필터(보수적)
-        boolean seemsTicketing = containsAny(title + " " + body,
-                List.of("예매","티켓","티켓오픈","공연","콘서트","라인업","NOL","인터파크","멜론티켓","예스24"));
+        boolean seemsTicketing = TICKETING_SIGNALS.containsAny(title) || TICKETING_SIGNALS.containsAny(body);
         if (seemsTicketing || (facts != null && notBlank(facts.getEventName()))) {
             queries.add(appendSite(quoteOr(facts != null ? facts.getEventName() : null, "콘서트"), "tickets.interpark.com"));
             queries.add(appendSite(quoteOr(facts != null ? facts.getEventName() : null, "콘서트"), "ticket.interpark.com"));
@@ -201,12 +206,6 @@ public final class SearchQueryBuilder {
                 .collect(Collectors.toList());
     }
 
-    private static boolean containsAny(String text, List<String> needles) {
-        String t = text == null ? "" : text.toLowerCase(Locale.ROOT);
-        for (String n : needles) if (t.contains(n.toLowerCase(Locale.ROOT))) return true;
-        return false;
-    }
-
     private static String appendSite(String q, String site) {
         if (isBlank(q)) return "site:" + site;
         return q + " site:" + site;
@@ -1,5 +1,7 @@
 package com.goormthonuniv.cleannews.verify;
 
+import com.goormthonuniv.cleannews.util.AhoCorasick;
+
 import java.text.Normalizer;
 import java.time.LocalDate;
 import java.util.*;
@@ -26,6 +28,9 @@ class TextKoreanUtils {
             "잠실실내체육관","잠실 체육관","잠실실내","체육관","올림픽공원","KSPO DOME","고척돔","고척 스카이돔",
             "사직실내체육관","수원실내체육관","대구실내체육관","핸드볼경기장","올림픽홀","경기장","아레나","돔","센터"
     };
+    // 정규화(소문자) 텍스트와 비교하므로 소문자로 컴파일, id 는 VENUE_HINTS 인덱스
+    private static final AhoCorasick VENUES = AhoCorasick.compile(
+            Arrays.stream(VENUE_HINTS).map(h -> h.toLowerCase(Locale.ROOT)).toList());
 
     /** 텍스트 정규화 */
     static String normalize(String s) {
@@ -87,13 +92,9 @@ class TextKoreanUtils {
             } catch (Exception ignored) {}
         }
 
-        String venue = null;
-        for (String hint : VENUE_HINTS) {
-            if (text.contains(hint.toLowerCase(Locale.ROOT))) {
-                venue = hint;
-                break;
-            }
-        }
+        // 목록 앞쪽(구체적인 공연장명)이 우선 — 텍스트 1회 순회로 가장 앞선 힌트
+        int hit = VENUES.firstMatch(text);
+        String venue = hit >= 0 ? VENUE_HINTS[hit] : null;
         return new ExtractedFacts(dates, venue);
     }
 }
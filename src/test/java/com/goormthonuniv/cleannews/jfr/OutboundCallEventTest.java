@@ -0,0 +1,72 @@
+package com.goormthonuniv.cleannews.jfr;
+
+import com.goormthonuniv.cleannews.logging.CorrelationIdFilter;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** 외부 호출 이벤트에 요청 id(시작 스레드의 MDC)와 실패 원인 클래스가 남는지 */
+class OutboundCallEventTest {
+
+    @AfterEach
+    void clearMdc() {
+        MDC.remove(CorrelationIdFilter.MDC_KEY);
+    }
+
+    private static List<RecordedEvent> record(Runnable body) throws Exception {
+        Path file = Files.createTempFile("outbound", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(OutboundCallEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            body.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().equals("cleannews.OutboundCall"))
+                    .toList();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void carriesRequestIdFromStartingThreadAndUnwrappedErrorClass() throws Exception {
+        List<RecordedEvent> events = record(() -> {
+            MDC.put(CorrelationIdFilter.MDC_KEY, "req-42");
+            OutboundCallEvent event = OutboundCallEvent.start("naver", 12);
+            MDC.remove(CorrelationIdFilter.MDC_KEY);
+            // 완료는 MDC 없는 다른 스레드에서
+            CompletableFuture.runAsync(() -> event.finish(0, "error",
+                    new CompletionException(new IllegalStateException("boom")))).join();
+        });
+
+        assertEquals(1, events.size());
+        RecordedEvent e = events.get(0);
+        assertEquals("naver", e.getString("target"));
+        assertEquals("req-42", e.getString("requestId"));
+        assertEquals("error", e.getString("outcome"));
+        assertEquals(IllegalStateException.class.getName(), e.getString("errorClass"));
+    }
+
+    @Test
+    void successHasNoErrorClass() throws Exception {
+        List<RecordedEvent> events = record(() -> OutboundCallEvent.start("llm_judge", 3).finish(5, "success"));
+
+        assertEquals(1, events.size());
+        assertEquals(5, events.get(0).getInt("hits"));
+        assertNull(events.get(0).getString("errorClass"));
+        assertNull(events.get(0).getString("requestId"));
+    }
+}
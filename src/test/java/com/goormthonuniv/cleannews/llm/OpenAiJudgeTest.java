@@ -0,0 +1,38 @@
+package com.goormthonuniv.cleannews.llm;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/** 응답 형식 문제는 예외 대신 0(불확실) */
+class OpenAiJudgeTest {
+
+    private static Map<String, Object> content(Object content) {
+        Map<String, Object> message = new HashMap<>();
+        message.put("role", "assistant");
+        message.put("content", content);
+        return Map.of("choices", List.of(Map.of("index", 0, "message", message)));
+    }
+
+    @Test
+    void parsesScoreFromFirstChoice() {
+        assertEquals(-0.7, OpenAiJudge.parseScore(content(" -0.7\n")), 1e-9);
+    }
+
+    @Test
+    void malformedResponsesDegradeToUnsure() {
+        assertEquals(0.0, OpenAiJudge.parseScore(null));
+        assertEquals(0.0, OpenAiJudge.parseScore(Map.of("error", Map.of("message", "Rate limit reached", "type", "requests"))));
+        assertEquals(0.0, OpenAiJudge.parseScore(Map.of("choices", List.of())));
+        assertEquals(0.0, OpenAiJudge.parseScore(Map.of("choices", "oops")));
+        assertEquals(0.0, OpenAiJudge.parseScore(Map.of("choices", List.of("oops"))));
+        assertEquals(0.0, OpenAiJudge.parseScore(Map.of("choices", List.of(Map.of("message", List.of())))));
+        assertEquals(0.0, OpenAiJudge.parseScore(content(null)));
+        assertEquals(0.0, OpenAiJudge.parseScore(content(List.of(Map.of("type", "text", "text", "0.5")))));
+        assertEquals(0.0, OpenAiJudge.parseScore(content("The claim is likely true.")));
+    }
+}
@@ -0,0 +1,62 @@
+package com.goormthonuniv.cleannews.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** 운영 코드와 같은 SLF4J fluent API(atInfo()…log("event"))로 로깅해 실제로 걸러지는지 확인 */
+class EventRateLimitFilterTest {
+
+    private Logger logger;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        LoggerContext context = new LoggerContext();
+        EventRateLimitFilter filter = new EventRateLimitFilter();
+        filter.setContext(context);
+        filter.addRule("adapter.rate_limited,1.0,5");
+        filter.addRule("search.primary,0.0,100");
+        filter.start();
+
+        appender = new ListAppender<>();
+        appender.setContext(context);
+        appender.addFilter(filter);
+        appender.start();
+
+        logger = context.getLogger("test");
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+    }
+
+    @Test
+    void capsConfiguredEventPerSecond() {
+        for (int i = 0; i < 100; i++) {
+            logger.atInfo().addKeyValue("adapter", "naver").log("adapter.rate_limited");
+        }
+        // 루프가 초 경계를 넘으면 윈도우가 두 개 → 최대 2배
+        int logged = appender.list.size();
+        assertTrue(logged >= 5 && logged <= 10, "logged=" + logged);
+    }
+
+    @Test
+    void samplesConfiguredEvent() {
+        for (int i = 0; i < 100; i++) {
+            logger.atInfo().addKeyValue("query", "q").log("search.primary");
+        }
+        assertEquals(0, appender.list.size());
+    }
+
+    @Test
+    void passesUnconfiguredEventsAndErrors() {
+        for (int i = 0; i < 500; i++) logger.atInfo().log("job.done");
+        for (int i = 0; i < 50; i++) logger.atError().log("search.primary");
+        assertEquals(550, appender.list.size());
+    }
+}
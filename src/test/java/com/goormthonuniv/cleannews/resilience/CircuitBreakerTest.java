@@ -0,0 +1,109 @@
+package com.goormthonuniv.cleannews.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.goormthonuniv.cleannews.resilience.CircuitBreaker.State.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/** 가짜 시계로 CLOSED → OPEN → HALF_OPEN → CLOSED/OPEN 전이 확인 */
+class CircuitBreakerTest {
+
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(1500);
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+    // 최근 4건, 최소 4건, 실패율 50% / 느린 호출 75%(>1000ms), OPEN 100ms, 시험 호출 2건
+    private final CircuitBreaker breaker = new CircuitBreaker(
+            new CircuitBreaker.Settings(4, 4, 0.5, 0.75, 1000, 100, 2), now::get);
+
+    private void advanceMs(long ms) {
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(ms));
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) breaker.record(FAST, false);
+        assertEquals(OPEN, breaker.state());
+    }
+
+    @Test
+    void staysClosedBelowMinCalls() {
+        breaker.record(FAST, false);
+        breaker.record(FAST, false);
+        breaker.record(FAST, false);
+        assertEquals(CLOSED, breaker.state());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    void opensAtFailureRateAndBlocksUntilOpenMs() {
+        breaker.record(FAST, true);
+        breaker.record(FAST, true);
+        breaker.record(FAST, false);
+        assertEquals(CLOSED, breaker.state());
+        breaker.record(FAST, false); // 2/4 = 50%
+        assertEquals(OPEN, breaker.state());
+
+        assertFalse(breaker.isCallPermitted());
+        assertFalse(breaker.tryAcquire());
+        advanceMs(99);
+        assertFalse(breaker.tryAcquire());
+        advanceMs(1);
+        assertTrue(breaker.isCallPermitted());
+        assertTrue(breaker.tryAcquire());
+        assertEquals(HALF_OPEN, breaker.state());
+    }
+
+    @Test
+    void opensOnSlowCalls() {
+        breaker.record(SLOW, true);
+        breaker.record(SLOW, true);
+        breaker.record(FAST, true);
+        breaker.record(SLOW, true); // 느린 호출 3/4 = 75%
+        assertEquals(OPEN, breaker.state());
+    }
+
+    @Test
+    void halfOpenClosesAfterAllTrialCallsSucceed() {
+        open();
+        advanceMs(100);
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire(), "시험 호출은 halfOpenCalls 건까지");
+        assertFalse(breaker.isCallPermitted());
+
+        breaker.record(FAST, true);
+        assertEquals(HALF_OPEN, breaker.state());
+        breaker.record(FAST, true);
+        assertEquals(CLOSED, breaker.state());
+        assertEquals(0, breaker.calls(), "CLOSED 는 빈 윈도우로 시작");
+    }
+
+    @Test
+    void halfOpenReopensOnFailureOrSlowCall() {
+        open();
+        advanceMs(100);
+        assertTrue(breaker.tryAcquire());
+        breaker.record(FAST, false);
+        assertEquals(OPEN, breaker.state());
+
+        advanceMs(100);
+        assertTrue(breaker.tryAcquire());
+        breaker.record(SLOW, true);
+        assertEquals(OPEN, breaker.state());
+    }
+
+    @Test
+    void lostTrialPermitsAreReissuedAfterOpenMs() {
+        open();
+        advanceMs(100);
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        // 두 시험 호출이 결과 없이 사라짐(취소 등)
+        advanceMs(100);
+        assertTrue(breaker.isCallPermitted());
+        assertTrue(breaker.tryAcquire());
+    }
+}
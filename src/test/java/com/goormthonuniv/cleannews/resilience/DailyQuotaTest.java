@@ -0,0 +1,72 @@
+package com.goormthonuniv.cleannews.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** 한도 소진/반납/자정(zone 기준) 초기화 */
+class DailyQuotaTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    /** 테스트에서 시각을 옮길 수 있는 시계 */
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+        private final ZoneId zone;
+
+        MutableClock(Instant instant, ZoneId zone) {
+            this.instant = instant;
+            this.zone = zone;
+        }
+
+        void advance(Duration d) {
+            instant = instant.plus(d);
+        }
+
+        @Override public ZoneId getZone() { return zone; }
+        @Override public Clock withZone(ZoneId zone) { return new MutableClock(instant, zone); }
+        @Override public Instant instant() { return instant; }
+    }
+
+    private final MutableClock clock = new MutableClock(
+            ZonedDateTime.of(2025, 1, 1, 23, 59, 58, 0, SEOUL).toInstant(), SEOUL);
+    private final DailyQuota quota = new DailyQuota(2, clock);
+
+    @Test
+    void rejectsAfterLimitAndRefundFreesOne() {
+        assertTrue(quota.tryConsume());
+        assertTrue(quota.tryConsume());
+        assertFalse(quota.tryConsume());
+        assertEquals(0, quota.remaining());
+
+        quota.refund();
+        assertEquals(1, quota.used());
+        assertTrue(quota.tryConsume());
+        assertFalse(quota.tryConsume());
+    }
+
+    @Test
+    void resetsAtLocalMidnight() {
+        quota.tryConsume();
+        quota.tryConsume();
+
+        clock.advance(Duration.ofSeconds(1)); // 23:59:59 — 아직 같은 날
+        assertFalse(quota.tryConsume());
+
+        clock.advance(Duration.ofSeconds(1)); // 00:00:00 (Asia/Seoul)
+        assertEquals(2, quota.remaining());
+        assertTrue(quota.tryConsume());
+        assertEquals(1, quota.used());
+    }
+
+    @Test
+    void refundAfterRolloverDoesNotGoNegative() {
+        quota.tryConsume();
+        clock.advance(Duration.ofSeconds(2));
+        quota.refund();
+        assertEquals(0, quota.used());
+        assertEquals(2, quota.remaining());
+    }
+}
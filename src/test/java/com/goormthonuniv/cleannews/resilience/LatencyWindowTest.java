@@ -0,0 +1,75 @@
+package com.goormthonuniv.cleannews.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/** 관측 지연 → p95(헤지 시점)/p99(timeout) 도출 */
+class LatencyWindowTest {
+
+    private static long ms(long ms) {
+        return TimeUnit.MILLISECONDS.toNanos(ms);
+    }
+
+    /** 1..100ms 를 한 번씩 기록 */
+    private static void recordOneToHundred(LatencyWindow w) {
+        for (int i = 1; i <= 100; i++) w.record(ms(i));
+    }
+
+    @Test
+    void percentilesUnavailableUntilMinSamples() {
+        LatencyWindow w = new LatencyWindow(256, 20);
+        for (int i = 0; i < 19; i++) w.record(ms(5));
+        assertEquals(-1, w.p95Nanos());
+        assertEquals(-1, w.p99Nanos());
+    }
+
+    @Test
+    void percentilesOverWindow() {
+        LatencyWindow w = new LatencyWindow(256, 1);
+        recordOneToHundred(w);
+        // 재계산은 16건마다: 96건째 기준 → 1..96
+        assertEquals(ms(92), w.p95Nanos());
+        assertEquals(ms(96), w.p99Nanos());
+        for (int i = 0; i < 12; i++) w.record(ms(1));
+        // 112건(1..100 + 1ms×12) 기준
+        assertEquals(ms(95), w.p95Nanos());
+        assertEquals(ms(99), w.p99Nanos());
+    }
+
+    @Test
+    void oldSamplesFallOutOfTheRing() {
+        LatencyWindow w = new LatencyWindow(16, 1);
+        for (int i = 0; i < 16; i++) w.record(ms(1000));
+        assertEquals(ms(1000), w.p99Nanos());
+        for (int i = 0; i < 16; i++) w.record(ms(10));
+        assertEquals(ms(10), w.p99Nanos());
+    }
+
+    @Test
+    void guardDerivesTimeoutFromP99AndHedgeDelayFromP95() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        LatencyWindow w = new LatencyWindow(256, 1);
+        CircuitBreaker breaker = new CircuitBreaker(new CircuitBreaker.Settings(50, 10, 0.5, 0.8, 2000, 30000, 3));
+        Guard g = new Guard("judge", breaker, w, 1.5, 100, 5000, true,
+                registry.counter("hedges"), registry.counter("wins"));
+
+        assertEquals(5000, g.timeoutMs(), "샘플 부족 → 상한");
+        assertEquals(-1, g.hedgeDelayNanos());
+
+        recordOneToHundred(w);
+        assertEquals(144, g.timeoutMs(), "p99(96ms) × 1.5");
+        assertEquals(ms(92), g.hedgeDelayNanos());
+        assertEquals(120, g.timeoutMs(120), "호출자 상한");
+
+        LatencyWindow fast = new LatencyWindow(16, 1);
+        for (int i = 0; i < 16; i++) fast.record(ms(2));
+        Guard quick = new Guard("fast", breaker, fast, 1.5, 100, 5000, false,
+                registry.counter("hedges2"), registry.counter("wins2"));
+        assertEquals(100, quick.timeoutMs(), "하한");
+        assertEquals(-1, quick.hedgeDelayNanos(), "헤지 꺼짐");
+    }
+}
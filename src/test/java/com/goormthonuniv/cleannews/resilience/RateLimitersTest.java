@@ -0,0 +1,70 @@
+package com.goormthonuniv.cleannews.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** 허가를 받고도 호출하지 않은 경우 토큰/쿼터 반납 */
+class RateLimitersTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final RateLimiters limiters = new RateLimiters(new MockEnvironment()
+            .withProperty("cleannews.ratelimit.maxWaitMs", "60000")
+            .withProperty("cleannews.ratelimit.targets.naver.permitsPerSecond", "1")
+            .withProperty("cleannews.ratelimit.targets.naver.burst", "1")
+            .withProperty("cleannews.ratelimit.targets.naver.dailyQuota", "10"), registry);
+
+    @AfterEach
+    void clearInterrupt() {
+        Thread.interrupted();
+    }
+
+    private double quotaUsed() {
+        return registry.get("cleannews.ratelimit.quota.used").tag("adapter", "naver").gauge().value();
+    }
+
+    private double tokens() {
+        return registry.get("cleannews.ratelimit.tokens").tag("adapter", "naver").gauge().value();
+    }
+
+    @Test
+    void unconfiguredTargetIsUnlimited() throws InterruptedException {
+        for (int i = 0; i < 100; i++) assertTrue(limiters.acquire("bing", System.nanoTime()));
+    }
+
+    @Test
+    void refundReturnsTokenAndQuota() throws InterruptedException {
+        assertTrue(limiters.acquire("naver", System.nanoTime()));
+        assertEquals(1, quotaUsed());
+
+        limiters.refund("naver");
+        assertEquals(0, quotaUsed());
+        assertEquals(1.0, tokens(), 0.01);
+    }
+
+    @Test
+    void interruptedWaitRefundsTokenAndQuota() throws InterruptedException {
+        assertTrue(limiters.acquire("naver", System.nanoTime()));
+        double tokensBefore = tokens();
+
+        Thread.currentThread().interrupt(); // 다음 토큰을 기다리는 sleep 이 즉시 InterruptedException
+        assertThrows(InterruptedException.class,
+                () -> limiters.acquire("naver", System.nanoTime() + TimeUnit.SECONDS.toNanos(10)));
+
+        assertEquals(1, quotaUsed());
+        assertEquals(tokensBefore, tokens(), 0.05);
+    }
+
+    @Test
+    void waitPastDeadlineIsRejectedAndRefunded() throws InterruptedException {
+        assertTrue(limiters.acquire("naver", System.nanoTime()));
+        // 다음 토큰(~1s)이 데드라인(50ms) 안에 오지 않음 → 예약하지 않고 쿼터 반납
+        assertFalse(limiters.acquire("naver", System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(50)));
+        assertEquals(1, quotaUsed());
+    }
+}
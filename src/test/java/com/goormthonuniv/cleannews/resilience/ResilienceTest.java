@@ -0,0 +1,137 @@
+package com.goormthonuniv.cleannews.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResilienceTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Resilience resilience(MockEnvironment env) {
+        return new Resilience(env, new SimpleMeterRegistry(), executor);
+    }
+
+    private static long in(long ms) {
+        return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ms);
+    }
+
+    /** 받은 허가/반납 횟수를 세는 permit */
+    private static final class CountingPermit implements Resilience.CallPermit {
+        final AtomicInteger acquired = new AtomicInteger();
+        final AtomicInteger refunded = new AtomicInteger();
+
+        @Override
+        public boolean acquire(long deadlineNanos) {
+            acquired.incrementAndGet();
+            return true;
+        }
+
+        @Override
+        public void refund() {
+            refunded.incrementAndGet();
+        }
+    }
+
+    @Test
+    void openBreakerRefundsTheHeldPermit() {
+        Resilience r = resilience(new MockEnvironment()
+                .withProperty("cleannews.resilience.windowSize", "1")
+                .withProperty("cleannews.resilience.minCalls", "1")
+                .withProperty("cleannews.resilience.retry.maxAttempts", "1"));
+        Guard g = r.guard("naver");
+        assertThrows(IOException.class, () -> r.attempt(g, () -> { throw new IOException("down"); }, in(1000)));
+        assertEquals(CircuitBreaker.State.OPEN, g.breaker().state());
+        assertFalse(g.breaker().isCallPermitted());
+
+        CountingPermit permit = new CountingPermit();
+        assertThrows(CallNotPermittedException.class, () -> r.attempt(g, () -> "ok", in(1000), permit));
+        assertEquals(1, permit.refunded.get(), "호출자가 받아 둔 첫 호출 허가를 반납");
+    }
+
+    /** 헤지 예산 hedgeBudget 개(추가 적립 없음), 재시도 예산은 0 에서 논리 호출당 0.5 적립 */
+    private Resilience hedging(int hedgeBudget) {
+        return resilience(new MockEnvironment()
+                .withProperty("cleannews.resilience.hedge.enabled", "true")
+                .withProperty("cleannews.resilience.minSamples", "1")
+                .withProperty("cleannews.resilience.hedge.budgetInitial", String.valueOf(hedgeBudget))
+                .withProperty("cleannews.resilience.hedge.budgetRatio", "0")
+                .withProperty("cleannews.resilience.retry.budgetInitial", "0")
+                .withProperty("cleannews.resilience.retry.budgetRatio", "0.5"));
+    }
+
+    /** p95 가 잡히도록(16건마다 재계산) 빠른 호출로 지연 창을 채움 → 헤지가 거의 즉시 나감 */
+    private static Guard warmedUp(Resilience r) throws Exception {
+        Guard g = r.guard("llm_judge");
+        for (int i = 0; i < 16; i++) r.attempt(g, () -> "ok", in(1000));
+        assertTrue(g.p95Ms() >= 0);
+        return g;
+    }
+
+    private static double retryBudget(Resilience r) {
+        return (double) r.snapshot().get("retryBudget");
+    }
+
+    @Test
+    void hedgeWinsCancelsLoserAndDepositsRetryBudgetOnce() throws Exception {
+        Resilience r = hedging(1);
+        Guard g = warmedUp(r);
+        double before = retryBudget(r);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch loserInterrupted = new CountDownLatch(1);
+
+        String res = r.hedged(g, () -> {
+            if (calls.getAndIncrement() == 0) {
+                try {
+                    Thread.sleep(5000);
+                } catch (InterruptedException e) {
+                    loserInterrupted.countDown();
+                    throw e;
+                }
+                return "slow";
+            }
+            return "fast";
+        }, in(3000), Resilience.CallPermit.ALWAYS);
+
+        assertEquals("fast", res);
+        assertEquals(2, calls.get());
+        assertTrue(loserInterrupted.await(1, TimeUnit.SECONDS), "진 호출은 취소(인터럽트)");
+        assertEquals(before + 0.5, retryBudget(r), 1e-9, "헤지 복제분은 재시도 예산을 적립하지 않음");
+    }
+
+    @Test
+    void hedgesStopWhenBudgetRunsOut() throws Exception {
+        Resilience r = hedging(1);
+        Guard g = warmedUp(r);
+        AtomicInteger calls = new AtomicInteger();
+        Callable<String> slow = () -> {
+            calls.incrementAndGet();
+            Thread.sleep(100);
+            return "done";
+        };
+
+        assertEquals("done", r.hedged(g, slow, in(3000), Resilience.CallPermit.ALWAYS));
+        assertEquals(2, calls.get(), "예산 1 → 헤지 1건");
+
+        calls.set(0);
+        assertEquals("done", r.hedged(g, slow, in(3000), Resilience.CallPermit.ALWAYS));
+        assertEquals(1, calls.get(), "예산 소진 → 헤지 없음");
+        assertEquals(0.0, (double) r.snapshot().get("hedgeBudget"), 1e-9);
+    }
+}
@@ -0,0 +1,28 @@
+package com.goormthonuniv.cleannews.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryBudgetTest {
+
+    @Test
+    void withdrawsInitialBalanceThenOnlyWhatCallsDeposit() {
+        RetryBudget budget = new RetryBudget(0.25, 1, 10);
+        assertTrue(budget.tryWithdraw());
+        assertFalse(budget.tryWithdraw());
+
+        for (int i = 0; i < 3; i++) budget.deposit();
+        assertFalse(budget.tryWithdraw(), "0.75 토큰으로는 재시도 불가");
+        budget.deposit();
+        assertTrue(budget.tryWithdraw(), "호출 4건 → 재시도 1건");
+        assertEquals(0.0, budget.available(), 1e-9);
+    }
+
+    @Test
+    void balanceIsCappedAtMax() {
+        RetryBudget budget = new RetryBudget(1.0, 0, 2);
+        for (int i = 0; i < 10; i++) budget.deposit();
+        assertEquals(2.0, budget.available(), 1e-9);
+    }
+}
@@ -0,0 +1,58 @@
+package com.goormthonuniv.cleannews.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/** 가짜 시계로 적립/대기열/예산 경계 확인 */
+class TokenBucketTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+    private final TokenBucket bucket = new TokenBucket(10, 2, now::get); // 초당 10개, burst 2
+
+    @Test
+    void startsFullAndRefillsUpToBurst() {
+        assertEquals(0L, bucket.reserve(0));
+        assertEquals(0L, bucket.reserve(0));
+        assertEquals(0.0, bucket.available(), 1e-9);
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        assertEquals(1.0, bucket.available(), 1e-6);
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertEquals(2.0, bucket.available(), 1e-9); // burst 이상 적립하지 않음
+    }
+
+    @Test
+    void queuesWithinBudgetAndRejectsPastIt() {
+        bucket.reserve(0);
+        bucket.reserve(0);
+        long wait = bucket.reserve(Long.MAX_VALUE); // 다음 토큰까지 대기 (~100ms)
+        bucket.refund();
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), wait, 10);
+
+        assertEquals(-1L, bucket.reserve(wait - 1)); // 예산 1ns 부족 → 예약하지 않음
+        assertEquals(wait, bucket.reserve(wait));    // 예산과 같으면 줄을 섬
+        // 앞 예약 뒤에 줄 서므로 두 배 대기
+        assertEquals(-1L, bucket.reserve(wait));
+        assertEquals(2 * wait, bucket.reserve(Long.MAX_VALUE), 10);
+    }
+
+    @Test
+    void refundReturnsReservedToken() {
+        bucket.reserve(0);
+        bucket.reserve(0);
+        bucket.refund();
+        assertEquals(0L, bucket.reserve(0));
+        assertEquals(-1L, bucket.reserve(0));
+    }
+
+    @Test
+    void refundNeverExceedsBurst() {
+        bucket.refund();
+        assertEquals(2.0, bucket.available(), 1e-9);
+    }
+}
@@ -0,0 +1,147 @@
+package com.goormthonuniv.cleannews.search;
+
+import com.goormthonuniv.cleannews.http.OutboundHttp;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** 어댑터별 필드 매핑(2xx)과 비 2xx → SearchAdapterException(상태 코드 보존), 로컬 HttpServer 로 응답 */
+class SearchAdaptersTest {
+
+    private final OutboundHttp http = new OutboundHttp(RestClient.builder(), new MockEnvironment(),
+            new SimpleMeterRegistry(), 1000, 2000, false);
+    private final AtomicInteger status = new AtomicInteger(200);
+    private final AtomicReference<String> body = new AtomicReference<>("{}");
+    private final AtomicReference<Headers> requestHeaders = new AtomicReference<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private HttpServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            requests.incrementAndGet();
+            requestHeaders.set(exchange.getRequestHeaders());
+            byte[] bytes = body.get().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+            exchange.sendResponseHeaders(status.get(), bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    private String endpoint(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    private void respond(int code, String json) {
+        status.set(code);
+        body.set(json);
+    }
+
+    private NaverNewsAdapter naver() {
+        return new NaverNewsAdapter(http, endpoint("/v1/search/news.json"), "client-id", "client-secret");
+    }
+
+    private BingNewsAdapter bing() {
+        return new BingNewsAdapter(http, endpoint("/v7.0/news/search"), "bing-key");
+    }
+
+    private GoogleCseAdapter google() {
+        return new GoogleCseAdapter(http, endpoint("/customsearch/v1"), "google-key", "cx-id");
+    }
+
+    @Test
+    void naverStripsTagsAndSendsClientHeaders() {
+        respond(200, SearchResultDecoderTest.NAVER_NEWS);
+
+        List<SearchResult> out = naver().search("스타벅스 이벤트", 1);
+
+        assertEquals(List.of(new SearchResult("naver", "스타벅스 겨울 e-프리퀀시 공식 안내",
+                "https://n.news.naver.com/mnews/article/001/0015000001?sid=101", "스타벅스가 공식 이벤트 일정을 발표했다.", null)), out);
+        assertEquals("client-id", requestHeaders.get().getFirst("X-Naver-Client-Id"));
+        assertEquals("client-secret", requestHeaders.get().getFirst("X-Naver-Client-Secret"));
+    }
+
+    @Test
+    void bingMapsNameAndDatePublished() {
+        respond(200, SearchResultDecoderTest.BING_NEWS);
+
+        List<SearchResult> out = bing().search("starbucks event", 10);
+
+        assertEquals(2, out.size());
+        assertEquals("bing", out.get(0).source());
+        assertEquals("Starbucks announces winter promotion", out.get(0).title());
+        assertNotNull(out.get(0).publishedAt());
+        assertEquals("bing-key", requestHeaders.get().getFirst("Ocp-Apim-Subscription-Key"));
+    }
+
+    @Test
+    void googleMapsLinkAndSnippet() {
+        respond(200, SearchResultDecoderTest.GOOGLE_CSE);
+
+        List<SearchResult> out = google().search("스타벅스", 10);
+
+        assertEquals(1, out.size());
+        assertEquals("https://www.starbucks.co.kr/whats_new/campaign_view.do?pro_seq=1", out.get(0).url());
+        assertEquals("2025 겨울 e-프리퀀시 이벤트 안내 ...", out.get(0).snippet());
+    }
+
+    @Test
+    void non2xxBecomesSearchAdapterExceptionWithStatus() {
+        respond(401, "{\"errorMessage\": \"Authentication failed\", \"errorCode\": \"024\"}");
+        SearchAdapterException naver = assertThrows(SearchAdapterException.class, () -> naver().search("q", 10));
+        assertEquals("naver", naver.adapter());
+        assertEquals(401, naver.status());
+
+        respond(429, "{\"error\": {\"code\": \"429\", \"message\": \"Rate limit is exceeded.\"}}");
+        SearchAdapterException bing = assertThrows(SearchAdapterException.class, () -> bing().search("q", 10));
+        assertEquals("bing", bing.adapter());
+        assertEquals(429, bing.status());
+
+        respond(403, "{\"error\": {\"code\": 403, \"message\": \"The request is missing a valid API key.\", \"status\": \"PERMISSION_DENIED\"}}");
+        SearchAdapterException google = assertThrows(SearchAdapterException.class, () -> google().search("q", 10));
+        assertEquals("google_cse", google.adapter());
+        assertEquals(403, google.status());
+
+        respond(503, "");
+        assertEquals(503, assertThrows(SearchAdapterException.class, () -> naver().search("q", 10)).status());
+    }
+
+    @Test
+    void okWithErrorShapedBodyYieldsNoResults() {
+        respond(200, "{\"_type\": \"ErrorResponse\", \"errors\": [{\"code\": \"InvalidRequest\", \"message\": \"Parameter has invalid value.\"}]}");
+        assertEquals(List.of(), bing().search("q", 10));
+    }
+
+    @Test
+    void missingCredentialsSkipTheCall() {
+        assertEquals(List.of(), new NaverNewsAdapter(http, endpoint("/v1/search/news.json"), "", "secret").search("q", 10));
+        assertEquals(List.of(), new BingNewsAdapter(http, endpoint("/v7.0/news/search"), " ").search("q", 10));
+        assertEquals(List.of(), new GoogleCseAdapter(http, endpoint("/customsearch/v1"), "key", null).search("q", 10));
+        assertEquals(0, requests.get());
+    }
+}
@@ -0,0 +1,242 @@
+package com.goormthonuniv.cleannews.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 제공자별 실제 응답 모양(필드 구성/중첩 객체)의 fixture 로 스트리밍 디코딩 확인.
+ * 필드 매핑은 각 어댑터의 FIELDS 와 같게.
+ */
+class SearchResultDecoderTest {
+
+    private static final SearchResultDecoder.Fields NAVER = new SearchResultDecoder.Fields("title", "link", "description", null);
+    private static final SearchResultDecoder.Fields BING = new SearchResultDecoder.Fields("name", "url", "description", "datePublished");
+    private static final SearchResultDecoder.Fields GOOGLE = new SearchResultDecoder.Fields("title", "link", "snippet", null);
+
+    /** 네이버 뉴스 검색 (items[], pubDate 는 RFC-1123 이라 매핑하지 않음, 제목/요약에 <b> 태그) */
+    static final String NAVER_NEWS = """
+            {
+              "lastBuildDate": "Mon, 13 Jan 2025 10:12:31 +0900",
+              "total": 1532,
+              "start": 1,
+              "display": 2,
+              "items": [
+                {
+                  "title": "<b>스타벅스</b> 겨울 e-프리퀀시 공식 안내",
+                  "originallink": "https://www.example.co.kr/news/articleView.html?idxno=1001",
+                  "link": "https://n.news.naver.com/mnews/article/001/0015000001?sid=101",
+                  "description": "스타벅스가 <b>공식</b> 이벤트 일정을 발표했다.",
+                  "pubDate": "Mon, 13 Jan 2025 09:30:00 +0900"
+                },
+                {
+                  "title": "사칭 이벤트 주의",
+                  "originallink": "https://news.example.com/2",
+                  "link": "https://n.news.naver.com/mnews/article/002/0002000002?sid=102",
+                  "description": "",
+                  "pubDate": "Sun, 12 Jan 2025 18:00:00 +0900"
+                }
+              ]
+            }
+            """;
+
+    /** Bing News v7 (value[], 중첩 image/about/provider, datePublished 는 소수점 7자리 UTC) */
+    static final String BING_NEWS = """
+            {
+              "_type": "News",
+              "readLink": "https://api.bing.microsoft.com/api/v7/news/search?q=starbucks",
+              "queryContext": {"originalQuery": "starbucks event", "adultIntent": false},
+              "totalEstimatedMatches": 42,
+              "sort": [{"name": "Best match", "id": "relevance", "isSelected": true, "url": "https://api.bing.microsoft.com/api/v7/news/search?q=starbucks"}],
+              "value": [
+                {
+                  "name": "Starbucks announces winter promotion",
+                  "url": "https://www.example.com/business/starbucks-winter",
+                  "image": {"thumbnail": {"contentUrl": "https://www.bing.com/th?id=OVFT.abc", "width": 700, "height": 466}},
+                  "description": "The company confirmed the official event dates.",
+                  "about": [{"readLink": "https://api.bing.microsoft.com/api/v7/entities/x", "name": "Starbucks"}],
+                  "provider": [{"_type": "Organization", "name": "Example News", "image": {"thumbnail": {"contentUrl": "https://www.bing.com/th?id=ODF.x"}}}],
+                  "datePublished": "2025-01-13T01:23:00.0000000Z",
+                  "category": "Business"
+                },
+                {
+                  "name": "Fake coupon circulating",
+                  "url": "https://www.example.org/fake-coupon",
+                  "description": "Officials warn of a phishing campaign.",
+                  "provider": [{"_type": "Organization", "name": "Example Org"}],
+                  "datePublished": "2025-01-12T22:05:41.0000000Z"
+                }
+              ]
+            }
+            """;
+
+    /** Google Custom Search (items[] 앞에 queries/context/searchInformation, 항목마다 pagemap) */
+    static final String GOOGLE_CSE = """
+            {
+              "kind": "customsearch#search",
+              "url": {"type": "application/json", "template": "https://www.googleapis.com/customsearch/v1?q={searchTerms}"},
+              "queries": {
+                "request": [{"title": "Google Custom Search - 스타벅스", "totalResults": "1230", "searchTerms": "스타벅스", "count": 10, "startIndex": 1}],
+                "nextPage": [{"title": "Google Custom Search - 스타벅스", "totalResults": "1230", "searchTerms": "스타벅스", "count": 10, "startIndex": 11}]
+              },
+              "context": {"title": "cleannews"},
+              "searchInformation": {"searchTime": 0.31, "formattedSearchTime": "0.31", "totalResults": "1230", "formattedTotalResults": "1,230"},
+              "items": [
+                {
+                  "kind": "customsearch#result",
+                  "title": "스타벅스 공식 이벤트 | 스타벅스 코리아",
+                  "htmlTitle": "<b>스타벅스</b> 공식 이벤트",
+                  "link": "https://www.starbucks.co.kr/whats_new/campaign_view.do?pro_seq=1",
+                  "displayLink": "www.starbucks.co.kr",
+                  "snippet": "2025 겨울 e-프리퀀시 이벤트 안내 ...",
+                  "htmlSnippet": "2025 겨울 e-프리퀀시 <b>이벤트</b> 안내 ...",
+                  "formattedUrl": "https://www.starbucks.co.kr/whats_new/campaign_view.do?pro_seq=1",
+                  "pagemap": {"metatags": [{"og:title": "스타벅스 공식 이벤트", "article:published_time": "2025-01-13T09:30:00+09:00"}]}
+                }
+              ]
+            }
+            """;
+
+    private static InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<SearchResult> decode(String json, String arrayField, SearchResultDecoder.Fields fields, int limit)
+            throws IOException {
+        return SearchResultDecoder.decode(body(json), "test", arrayField, fields, limit, UnaryOperator.identity());
+    }
+
+    @Test
+    void decodesNaverItems() throws IOException {
+        List<SearchResult> out = SearchResultDecoder.decode(body(NAVER_NEWS), "naver", "items", NAVER, 10,
+                s -> s.replaceAll("<[^>]*>", ""));
+
+        assertEquals(List.of(
+                new SearchResult("naver", "스타벅스 겨울 e-프리퀀시 공식 안내",
+                        "https://n.news.naver.com/mnews/article/001/0015000001?sid=101", "스타벅스가 공식 이벤트 일정을 발표했다.", null),
+                new SearchResult("naver", "사칭 이벤트 주의",
+                        "https://n.news.naver.com/mnews/article/002/0002000002?sid=102", "", null)), out);
+    }
+
+    @Test
+    void decodesBingValuesSkippingNestedObjects() throws IOException {
+        List<SearchResult> out = SearchResultDecoder.decode(body(BING_NEWS), "bing", "value", BING, 10, UnaryOperator.identity());
+
+        assertEquals(2, out.size());
+        assertEquals(new SearchResult("bing", "Starbucks announces winter promotion",
+                "https://www.example.com/business/starbucks-winter", "The company confirmed the official event dates.",
+                OffsetDateTime.of(2025, 1, 13, 1, 23, 0, 0, ZoneOffset.UTC)), out.get(0));
+        assertEquals(OffsetDateTime.of(2025, 1, 12, 22, 5, 41, 0, ZoneOffset.UTC), out.get(1).publishedAt());
+    }
+
+    @Test
+    void decodesGoogleItemsAfterLeadingMetadata() throws IOException {
+        List<SearchResult> out = decode(GOOGLE_CSE, "items", GOOGLE, 10);
+
+        assertEquals(List.of(new SearchResult("test", "스타벅스 공식 이벤트 | 스타벅스 코리아",
+                "https://www.starbucks.co.kr/whats_new/campaign_view.do?pro_seq=1", "2025 겨울 e-프리퀀시 이벤트 안내 ...", null)), out);
+    }
+
+    @Test
+    void stopsBuildingItemsAtLimitButConsumesTheRest() throws IOException {
+        String json = """
+                {"value": [{"name": "a"}, {"name": "b"}, {"name": "c", "extra": {"deep": [1, 2, {"x": "y"}]}}], "after": {"name": "z"}}
+                """;
+        assertEquals(List.of("a", "b"), decode(json, "value", BING, 2).stream().map(SearchResult::title).toList());
+        assertEquals(List.of(), decode(json, "value", BING, 0));
+    }
+
+    @Test
+    void missingUnknownAndNonStringFieldsFallBackToDefaults() throws IOException {
+        String json = """
+                {"items": [
+                  {"title": "only title"},
+                  {"title": null, "link": 42, "snippet": ["not", "text"], "unknown": {"title": "nested ignored"}},
+                  {}
+                ]}
+                """;
+        assertEquals(List.of(
+                new SearchResult("test", "only title", "", "", null),
+                new SearchResult("test", "", "", "", null),
+                new SearchResult("test", "", "", "", null)), decode(json, "items", GOOGLE, 10));
+    }
+
+    @Test
+    void nonObjectArrayElementsAreSkipped() throws IOException {
+        String json = """
+                {"items": [null, "text", 3, ["nested", {"title": "inside array"}], {"title": "kept"}]}
+                """;
+        assertEquals(List.of("kept"), decode(json, "items", GOOGLE, 10).stream().map(SearchResult::title).toList());
+    }
+
+    @Test
+    void malformedDatesBecomeNull() throws IOException {
+        String json = """
+                {"value": [{"name": "a", "datePublished": "Mon, 13 Jan 2025 09:30:00 +0900"}, {"name": "b", "datePublished": 1736730000}]}
+                """;
+        List<SearchResult> out = decode(json, "value", BING, 10);
+        assertNull(out.get(0).publishedAt());
+        assertNull(out.get(1).publishedAt());
+    }
+
+    @Test
+    void errorBodiesAndOtherShapesYieldNoResults() throws IOException {
+        // Google/Bing 오류 본문, 네이버 오류 본문
+        assertEquals(List.of(), decode("""
+                {"error": {"code": 429, "message": "Quota exceeded", "errors": [{"message": "Quota exceeded", "domain": "usageLimits", "reason": "rateLimitExceeded"}], "status": "RESOURCE_EXHAUSTED"}}
+                """, "items", GOOGLE, 10));
+        assertEquals(List.of(), decode("""
+                {"_type": "ErrorResponse", "errors": [{"code": "InvalidAuthorization", "message": "Authorization is required."}]}
+                """, "value", BING, 10));
+        assertEquals(List.of(), decode("""
+                {"errorMessage": "Authentication failed (인증 실패)", "errorCode": "024"}
+                """, "items", NAVER, 10));
+        // 결과 필드가 배열이 아님, 최상위가 배열, 빈 본문, 본문 없음
+        assertEquals(List.of(), decode("{\"items\": {\"title\": \"x\"}}", "items", GOOGLE, 10));
+        assertEquals(List.of(), decode("[{\"title\": \"x\"}]", "items", GOOGLE, 10));
+        assertEquals(List.of(), decode("", "items", GOOGLE, 10));
+        assertEquals(List.of(), SearchResultDecoder.decode(null, "test", "items", GOOGLE, 10, UnaryOperator.identity()));
+    }
+
+    @Test
+    void truncatedBodyFailsInsteadOfReturningPartialResults() {
+        // 중간에 끊긴 응답은 IO 오류로 전파 (브레이커/재시도 집계 대상)
+        assertThrows(IOException.class, () -> decode("{\"items\": [{\"title\": \"a\"}, {\"title\": \"b", "items", GOOGLE, 10));
+    }
+
+    @Test
+    void parseDateAcceptsIsoOffsetForms() {
+        assertEquals(OffsetDateTime.of(2025, 1, 13, 1, 23, 0, 0, ZoneOffset.UTC),
+                SearchResultDecoder.parseDate("2025-01-13T01:23:00.0000000Z"));
+        assertEquals(OffsetDateTime.of(2025, 1, 13, 9, 30, 0, 0, ZoneOffset.ofHours(9)),
+                SearchResultDecoder.parseDate("2025-01-13T09:30:00+09:00"));
+        assertEquals(OffsetDateTime.of(2025, 1, 13, 9, 30, 0, 0, ZoneOffset.UTC),
+                SearchResultDecoder.parseDate("2025-01-13T09:30Z"));
+        assertEquals(OffsetDateTime.of(2025, 1, 13, 9, 30, 15, 123_456_789, ZoneOffset.ofHoursMinutes(-3, -30)),
+                SearchResultDecoder.parseDate("2025-01-13T09:30:15.123456789-03:30"));
+        assertEquals(OffsetDateTime.of(2024, 2, 29, 0, 0, 0, 0, ZoneOffset.UTC),
+                SearchResultDecoder.parseDate("2024-02-29T00:00:00Z"));
+    }
+
+    @Test
+    void parseDateRejectsWithoutThrowing() {
+        for (String s : new String[] {
+                null, "", "2025-01-13", "2025-01-13T09:30", "2025-01-13T09:30:00",
+                "Mon, 13 Jan 2025 09:30:00 +0900", "13/01/2025T09:30:00Z",
+                "2025-01-13T09:30:00+09:00 KST", "2025-01-13 09:30:00+09:00",
+                "2025-13-01T00:00:00Z", "2025-02-30T00:00:00Z", "2023-02-29T00:00:00Z",
+                "2025-01-13T24:00:00Z", "2025-01-13T23:60:00Z", "2025-01-13T23:59:60Z",
+                "2025-01-13T09:30:00+19:00", "0000-01-13T09:30:00Z"}) {
+            assertNull(SearchResultDecoder.parseDate(s), s);
+        }
+    }
+}
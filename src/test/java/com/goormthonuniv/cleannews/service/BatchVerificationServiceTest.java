@@ -0,0 +1,73 @@
+package com.goormthonuniv.cleannews.service;
+
+import com.goormthonuniv.cleannews.dto.FeedVerificationRequest;
+import com.goormthonuniv.cleannews.dto.VerificationResponse;
+import com.goormthonuniv.cleannews.resilience.AdaptiveLimiter;
+import com.goormthonuniv.cleannews.resilience.OverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/** 배치는 unique claim 마다 동시 처리 슬롯을 잡고, 슬롯 없는 claim 은 캐시 전용(없으면 503) */
+class BatchVerificationServiceTest {
+
+    private final VerificationOrchestrator orchestrator = mock(VerificationOrchestrator.class);
+    // 상한 2 고정 (min = max = 2)
+    private final AdaptiveLimiter limiter = new AdaptiveLimiter(new SimpleMeterRegistry(), true, 2, 2, 2, 1.5, 0.2);
+    private final BatchVerificationService batch = new BatchVerificationService(orchestrator, limiter);
+
+    private static FeedVerificationRequest request(String text) {
+        return new FeedVerificationRequest("instagram", "https://www.instagram.com/p/abc", "ko", null, text + " 공식 이벤트 안내", null, null);
+    }
+
+    private static VerificationResponse response(String claim) {
+        return new VerificationResponse("UNSURE", 50, claim, null, claim, List.of());
+    }
+
+    @Test
+    void eachUniqueClaimTakesItsOwnPermit() {
+        CompletableFuture<VerificationResponse> first = new CompletableFuture<>();
+        CompletableFuture<VerificationResponse> second = new CompletableFuture<>();
+        when(orchestrator.prefetchPrimaryQueries(any())).thenReturn(Map.of());
+        when(orchestrator.verifyAsync(eq(request("a")), any(), any())).thenReturn(first);
+        when(orchestrator.verifyAsync(eq(request("b")), any(), any())).thenReturn(second);
+
+        CompletableFuture<List<VerificationResponse>> out = batch.verifyAll(List.of(request("a"), request("b"), request("a")));
+        assertTrue(limiter.tryAcquire().isEmpty(), "두 claim 이 슬롯 2개를 모두 사용");
+
+        first.complete(response("a"));
+        second.complete(response("b"));
+        assertEquals(List.of(response("a"), response("b"), response("a")), out.join());
+        assertTrue(limiter.tryAcquire().isPresent(), "claim 완료 시 슬롯 반납");
+    }
+
+    @Test
+    void claimsWithoutPermitAreServedFromCache() {
+        when(orchestrator.prefetchPrimaryQueries(any())).thenReturn(Map.of());
+        when(orchestrator.verifyAsync(any(), any(), any()))
+                .thenAnswer(inv -> CompletableFuture.completedFuture(response(((FeedVerificationRequest) inv.getArgument(0)).text().substring(0, 1))));
+        when(orchestrator.cachedOnly(request("c"))).thenReturn(response("cached"));
+
+        List<VerificationResponse> out = batch.verifyAll(List.of(request("a"), request("b"), request("c"))).join();
+
+        assertEquals(List.of(response("a"), response("b"), response("cached")), out);
+        verify(orchestrator, never()).verifyAsync(eq(request("c")), any(), any());
+    }
+
+    @Test
+    void rejectsWholeBatchAndReleasesPermitsWhenNoCache() {
+        assertThrows(OverloadedException.class,
+                () -> batch.verifyAll(List.of(request("a"), request("b"), request("c"))));
+
+        verify(orchestrator, never()).verifyAsync(any(), any(), any());
+        assertTrue(limiter.tryAcquire().isPresent());
+        assertTrue(limiter.tryAcquire().isPresent(), "확보했던 슬롯 2개 모두 반납");
+    }
+}
@@ -0,0 +1,68 @@
+package com.goormthonuniv.cleannews.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** IP 리터럴만 사용 (DNS 조회 없이 실행) */
+class CallbackUrlPolicyTest {
+
+    private final CallbackUrlPolicy open = new CallbackUrlPolicy(List.of());
+
+    @Test
+    void acceptsMissingCallbackAndPublicAddresses() {
+        assertTrue(open.isAllowed(null));
+        assertTrue(open.isAllowed("https://93.184.216.34/hook"));
+        assertTrue(open.isAllowed("http://[2606:2800:220:1:248:1893:25c8:1946]:8443/hook"));
+    }
+
+    @Test
+    void rejectsNonHttpAndMalformedUrls() {
+        assertFalse(open.isAllowed("ftp://93.184.216.34/x"));
+        assertFalse(open.isAllowed("file:///etc/passwd"));
+        assertFalse(open.isAllowed("/relative/path"));
+        assertFalse(open.isAllowed("http://93.184.216.34 /bad"));
+        assertFalse(open.isAllowed("http://user:pw@93.184.216.34/"));
+    }
+
+    @Test
+    void rejectsInternalAddresses() {
+        for (String url : List.of(
+                "http://127.0.0.1:8080/actuator/env",   // loopback (자기 자신)
+                "http://[::1]/",
+                "http://0.0.0.0/",                      // any-local
+                "http://10.1.2.3/",                     // RFC1918
+                "http://172.16.0.1/",
+                "http://192.168.0.10/",
+                "http://169.254.169.254/latest/meta-data/", // link-local 메타데이터
+                "http://[fe80::1]/",
+                "http://[fd00::1]/",                    // IPv6 ULA
+                "http://100.64.0.1/",                   // CGNAT
+                "http://224.0.0.1/")) {                 // multicast
+            assertFalse(open.isAllowed(url), url);
+        }
+    }
+
+    @Test
+    void resolveReturnsTheCheckedAddress() throws Exception {
+        // 전송은 이 주소로만 접속 (다시 해석하지 않음)
+        assertEquals(InetAddress.getByName("93.184.216.34"), open.resolve("https://93.184.216.34/hook"));
+        assertNull(open.resolve("http://169.254.169.254/"));
+        assertNull(open.resolve(null));
+    }
+
+    @Test
+    void allowlistRestrictsHosts() {
+        CallbackUrlPolicy listed = new CallbackUrlPolicy(List.of("93.184.216.34", ".example.invalid"));
+        assertTrue(listed.isAllowed("https://93.184.216.34/hook"));
+        assertFalse(listed.isAllowed("https://93.184.216.35/hook"));
+        // 허용 목록에 있어도 내부 주소는 거부
+        assertFalse(new CallbackUrlPolicy(List.of("127.0.0.1")).isAllowed("http://127.0.0.1/"));
+    }
+}
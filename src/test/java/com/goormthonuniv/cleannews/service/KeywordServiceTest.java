@@ -0,0 +1,24 @@
+package com.goormthonuniv.cleannews.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class KeywordServiceTest {
+
+    private final KeywordService keywords = new KeywordService(KeywordDictionaries.defaults());
+
+    @Test
+    void topKeywordsIgnoresBlankTextAndStopwords() {
+        assertEquals(List.of(), keywords.topKeywords("  ", 5));
+        assertEquals(List.of(), keywords.topKeywords("the and 에서", 5));
+    }
+
+    @Test
+    void topKeywordsKeepsLegacyMerge() {
+        // 예전 LevenshteinDistance(1) 의 -1 반환 때문에 모든 토큰이 HashMap 순회 첫 키로 합쳐짐
+        assertEquals(List.of("이벤투"), keywords.topKeywords("공식 이벤트 이벤투 당첨 당첨", 5));
+    }
+}
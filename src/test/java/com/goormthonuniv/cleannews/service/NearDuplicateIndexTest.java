@@ -0,0 +1,166 @@
+package com.goormthonuniv.cleannews.service;
+
+import com.goormthonuniv.cleannews.dto.Evidence;
+import com.goormthonuniv.cleannews.dto.FeedVerificationRequest;
+import com.goormthonuniv.cleannews.dto.VerificationResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * minSimilarity 0.95 → 허용 해밍거리 3, 밴드 4개(16bit 씩).
+ * 서명은 직접 만들어 넣어 LSH 보장(거리 <= 3 이면 반드시 찾음)과 퇴출 시 버킷 정리를 확인.
+ */
+class NearDuplicateIndexTest {
+
+    private static final FeedVerificationRequest REQ =
+            new FeedVerificationRequest("instagram", "https://www.instagram.com/p/abc", "ko", null, "공식 이벤트 안내", null, null);
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    private NearDuplicateIndex index(long maxSize) {
+        return new NearDuplicateIndex(true, 0.95, 6, 60, maxSize, ticker::get);
+    }
+
+    private static VerificationResponse response(String verdict) {
+        Evidence e = new Evidence("naver", "news.example.com", "기사", "https://news.example.com/1", "요약", null, 0.8, 0.7);
+        return new VerificationResponse(verdict, 70, "근거 있음", null, "공식 이벤트 안내", List.of(e));
+    }
+
+    private static long flip(long sig, int... bits) {
+        for (int bit : bits) sig ^= 1L << bit;
+        return sig;
+    }
+
+    @Test
+    void findsEverySignatureWithinMaxDistance() {
+        Random random = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            NearDuplicateIndex index = index(100);
+            long sig = random.nextLong();
+            index.put(sig, REQ, response("LIKELY_TRUE"));
+
+            int distance = i % 4;
+            Set<Integer> bits = new HashSet<>();
+            while (bits.size() < distance) bits.add(random.nextInt(64));
+            long probe = flip(sig, bits.stream().mapToInt(Integer::intValue).toArray());
+
+            VerificationResponse hit = index.find(probe);
+            assertNotNull(hit, "거리 " + distance + " 는 한 밴드 이상 일치 → 반드시 후보");
+            assertEquals(1.0 - distance / 64.0, hit.nearDuplicate().similarity(), 1e-9);
+        }
+    }
+
+    @Test
+    void pigeonholeWorstCaseLeavesOneMatchingBand() {
+        NearDuplicateIndex index = index(100);
+        long sig = 0x0123_4567_89ab_cdefL;
+        index.put(sig, REQ, response("LIKELY_TRUE"));
+
+        // 밴드 0,1,2 를 하나씩 깨도 밴드 3 이 같음
+        assertNotNull(index.find(flip(sig, 0, 16, 32)));
+        assertNotNull(index.find(flip(sig, 17, 40, 63)));
+        // 네 밴드가 모두 다르거나, 한 밴드에 몰려도 거리 4 는 허용 밖
+        assertNull(index.find(flip(sig, 0, 16, 32, 48)));
+        assertNull(index.find(flip(sig, 1, 2, 3, 4)));
+    }
+
+    @Test
+    void nearestCandidateWins() {
+        NearDuplicateIndex index = index(100);
+        long sig = 0x0f0f_0f0f_0f0f_0f0fL;
+        index.put(flip(sig, 5, 6), REQ, response("LIKELY_FALSE"));
+        index.put(flip(sig, 7), REQ, response("LIKELY_TRUE"));
+
+        VerificationResponse hit = index.find(sig);
+        assertEquals("LIKELY_TRUE", hit.verdict());
+        assertEquals(63 / 64.0, hit.nearDuplicate().similarity(), 1e-9);
+    }
+
+    @Test
+    void uncacheableResponsesAreNotIndexed() {
+        NearDuplicateIndex index = index(100);
+        index.put(7L, REQ, new VerificationResponse("UNSURE", 50, "검색 실패", null, "공식 이벤트 안내", List.of()));
+        index.put(8L, REQ, response("LIKELY_TRUE").withSkipped(List.of("llm")));
+
+        assertNull(index.find(7L));
+        assertNull(index.find(8L));
+        assertEquals(0, index.indexedSignatures());
+    }
+
+    @Test
+    void expiredEntriesAreUnindexed() {
+        NearDuplicateIndex index = index(100);
+        index.put(11L, REQ, response("LIKELY_TRUE"));
+        index.put(-11L, REQ, response("LIKELY_TRUE"));
+        assertEquals(2, index.indexedSignatures());
+
+        ticker.addAndGet(TimeUnit.MINUTES.toNanos(60) + 1);
+        index.cleanUp();
+
+        assertNull(index.find(11L));
+        assertEquals(0, index.indexedSignatures());
+    }
+
+    @Test
+    void rePutOfExpiringSignatureStaysIndexed() {
+        NearDuplicateIndex index = index(100);
+        long sig = 0x5555_aaaa_5555_aaaaL;
+        index.put(sig, REQ, response("LIKELY_FALSE"));
+
+        // 만료됐지만 아직 퇴출 전인 항목 위에 같은 서명 재등록 → 이전 항목의 퇴출 통지가 새 등록을 지우면 안 됨
+        ticker.addAndGet(TimeUnit.MINUTES.toNanos(60) + 1);
+        index.put(sig, REQ, response("LIKELY_TRUE"));
+        index.cleanUp();
+
+        assertEquals("LIKELY_TRUE", index.find(sig).verdict());
+        assertEquals(1, index.indexedSignatures());
+    }
+
+    @Test
+    void concurrentRePutsKeepBucketsInSyncWithEntries() throws Exception {
+        int maxSize = 4;
+        NearDuplicateIndex index = index(maxSize);
+        // 서로 충분히 먼 서명 8개 (가까운 이웃이 대신 잡히지 않도록)
+        Random random = new Random(7);
+        List<Long> sigs = new ArrayList<>();
+        while (sigs.size() < 8) {
+            long cand = random.nextLong();
+            if (sigs.stream().allMatch(s -> Long.bitCount(s ^ cand) > 8)) sigs.add(cand);
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> done = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int seed = t;
+                done.add(pool.submit(() -> {
+                    Random r = new Random(seed);
+                    start.await();
+                    for (int i = 0; i < 5_000; i++) {
+                        index.put(sigs.get(r.nextInt(sigs.size())), REQ, response("LIKELY_TRUE"));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : done) f.get(30, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+        index.cleanUp();
+
+        long live = sigs.stream().filter(s -> index.find(s) != null).count();
+        assertEquals(maxSize, live, "살아 있는 항목은 모두 버킷으로 찾을 수 있어야 함");
+        assertEquals(maxSize, index.indexedSignatures(), "퇴출된 서명은 버킷에 남지 않아야 함");
+    }
+}
@@ -0,0 +1,103 @@
+package com.goormthonuniv.cleannews.service;
+
+import com.goormthonuniv.cleannews.util.AnalyzedDocument;
+import com.goormthonuniv.cleannews.util.TextAnalyzer;
+import com.goormthonuniv.cleannews.util.TokenDictionary;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SimilarityServiceTest {
+
+    private final SimilarityService similarity = new SimilarityService();
+
+    // 예전 TF-Cosine 그대로 (비교 기준): 공백 분리 2자 이상 토큰
+    static double legacyCosine(String a, String b) {
+        if (a == null || b == null || a.isBlank() || b.isBlank()) return 0.0;
+        Map<String, Integer> va = legacyTf(a);
+        Map<String, Integer> vb = legacyTf(b);
+        Set<String> union = new HashSet<>(va.keySet());
+        union.addAll(vb.keySet());
+        double dot = 0, na = 0, nb = 0;
+        for (String k : union) {
+            int xa = va.getOrDefault(k, 0);
+            int xb = vb.getOrDefault(k, 0);
+            dot += (double) xa * xb;
+            na += (double) xa * xa;
+            nb += (double) xb * xb;
+        }
+        if (na == 0 || nb == 0) return 0.0;
+        return dot / (Math.sqrt(na) * Math.sqrt(nb));
+    }
+
+    private static Map<String, Integer> legacyTf(String text) {
+        Map<String, Integer> m = new HashMap<>();
+        for (String t : text.split("\\s+")) {
+            if (t.length() < 2) continue;
+            m.merge(t, 1, Integer::sum);
+        }
+        return m;
+    }
+
+    @Test
+    void stringCosineMatchesLegacyScoring() {
+        for (List<String> pair : List.of(
+                List.of("공식 이벤트 당첨자 발표", "공식 이벤트 당첨자 발표 안내"),
+                List.of("무료 체험단 모집!", "무료 체험단 모집"),          // 구두점이 붙은 토큰은 다른 토큰
+                List.of("a b c", "a b c"),                              // 1자 토큰만 → 0
+                List.of("brand.kr 공지", "BRAND.KR 공지"),               // 대소문자 구분
+                List.of("  앞뒤 공백  ", "앞뒤\t공백\n"))) {
+            assertEquals(legacyCosine(pair.get(0), pair.get(1)), similarity.cosine(pair.get(0), pair.get(1)), 1e-12);
+        }
+    }
+
+    @Test
+    void stringCosineMatchesLegacyOnRandomText() {
+        String[] words = {"공식", "이벤트", "당첨", "무료", "a", "ab", "AB", "ab,", "100명", " ", "\t", "🎉"};
+        Random random = new Random(3);
+        for (int n = 0; n < 5_000; n++) {
+            String a = randomText(random, words);
+            String b = randomText(random, words);
+            assertEquals(legacyCosine(a, b), similarity.cosine(a, b), 1e-12);
+        }
+    }
+
+    @Test
+    void batchEqualsPerPairCosine() {
+        TokenDictionary dict = new TokenDictionary();
+        AnalyzedDocument claim = TextAnalyzer.terms("공식 이벤트 당첨자 발표 공식", dict);
+        List<AnalyzedDocument> evidences = List.of(
+                TextAnalyzer.terms("공식 이벤트 당첨자 발표 안내", dict),
+                TextAnalyzer.terms("전혀 다른 기사", dict),
+                TextAnalyzer.terms("", dict),
+                TextAnalyzer.terms("공식 공식 발표", dict));
+        double[] expected = evidences.stream().mapToDouble(e -> similarity.cosine(claim, e)).toArray();
+        assertArrayEquals(expected, similarity.cosine(claim, evidences));
+        assertArrayEquals(new double[0], similarity.cosine(claim, List.of()));
+    }
+
+    @Test
+    void rejectsDocumentsFromDifferentDictionaries() {
+        AnalyzedDocument claim = TextAnalyzer.terms("공식 이벤트", new TokenDictionary());
+        AnalyzedDocument other = TextAnalyzer.terms("공식 이벤트", new TokenDictionary());
+        // 사전이 다르면 같은 토큰도 id 가 다를 수 있음 → 조용히 틀린 점수를 내지 않고 거부
+        assertThrows(IllegalArgumentException.class, () -> similarity.cosine(claim, other));
+        assertThrows(IllegalArgumentException.class, () -> similarity.cosine(claim, List.of(other)));
+    }
+
+    private static String randomText(Random random, String[] words) {
+        StringBuilder sb = new StringBuilder();
+        int len = random.nextInt(12);
+        for (int i = 0; i < len; i++) sb.append(words[random.nextInt(words.length)]).append(' ');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,137 @@
+package com.goormthonuniv.cleannews.service;
+
+import com.goormthonuniv.cleannews.dto.Evidence;
+import com.goormthonuniv.cleannews.dto.FeedVerificationRequest;
+import com.goormthonuniv.cleannews.dto.VerificationResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** single-flight 합류 조건(데드라인), degraded 재계산, 재사용 불가 응답 제외 */
+class VerdictCacheTest {
+
+    private static final FeedVerificationRequest REQ =
+            new FeedVerificationRequest("instagram", "https://www.instagram.com/p/abc", "ko", null, "공식 이벤트 안내", null, null);
+    private static final VerificationResponse OK = new VerificationResponse("LIKELY_TRUE", 80, "근거 있음", null, "공식 이벤트 안내",
+            List.of(new Evidence("naver", "news.example.com", "기사", "https://news.example.com/1", "요약", null, 0.8, 0.7)));
+    private static final VerificationResponse DEGRADED = OK.withSkipped(List.of("llm"));
+
+    private final VerdictCache cache = new VerdictCache(true, 30, 100);
+
+    private static Deadline inMs(long ms) {
+        return Deadline.afterMs(ms);
+    }
+
+    /** 호출 횟수를 세고, 호출마다 새 (미완료) future 를 돌려주는 loader */
+    private static final class Loader implements Supplier<CompletableFuture<VerificationResponse>> {
+        final AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<VerificationResponse> last;
+
+        @Override
+        public CompletableFuture<VerificationResponse> get() {
+            calls.incrementAndGet();
+            return last = new CompletableFuture<>();
+        }
+    }
+
+    @Test
+    void sameOrEarlierDeadlineJoinsInFlightLoad() {
+        Loader loader = new Loader();
+        CompletableFuture<VerificationResponse> first = cache.getAsync(REQ, inMs(10_000), loader);
+        CompletableFuture<VerificationResponse> shorter = cache.getAsync(REQ, inMs(1_000), loader);
+
+        assertEquals(1, loader.calls.get());
+        assertTrue(cache.contains(REQ));
+        assertNull(cache.peek(REQ), "진행 중은 peek 대상 아님");
+
+        loader.last.complete(OK);
+        assertEquals(OK, first.join());
+        assertEquals(OK, shorter.join());
+        assertEquals(OK, cache.peek(REQ));
+    }
+
+    @Test
+    void laterDeadlineDoesNotJoinEarlierFlight() {
+        Loader loader = new Loader();
+        CompletableFuture<VerificationResponse> first = cache.getAsync(REQ, inMs(1_000), loader);
+        CompletableFuture<VerificationResponse> firstLoad = loader.last;
+        CompletableFuture<VerificationResponse> longer = cache.getAsync(REQ, inMs(10_000), loader);
+
+        assertEquals(2, loader.calls.get(), "짧은 예산 계산에 긴 예산 요청이 묶이지 않음");
+        firstLoad.complete(DEGRADED);
+        assertEquals(DEGRADED, first.join());
+        assertFalse(longer.isDone());
+
+        loader.last.complete(OK);
+        assertEquals(OK, longer.join());
+        assertEquals(OK, cache.peek(REQ), "별도 계산의 재사용 가능한 결과가 캐시에 남음");
+    }
+
+    @Test
+    void degradedSharedResultIsRecomputedWhileBudgetRemains() {
+        Loader loader = new Loader();
+        CompletableFuture<VerificationResponse> first = cache.getAsync(REQ, inMs(10_000), loader);
+        CompletableFuture<VerificationResponse> firstLoad = loader.last;
+        CompletableFuture<VerificationResponse> joined = cache.getAsync(REQ, inMs(5_000), loader);
+        assertEquals(1, loader.calls.get());
+
+        firstLoad.complete(DEGRADED);
+        assertEquals(DEGRADED, first.join());
+        assertEquals(2, loader.calls.get(), "합류한 요청은 예산이 남아 있으니 다시 계산");
+        assertFalse(cache.contains(REQ), "degraded 판정은 캐시에 남지 않음");
+
+        loader.last.complete(OK);
+        assertEquals(OK, joined.join());
+    }
+
+    @Test
+    void expiredJoinerTakesDegradedSharedResult() {
+        Loader loader = new Loader();
+        cache.getAsync(REQ, inMs(10_000), loader);
+        CompletableFuture<VerificationResponse> joined = cache.getAsync(REQ, new Deadline(System.nanoTime() - 1), loader);
+
+        loader.last.complete(DEGRADED);
+        assertEquals(DEGRADED, joined.join());
+        assertEquals(1, loader.calls.get());
+    }
+
+    @Test
+    void failedLoadIsNotCachedAndReachesJoiners() {
+        Loader loader = new Loader();
+        CompletableFuture<VerificationResponse> first = cache.getAsync(REQ, inMs(10_000), loader);
+        CompletableFuture<VerificationResponse> joined = cache.getAsync(REQ, inMs(5_000), loader);
+
+        loader.last.completeExceptionally(new IllegalStateException("boom"));
+        assertThrows(CompletionException.class, first::join);
+        assertThrows(CompletionException.class, joined::join);
+        assertFalse(cache.contains(REQ));
+
+        assertEquals(OK, cache.get(REQ, inMs(10_000), () -> OK));
+        assertEquals(OK, cache.peek(REQ));
+    }
+
+    @Test
+    void callerCancelDoesNotCancelSharedLoad() {
+        Loader loader = new Loader();
+        CompletableFuture<VerificationResponse> first = cache.getAsync(REQ, inMs(10_000), loader);
+        CompletableFuture<VerificationResponse> joined = cache.getAsync(REQ, inMs(5_000), loader);
+
+        first.cancel(true);
+        loader.last.complete(OK);
+        assertEquals(OK, joined.join());
+        assertEquals(OK, cache.peek(REQ));
+    }
+
+    @Test
+    void fingerprintIgnoresWhitespaceCaseAndWwwPrefix() {
+        FeedVerificationRequest variant = new FeedVerificationRequest("facebook", "https://instagram.com/p/other",
+                " KO ", null, "  공식   이벤트 안내 ", null, 3_000L);
+        assertEquals(VerdictCache.fingerprint(REQ), VerdictCache.fingerprint(variant));
+    }
+}
@@ -0,0 +1,136 @@
+package com.goormthonuniv.cleannews.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goormthonuniv.cleannews.dto.FeedVerificationRequest;
+import com.goormthonuniv.cleannews.dto.VerificationJob;
+import com.goormthonuniv.cleannews.dto.VerificationResponse;
+import com.goormthonuniv.cleannews.exception.GlobalExceptionHandler;
+import com.goormthonuniv.cleannews.http.OutboundHttp;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class VerificationJobServiceTest {
+
+    private static final FeedVerificationRequest REQ =
+            new FeedVerificationRequest("instagram", "https://www.instagram.com/p/abc", "ko", null, "공식 이벤트 안내", null, null);
+    private static final VerificationResponse RES =
+            new VerificationResponse("UNSURE", 50, "근거 부족", null, "공식 이벤트 안내", List.of());
+
+    private final VerificationOrchestrator orchestrator = mock(VerificationOrchestrator.class);
+    private final CallbackUrlPolicy policy = mock(CallbackUrlPolicy.class);
+    private final OutboundHttp http = new OutboundHttp(RestClient.builder(), new MockEnvironment(),
+            new SimpleMeterRegistry(), 1000, 2000, false);
+    private final AtomicLong ticker = new AtomicLong();
+    private HttpServer server;
+    private ExecutorService pool;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) server.stop(0);
+        if (pool != null) pool.shutdownNow();
+    }
+
+    private VerificationJobService service(ExecutorService executor) {
+        return new VerificationJobService(orchestrator, executor, http, new ObjectMapper().findAndRegisterModules(),
+                policy, 1, 100, 60_000, ticker::get);
+    }
+
+    /** 제출 스레드에서 바로 실행 (job 완료/콜백까지 submit 안에서 끝남) */
+    private static final class DirectExecutor extends AbstractExecutorService {
+        @Override public void execute(Runnable r) { r.run(); }
+        @Override public void shutdown() {}
+        @Override public List<Runnable> shutdownNow() { return List.of(); }
+        @Override public boolean isShutdown() { return false; }
+        @Override public boolean isTerminated() { return false; }
+        @Override public boolean awaitTermination(long timeout, TimeUnit unit) { return true; }
+    }
+
+    @Test
+    void queueFullIsRejectedWith503() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(orchestrator.verify(any(), any())).thenAnswer(inv -> {
+            release.await();
+            return RES;
+        });
+        // 워커 1 + 대기열 1
+        pool = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new ArrayBlockingQueue<>(1),
+                new ThreadPoolExecutor.AbortPolicy());
+        VerificationJobService jobs = service(pool);
+        jobs.submit(REQ, null);
+        jobs.submit(REQ, null);
+
+        RejectedExecutionException e = assertThrows(RejectedExecutionException.class, () -> jobs.submit(REQ, null));
+        var response = new GlobalExceptionHandler().handleRejected(e);
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertNotNull(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        release.countDown();
+    }
+
+    @Test
+    void finishedJobExpiresAfterTtl() {
+        when(orchestrator.verify(any(), any())).thenReturn(RES);
+        VerificationJobService jobs = service(new DirectExecutor());
+
+        VerificationJob job = jobs.submit(REQ, null);
+        assertEquals("DONE", jobs.find(job.id()).status());
+        assertEquals(RES, jobs.find(job.id()).result());
+
+        ticker.addAndGet(TimeUnit.MINUTES.toNanos(1) + 1);
+        assertNull(jobs.find(job.id()));
+    }
+
+    @Test
+    void callbackGoesToTheValidatedAddressWithOriginalHost() throws IOException {
+        AtomicReference<String> host = new AtomicReference<>();
+        AtomicReference<String> body = new AtomicReference<>();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/hook", exchange -> {
+            host.set(exchange.getRequestHeaders().getFirst("Host"));
+            body.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.start();
+        // 이름은 해석되지 않는 host — 검사 때 얻은 주소(여기서는 로컬 서버)로만 접속해야 전달됨
+        String url = "http://hooks.example.invalid:" + server.getAddress().getPort() + "/hook?src=cleannews";
+        when(policy.resolve(url)).thenReturn(InetAddress.getLoopbackAddress());
+        when(orchestrator.verify(any(), any())).thenReturn(RES);
+
+        VerificationJob job = service(new DirectExecutor()).submit(REQ, url);
+
+        assertEquals("hooks.example.invalid:" + server.getAddress().getPort(), host.get());
+        assertTrue(body.get().contains(job.id()));
+        assertTrue(body.get().contains("\"status\":\"DONE\""));
+    }
+
+    @Test
+    void callbackIsSkippedWhenAddressNoLongerAllowed() {
+        when(policy.resolve(any())).thenReturn(null);
+        when(orchestrator.verify(any(), any())).thenReturn(RES);
+        VerificationJobService jobs = service(new DirectExecutor());
+
+        VerificationJob job = jobs.submit(REQ, "http://rebound.example.invalid/hook");
+
+        assertEquals("DONE", jobs.find(job.id()).status()); // 결과는 조회로 남음
+        verify(policy).resolve("http://rebound.example.invalid/hook");
+    }
+}
@@ -0,0 +1,110 @@
+package com.goormthonuniv.cleannews.service;
+
+import com.goormthonuniv.cleannews.dto.FeedVerificationRequest;
+import com.goormthonuniv.cleannews.dto.VerificationResponse;
+import com.goormthonuniv.cleannews.llm.LlmJudge;
+import com.goormthonuniv.cleannews.search.SearchAdapter;
+import com.goormthonuniv.cleannews.search.SearchResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 같은 요청을 verify(동기)와 verifyAsync(단계별 CompletableFuture), 배치(선검색에서 만든 분석/쿼리 재사용)로 돌려 응답이 같은지.
+ * 판정 캐시/유사 게시물 재사용을 끄고 매번 파이프라인을 끝까지 실행한다.
+ * 검색은 스텁 어댑터(쿼리별로 결정적인 결과), LLM 보정은 고정 점수 스텁.
+ */
+@SpringBootTest(properties = {
+        "cleannews.mode=hybrid",
+        "cleannews.cache.verdict.enabled=false",
+        "cleannews.cache.nearDuplicate.enabled=false"
+})
+class VerificationOrchestratorTest {
+
+    private static final String PRIMARY_MARKER = "zeta";
+    private static final String FALLBACK_TITLE = "한정판 굿즈 배포";
+
+    @TestConfiguration
+    static class Stubs {
+
+        @Bean
+        SearchAdapter stubNews() {
+            return new StubAdapter("stub_news");
+        }
+
+        @Bean
+        SearchAdapter stubBlog() {
+            return new StubAdapter("stub_blog");
+        }
+
+        @Bean
+        @Primary
+        LlmJudge stubJudge() {
+            return (claim, evidence) -> 0.4;
+        }
+    }
+
+    /** 1차 쿼리에 marker 가 있거나 폴백의 제목 인용 쿼리일 때만 결과 (폴백 경합의 승자가 하나로 정해지도록) */
+    record StubAdapter(String name) implements SearchAdapter {
+        @Override
+        public List<SearchResult> search(String query, int limit) {
+            if (!query.contains(PRIMARY_MARKER) && !query.equals("\"" + FALLBACK_TITLE + "\"")) return List.of();
+            OffsetDateTime base = OffsetDateTime.parse("2025-01-01T00:00:00+09:00");
+            return IntStream.range(0, 3)
+                    .mapToObj(i -> new SearchResult(name,
+                            name + " " + i + " " + query,
+                            "https://" + name + ".example.com/" + i + "/" + Math.abs(query.hashCode()),
+                            "공식 발표 " + query + " 관련 기사 " + i,
+                            base.minusDays(i)))
+                    .toList();
+        }
+    }
+
+    @Autowired
+    VerificationOrchestrator orchestrator;
+
+    @Autowired
+    BatchVerificationService batchService;
+
+    private static FeedVerificationRequest request(String title, String text) {
+        return new FeedVerificationRequest("instagram", "https://www.instagram.com/p/abc", "ko", title, text, null, null);
+    }
+
+    private void assertSameResponse(FeedVerificationRequest req) {
+        VerificationResponse async = orchestrator.verifyAsync(req).join();
+        VerificationResponse sync = orchestrator.verify(req);
+        assertFalse(sync.evidences().isEmpty(), "stub search should produce evidences");
+        assertNull(sync.degraded());
+        assertEquals(sync, async);
+    }
+
+    @Test
+    void primarySearchPathMatches() {
+        assertSameResponse(request("[공지] 공식 이벤트",
+                "@brand.kr " + PRIMARY_MARKER + " 공식 이벤트 당첨자 발표 안내 #체험단 ‘한정 키링’ 증정"));
+    }
+
+    @Test
+    void fallbackSearchPathMatches() {
+        assertSameResponse(request(FALLBACK_TITLE, "브랜드 한정판 굿즈 배포 일정 안내입니다"));
+    }
+
+    @Test
+    void batchWithPreparedQueriesMatches() {
+        FeedVerificationRequest primary = request("[공지] 공식 이벤트", "@brand.kr " + PRIMARY_MARKER + " 공식 이벤트 당첨자 발표 안내");
+        FeedVerificationRequest fallback = request(FALLBACK_TITLE, "브랜드 한정판 굿즈 배포 일정 안내입니다");
+        List<VerificationResponse> batch = batchService.verifyAll(List.of(primary, fallback, primary)).join();
+        assertEquals(List.of(orchestrator.verify(primary), orchestrator.verify(fallback), orchestrator.verify(primary)), batch);
+    }
+}
@@ -0,0 +1,131 @@
+package com.goormthonuniv.cleannews.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** 사전 순서대로 text.contains 를 돌리던 루프와 같은 결과를 내는지 + 겹침/실패 링크/출력 링크 경계 */
+class AhoCorasickTest {
+
+    // 예전 방식 그대로 (비교 기준): 패턴마다 contains, 같은 패턴은 앞의 id 만
+    static int[] naiveMatchIds(List<String> patterns, String text, boolean ignoreCase) {
+        String t = ignoreCase ? foldEach(text) : text;
+        List<String> seen = new ArrayList<>();
+        List<Integer> ids = new ArrayList<>();
+        for (int id = 0; id < patterns.size(); id++) {
+            String p = patterns.get(id);
+            if (p == null || p.isEmpty()) continue;
+            String folded = ignoreCase ? foldEach(p) : p;
+            if (seen.contains(folded)) continue;
+            seen.add(folded);
+            if (t.contains(folded)) ids.add(id);
+        }
+        return ids.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /** char 단위 Character.toLowerCase (String.toLowerCase 는 길이가 바뀔 수 있어 쓰지 않음) */
+    private static String foldEach(String s) {
+        char[] cs = s.toCharArray();
+        for (int i = 0; i < cs.length; i++) cs[i] = Character.toLowerCase(cs[i]);
+        return new String(cs);
+    }
+
+    private static String random(Random r, String alphabet, int maxLen) {
+        int len = r.nextInt(maxLen + 1);
+        StringBuilder sb = new StringBuilder(len);
+        for (int i = 0; i < len; i++) sb.append(alphabet.charAt(r.nextInt(alphabet.length())));
+        return sb.toString();
+    }
+
+    private static void assertSameAsNaive(List<String> patterns, String text, boolean ignoreCase) {
+        AhoCorasick ac = AhoCorasick.compile(patterns, ignoreCase);
+        int[] expected = naiveMatchIds(patterns, text, ignoreCase);
+        String ctx = patterns + " / \"" + text + "\"";
+        assertArrayEquals(expected, ac.matchIds(text), ctx);
+        assertEquals(expected.length > 0, ac.containsAny(text), ctx);
+        assertEquals(expected.length > 0 ? expected[0] : -1, ac.firstMatch(text), ctx);
+        List<String> names = new ArrayList<>();
+        for (int id : expected) names.add(patterns.get(id));
+        assertEquals(names, ac.matches(text), ctx);
+    }
+
+    @Test
+    void randomizedEquivalenceWithContainsLoop() {
+        Random r = new Random(20250113);
+        // 작은 알파벳 → 겹침/접두사/접미사 관계가 자주 생김
+        for (int round = 0; round < 3000; round++) {
+            String alphabet = round % 3 == 0 ? "ab" : round % 3 == 1 ? "abc" : "공식이벤트";
+            List<String> patterns = new ArrayList<>();
+            int n = 1 + r.nextInt(12);
+            for (int i = 0; i < n; i++) patterns.add(random(r, alphabet, 5));
+            for (int t = 0; t < 5; t++) {
+                assertSameAsNaive(patterns, random(r, alphabet, 30), false);
+            }
+        }
+    }
+
+    @Test
+    void randomizedEquivalenceIgnoringCase() {
+        Random r = new Random(7);
+        for (int round = 0; round < 2000; round++) {
+            List<String> patterns = new ArrayList<>();
+            int n = 1 + r.nextInt(10);
+            for (int i = 0; i < n; i++) patterns.add(random(r, "aAbBİı", 4));
+            for (int t = 0; t < 5; t++) {
+                assertSameAsNaive(patterns, random(r, "aAbBİıc", 25), true);
+            }
+        }
+    }
+
+    @Test
+    void overlappingPatternsAreAllReported() {
+        List<String> patterns = List.of("he", "she", "his", "hers");
+        AhoCorasick ac = AhoCorasick.compile(patterns);
+        assertEquals(List.of("he", "she", "hers"), ac.matches("ushers"));
+        assertEquals(0, ac.firstMatch("ushers"));
+        assertEquals(List.of("his"), ac.matches("this"));
+
+        // 한 패턴이 다른 패턴의 접두사/접미사, 같은 위치에서 여러 개가 끝남
+        assertArrayEquals(new int[] {0, 1, 2, 3}, AhoCorasick.compile(List.of("aaa", "aa", "a", "aaaa")).matchIds("aaaa"));
+        assertArrayEquals(new int[] {0}, AhoCorasick.compile(List.of("ab", "abc")).matchIds("xab"));
+    }
+
+    @Test
+    void outputLinksReportSuffixPatternsOfNonTerminalStates() {
+        // "abc" 상태는 패턴 끝이 아니지만 접미사 "bc", "c" 가 패턴 → 출력 링크 체인으로 보고
+        AhoCorasick ac = AhoCorasick.compile(List.of("abcd", "bc", "c"));
+        assertArrayEquals(new int[] {1, 2}, ac.matchIds("abce"));
+        assertTrue(ac.containsAny("abc"));
+        assertEquals(1, ac.firstMatch("abce"));
+
+        // 출력 상태 사이에 출력 없는 상태가 끼어 있는 체인: xabc → abc(출력) → bc(없음) → c(출력)
+        AhoCorasick chain = AhoCorasick.compile(List.of("xabcz", "abc", "bcq", "c"));
+        assertArrayEquals(new int[] {1, 3}, chain.matchIds("xabc"));
+    }
+
+    @Test
+    void failureLinksFollowLongestProperSuffix() {
+        // "abc" 에서 'e' 가 없으면 "bc" 로 넘어가 "bce" 를 이어서 매칭
+        AhoCorasick ac = AhoCorasick.compile(List.of("abcd", "bce"));
+        assertArrayEquals(new int[] {1}, ac.matchIds("abce"));
+        // 글자마다 실패 링크로 한 단계씩 짧아지며 다음 패턴으로: aaab → aab+c → abc+d → bcd+e
+        AhoCorasick deep = AhoCorasick.compile(List.of("aaab", "aabc", "abcd", "bcde"));
+        assertArrayEquals(new int[] {0, 1, 2, 3}, deep.matchIds("aaabcde"));
+        assertArrayEquals(new int[] {1, 2}, deep.matchIds("aabcd"));
+    }
+
+    @Test
+    void duplicatesAndEmptyPatternsKeepFirstIdOnly() {
+        AhoCorasick ac = AhoCorasick.compile(List.of("", "이벤트", "이벤트", "공식"));
+        assertEquals(4, ac.size());
+        assertArrayEquals(new int[] {1, 3}, ac.matchIds("공식 이벤트 안내"));
+        assertEquals(1, ac.firstMatch("공식 이벤트 안내"));
+        assertFalse(ac.containsAny(""));
+        assertEquals(-1, ac.firstMatch("무관한 글"));
+        assertArrayEquals(new int[0], AhoCorasick.compile(List.of()).matchIds("아무 텍스트"));
+    }
+}
@@ -0,0 +1,63 @@
+package com.goormthonuniv.cleannews.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SparseVectorTest {
+
+    private static SparseVector vector(int[] ids, int[] weights) {
+        return SparseVector.of(ids, weights, ids.length);
+    }
+
+    @Test
+    void sortsByIdAndKeepsWeights() {
+        SparseVector v = vector(new int[]{7, 2, 5}, new int[]{1, 3, 2});
+        assertEquals(3, v.size());
+        assertEquals(2, v.id(0));
+        assertEquals(3, v.weight(0));
+        assertEquals(7, v.id(2));
+        assertEquals(2, v.weightOf(5));
+        assertEquals(0, v.weightOf(4));
+        assertEquals(Math.sqrt(14), v.norm(), 1e-12);
+    }
+
+    @Test
+    void disjointVectorsAreOrthogonal() {
+        SparseVector a = vector(new int[]{0, 2, 4}, new int[]{1, 2, 3});
+        SparseVector b = vector(new int[]{1, 3, 5}, new int[]{3, 2, 1});
+        assertEquals(0L, a.dot(b));
+        assertEquals(0.0, a.cosine(b));
+    }
+
+    @Test
+    void identicalVectorsHaveCosineOne() {
+        SparseVector a = vector(new int[]{3, 1, 9}, new int[]{2, 5, 1});
+        SparseVector b = vector(new int[]{9, 3, 1}, new int[]{1, 2, 5});
+        assertEquals(30L, a.dot(b));
+        assertEquals(1.0, a.cosine(b), 1e-12);
+        assertEquals(1.0, a.cosine(a), 1e-12);
+    }
+
+    @Test
+    void partialOverlap() {
+        SparseVector a = vector(new int[]{1, 2}, new int[]{1, 1});
+        SparseVector b = vector(new int[]{2, 3}, new int[]{1, 1});
+        assertEquals(1L, a.dot(b));
+        assertEquals(0.5, a.cosine(b), 1e-12);
+    }
+
+    @Test
+    void emptyVectorHasZeroCosine() {
+        SparseVector empty = SparseVector.of(new int[0], new int[0], 0);
+        SparseVector a = vector(new int[]{1}, new int[]{4});
+        assertSame(SparseVector.EMPTY, empty);
+        assertEquals(0, empty.size());
+        assertEquals(0.0, empty.norm());
+        assertEquals(0L, empty.dot(a));
+        assertEquals(0.0, empty.cosine(a));
+        assertEquals(0.0, a.cosine(empty));
+        assertEquals(0.0, empty.cosine(empty));
+    }
+}
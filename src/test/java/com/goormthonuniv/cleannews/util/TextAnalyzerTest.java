@@ -0,0 +1,108 @@
+package com.goormthonuniv.cleannews.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/** 정규식 없는 엔티티/토큰 스캔이 예전 KeywordService 정규식, SimilarityService 공백 분리와 같은지 */
+class TextAnalyzerTest {
+
+    // 예전 KeywordService 정규식 (비교 기준)
+    private static final Pattern HANDLE = Pattern.compile("@[A-Za-z0-9_\\.]+");
+    private static final Pattern HASHTAG = Pattern.compile("#[A-Za-z0-9_가-힣]+");
+    private static final Pattern QUOTED = Pattern.compile("‘([^’]+)’|\"([^\"]+)\"|\\(([^)]+)\\)");
+
+    private static List<String> legacyPrefixed(Pattern p, String raw) {
+        List<String> out = new ArrayList<>();
+        Matcher m = p.matcher(raw);
+        while (m.find()) out.add(m.group().substring(1));
+        return out;
+    }
+
+    private static List<String> legacyQuoted(String raw) {
+        List<String> out = new ArrayList<>();
+        Matcher m = QUOTED.matcher(raw);
+        while (m.find()) {
+            for (int i = 1; i <= m.groupCount(); i++) {
+                String g = m.group(i);
+                if (g != null && !g.strip().isEmpty()) out.add(g.strip());
+            }
+        }
+        return out;
+    }
+
+    private static List<String> legacyTerms(String text) {
+        List<String> out = new ArrayList<>();
+        for (String t : text.split("\\s+")) if (t.length() >= 2) out.add(t);
+        return out;
+    }
+
+    private static void assertSameEntities(String raw) {
+        AnalyzedDocument doc = TextAnalyzer.analyze(null, raw, null);
+        String text = " " + raw; // analyze 는 제목 + " " + 본문을 훑음
+        assertEquals(legacyPrefixed(HANDLE, text), doc.handles(), raw);
+        assertEquals(legacyPrefixed(HASHTAG, text), doc.hashtags(), raw);
+        assertEquals(legacyQuoted(text), doc.quoted(), raw);
+    }
+
+    private static List<String> terms(AnalyzedDocument doc) {
+        List<String> out = new ArrayList<>();
+        for (int i = 0; i < doc.tokenCount(); i++) out.add(doc.dictionary().term(doc.token(i)));
+        return out;
+    }
+
+    @Test
+    void extractsHandlesHashtagsAndQuotedSpans() {
+        AnalyzedDocument doc = TextAnalyzer.analyze("[공지]", "@brand.kr 공식 #체험단 모집 ‘한정판 키링’ \"무료 배송\" (선착순 100명)", null);
+        assertEquals(List.of("brand.kr"), doc.handles());
+        assertEquals(List.of("체험단"), doc.hashtags());
+        assertEquals(List.of("한정판 키링", "무료 배송", "선착순 100명"), doc.quoted());
+    }
+
+    @Test
+    void matchesLegacyRegexesOnEdgeCases() {
+        for (String s : List.of(
+                "",
+                "@ # 빈 핸들/태그",
+                "@@double ##double",
+                "@user#tag#태그@other",
+                "https://instagram.com/@brand?tag=#x 링크 안의 @/#",
+                "🎉@이모지뒤 #이모지뒤🎉 (🎁 선물)",
+                "\"닫히지 않은 따옴표 @user #tag",
+                "‘닫히지 않은 곡따옴표 (괄호는 닫힘)",
+                "(닫히지 않은 괄호 \"따옴표는 닫힘\"",
+                "\"\" 빈 따옴표 \"내용\"",
+                "( ) 공백뿐인 괄호 (내용)",
+                "\"a (b\" c) ‘d \"e’ f\"",                 // 겹치는 구간은 왼쪽부터
+                "(중첩 (괄호) 안)",
+                "@a.b.c_d @x-y #가_나_다 #ab-cd")) {
+            assertSameEntities(s);
+        }
+    }
+
+    @Test
+    void matchesLegacyRegexesOnRandomText() {
+        String[] pieces = {"a", "Z", "9", "_", ".", "가", "힣", " ", "\t", "@", "#", "\"", "‘", "’", "(", ")",
+                "🎉", "-", "https://x.y/"};
+        Random random = new Random(7);
+        for (int n = 0; n < 20_000; n++) {
+            StringBuilder sb = new StringBuilder();
+            int len = random.nextInt(20);
+            for (int i = 0; i < len; i++) sb.append(pieces[random.nextInt(pieces.length)]);
+            assertSameEntities(sb.toString());
+        }
+    }
+
+    @Test
+    void termsMatchLegacyWhitespaceSplit() {
+        for (String s : List.of("", " ", "a b cd", "  앞 공백과   여러 칸\t탭\n줄바꿈 ", "기호,포함! 토큰. ok?", "\u00A0nbsp는\u00A0안나눔")) {
+            assertEquals(legacyTerms(s), terms(TextAnalyzer.terms(s, new TokenDictionary())), s);
+        }
+    }
+}
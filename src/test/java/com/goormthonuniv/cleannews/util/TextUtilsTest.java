@@ -0,0 +1,72 @@
+package com.goormthonuniv.cleannews.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/** 단일 순회 normalize 가 예전 정규식 4단계 구현과 같은 결과를 내는지 */
+class TextUtilsTest {
+
+    // 예전 구현 그대로 (비교 기준)
+    private static final Pattern URL = Pattern.compile("(https?://\\S+)");
+    private static final Pattern EMOJI = Pattern.compile("[\\p{So}\\p{Cn}]+");
+
+    static String legacyNormalize(String text) {
+        if (text == null) return "";
+        String t = text.strip();
+        t = URL.matcher(t).replaceAll(" ");
+        t = EMOJI.matcher(t).replaceAll(" ");
+        t = t.replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        if (t.length() > 1200) t = t.substring(0, 1200);
+        return t;
+    }
+
+    @Test
+    void matchesLegacyOnExamples() {
+        for (String s : List.of(
+                "",
+                "   ",
+                "Hello   World",
+                "공식 이벤트 안내 https://instagram.com/p/abc?x=1 참고",
+                "링크:https://a.b/c,다음",              // URL 이 공백 전까지 삼킴
+                "http:// 빈 URL",                       // :// 뒤가 비면 URL 아님
+                "HTTPS://UPPER.case/x 대문자 스킴",        // 대소문자 구분 (정규식도 구분)
+                "xhttps://a.b 앞에 글자",
+                "🎉🎉 당첨 🎁 축하 ✅",
+                "감정😀섞인\t\n텍스트\r\n",
+                "\u000B수직탭\f폼피드",
+                "\u00A0NBSP\u2003EM SPACE",              // \s 에 포함되지 않는 공백
+                "İSTANBUL ΣΊΣΥΦΟΣ",                      // 길이가 바뀌는 소문자화
+                "\uD83D 짝 없는 서로게이트",
+                "미할당\u0378문자")) {
+            assertEquals(legacyNormalize(s), TextUtils.normalize(s), s);
+        }
+        assertEquals("", TextUtils.normalize(null));
+    }
+
+    @Test
+    void matchesLegacyOnTruncation() {
+        String longText = "가나다 https://x.y/z 🎉 ".repeat(200);
+        assertEquals(legacyNormalize(longText), TextUtils.normalize(longText));
+    }
+
+    @Test
+    void matchesLegacyOnRandomText() {
+        String[] pieces = {"a", "Z", "가", "힣", " ", "  ", "\t", "\n", "\u000B", "\u00A0", "🎉", "✅", "©",
+                "\u0378", "\uD83D", "http", "https://", "://", "http://a.b", "@", "#", "\"", "‘", "’", "(", ")",
+                ".", ",", "İ", "1"};
+        Random random = new Random(42);
+        for (int n = 0; n < 20_000; n++) {
+            StringBuilder sb = new StringBuilder();
+            int len = random.nextInt(24);
+            for (int i = 0; i < len; i++) sb.append(pieces[random.nextInt(pieces.length)]);
+            String s = sb.toString();
+            assertEquals(legacyNormalize(s), TextUtils.normalize(s), s);
+        }
+    }
+}